@@ -5,6 +5,8 @@
  * For more details on building Java & JVM projects, please refer to https://docs.gradle.org/8.3/userguide/building_java_projects.html in the Gradle documentation.
  */
 
+import java.util.zip.GZIPOutputStream
+
 plugins {
     // Apply the application plugin to add support for building a CLI application in Java.
     application
@@ -24,6 +26,9 @@ dependencies {
 
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
+    // Measures object footprints in PuzzleFootprintTest
+    testImplementation("org.openjdk.jol:jol-core:0.17")
+
     // This dependency is used by the application.
     implementation("com.google.guava:guava:32.1.1-jre")
 
@@ -46,12 +51,192 @@ application {
 }
 
 tasks.named<Test>("test") {
-    // Use JUnit Platform for unit tests.
-    useJUnitPlatform()
+    // Use JUnit Platform for unit tests, leaving the performance budgets
+    // to their own task.
+    useJUnitPlatform {
+        excludeTags("performance")
+    }
+}
+
+// Checks the hot paths against their latency and allocation budgets, e.g.
+// ./gradlew performanceTest -Dspellingbee.budgetScale=2 on a slow machine
+tasks.register<Test>("performanceTest") {
+    description = "Runs the performance budget tests."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("performance")
+    }
+    System.getProperty("spellingbee.budgetScale")?.let {
+        systemProperty("spellingbee.budgetScale", it)
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    shouldRunAfter(tasks.test)
+    // Timings change from run to run, so the budgets are always checked
+    outputs.upToDateWhen { false }
 }
 
 tasks.named<JavaExec>("run") {
     standardInput = System.`in`
+    // Serve daily puzzles from a calendar file, e.g. -Dspellingbee.calendar=daily.cal
+    System.getProperty("spellingbee.calendar")?.let {
+        systemProperty("spellingbee.calendar", file(it).absolutePath)
+    }
+    // Read the dictionaries from a directory, e.g. -Dspellingbee.dictionaryDir=words
+    System.getProperty("spellingbee.dictionaryDir")?.let {
+        systemProperty("spellingbee.dictionaryDir", file(it).absolutePath)
+    }
+    // Reload edited dictionaries without restarting, e.g. -Dspellingbee.watchDictionaries=true.
+    // Unless another directory is given, the sources are watched rather than
+    // the copies in build/resources.
+    System.getProperty("spellingbee.watchDictionaries")?.let {
+        systemProperty("spellingbee.watchDictionaries", it)
+        if (System.getProperty("spellingbee.dictionaryDir") == null) {
+            systemProperty(
+                "spellingbee.dictionaryDir",
+                file("src/main/resources/dictionaries").absolutePath
+            )
+        }
+    }
+}
+
+// Renders share images for saved or random puzzles, e.g.
+// ./gradlew exportImages --args="--out images --random 100"
+tasks.register<JavaExec>("exportImages") {
+    group = "application"
+    description = "Renders PNG share images for many puzzles in parallel."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("xterminators.spellingbee.tools.ImageExport")
+    systemProperty("java.awt.headless", "true")
+}
+
+// The jar ships the dictionaries gzip-compressed, and they are decompressed
+// as they are read. The uncompressed dictionaries stay on the classpath when
+// running from the build directory, such as in tests.
+val compressedDictionaries = layout.buildDirectory.dir("generated/dictionaries")
+
+tasks.register("compressDictionaries") {
+    description = "Gzips the dictionaries for the jar."
+    val dictionaries = fileTree("src/main/resources/dictionaries") { include("*.txt") }
+    inputs.files(dictionaries)
+    outputs.dir(compressedDictionaries)
+    doLast {
+        val outputDir = compressedDictionaries.get().asFile.resolve("dictionaries")
+        outputDir.mkdirs()
+        dictionaries.forEach { dictionary ->
+            outputDir.resolve(dictionary.name + ".gz").outputStream().use { out ->
+                GZIPOutputStream(out).use { gzip ->
+                    dictionary.inputStream().use { it.copyTo(gzip) }
+                }
+            }
+        }
+    }
+}
+
+tasks.jar {
+    dependsOn("compressDictionaries")
+    from(compressedDictionaries)
+    exclude("dictionaries/*.txt", "dictionaries/*.py")
+}
+
+// The app packaged as a jar, since class data sharing only archives classes
+// loaded from jars.
+val appJarClasspath = files(tasks.jar) + configurations.runtimeClasspath.get()
+val cdsArchive = layout.buildDirectory.file("cds/app.jsa")
+
+// Creates an AppCDS archive of the classes loaded while the CLI makes and
+// plays a puzzle in batch mode. Use it with the runWithCds task, or pass
+// -XX:SharedArchiveFile=build/cds/app.jsa to java.
+tasks.register<JavaExec>("cdsArchive") {
+    group = "application"
+    description = "Creates an AppCDS archive to speed up startup."
+    dependsOn(tasks.jar)
+    classpath = appJarClasspath
+    mainClass.set("xterminators.spellingbee.App")
+    args("--batch", "-")
+    standardInput = "new\nhint\nrank\n".byteInputStream()
+    jvmArgs("-XX:ArchiveClassesAtExit=" + cdsArchive.get().asFile.path)
+    outputs.file(cdsArchive)
+    doFirst {
+        cdsArchive.get().asFile.parentFile.mkdirs()
+    }
+}
+
+tasks.register<JavaExec>("runWithCds") {
+    group = "application"
+    description = "Runs the app using the AppCDS archive."
+    dependsOn("cdsArchive")
+    classpath = appJarClasspath
+    mainClass.set("xterminators.spellingbee.App")
+    jvmArgs("-XX:SharedArchiveFile=" + cdsArchive.get().asFile.path)
+    standardInput = System.`in`
+}
+
+// Times how long the CLI and GUI take to show their first puzzle, e.g.
+// ./gradlew startupBenchmark --args="--runs 10"
+// ./gradlew cdsArchive startupBenchmark --args="--jvm-arg -XX:SharedArchiveFile=build/cds/app.jsa"
+tasks.register<JavaExec>("startupBenchmark") {
+    group = "application"
+    description = "Measures the time from launch to the first puzzle."
+    dependsOn(tasks.jar)
+    classpath = appJarClasspath
+    mainClass.set("xterminators.spellingbee.tools.StartupBenchmark")
+}
+
+// Precomputes a year of daily puzzles, e.g.
+// ./gradlew dailyCalendar --args="--out daily.cal --start 2025-01-01"
+tasks.register<JavaExec>("dailyCalendar") {
+    group = "application"
+    description = "Precomputes the daily puzzles into a calendar file."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("xterminators.spellingbee.tools.CalendarGenerator")
+}
+
+// Compares the dictionary's word graph with a HashSet: memory and lookup time
+tasks.register<JavaExec>("dawgReport") {
+    group = "application"
+    description = "Reports the memory and lookup latency of the word graph."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("xterminators.spellingbee.tools.DawgReport")
+}
+
+// Times reading the dictionary from each kind of source, e.g.
+// ./gradlew dictionaryLoadBenchmark --args="--runs 20"
+tasks.register<JavaExec>("dictionaryLoadBenchmark") {
+    group = "application"
+    description = "Measures dictionary load time from file, classpath and gzip sources."
+    dependsOn("compressDictionaries")
+    classpath = sourceSets["main"].runtimeClasspath + files(compressedDictionaries)
+    mainClass.set("xterminators.spellingbee.tools.DictionaryLoadBenchmark")
+}
+
+// Analyzes every puzzle of the roots dictionary on 1 to N threads, e.g.
+// ./gradlew analyzePuzzles --args="--scaling --out puzzles.csv"
+tasks.register<JavaExec>("analyzePuzzles") {
+    group = "application"
+    description = "Analyzes every possible puzzle and measures parallel scaling."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("xterminators.spellingbee.tools.PuzzleAnalysis")
+}
+
+// ./gradlew parallelThresholdBenchmark --args="--runs 50"
+tasks.register<JavaExec>("parallelThresholdBenchmark") {
+    group = "application"
+    description = "Measures where parallel streams and sorts start to pay off."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("xterminators.spellingbee.tools.ParallelThresholdBenchmark")
+}
+
+// Measures team puzzle guesses per second on 1 to N threads, e.g.
+// ./gradlew teamPuzzleBenchmark --args="--threads 8 --guesses 8000000"
+tasks.register<JavaExec>("teamPuzzleBenchmark") {
+    group = "application"
+    description = "Measures how team puzzle guessing scales with the number of players."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("xterminators.spellingbee.tools.TeamPuzzleBenchmark")
 }
 
 tasks.test {
@@ -4,44 +4,121 @@
 package xterminators.spellingbee;
 
 import java.io.File;
-import java.nio.file.Paths;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
 import java.util.Arrays;
+import java.util.List;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
 
 import xterminators.spellingbee.cli.CLIController;
 import xterminators.spellingbee.cli.CLIFactory;
 import xterminators.spellingbee.cli.CLIView;
 import xterminators.spellingbee.gui.GuiFactory;
 import xterminators.spellingbee.gui.GuiView;
+import xterminators.spellingbee.model.DictionaryIndex;
+import xterminators.spellingbee.model.DictionarySource;
+import xterminators.spellingbee.model.DictionaryWatcher;
+import xterminators.spellingbee.model.SpellingBeeMetrics;
 import xterminators.spellingbee.ui.Controller;
 import xterminators.spellingbee.ui.UIFactory;
 
 public class App {
+    /** Where --profile writes the recording if no file is given. */
+    static final String DEFAULT_PROFILE = "spellingbee.jfr";
+
     public static void main(String[] args) {
-        File dictionaryFile = Paths.get(
-            "src",
-            "main",
-            "resources",
-            "dictionaries",
-            "dictionary_optimized.txt")
-            .toFile();
-
-        File rootsDictionaryFile = Paths.get(
-            "src",
-            "main",
-            "resources",
-            "dictionaries",
-            "dictionary_roots.txt")
-            .toFile();
-        
+        List<String> argList = Arrays.asList(args);
+
+        // Record the game's events, and the usual profiling events, for JDK
+        // Mission Control. The recording is written when the app exits.
+        int profileIndex = argList.indexOf("--profile");
+        if (profileIndex != -1) {
+            String destination = DEFAULT_PROFILE;
+            if (profileIndex + 1 < argList.size()
+                && !argList.get(profileIndex + 1).startsWith("--"))
+            {
+                destination = argList.get(profileIndex + 1);
+            }
+
+            try {
+                startProfiling(Path.of(destination));
+            } catch (IOException | ParseException e) {
+                System.err.println("Could not start profiling: " + e.getMessage());
+            }
+        }
+
+        // Let jconsole and other JMX clients read the game's metrics
+        SpellingBeeMetrics.register();
+
+        DictionarySource dictionary = Resources.dictionary(Resources.DICTIONARY);
+        DictionarySource rootsDictionary
+            = Resources.dictionary(Resources.ROOTS_DICTIONARY);
+
+        // Read the dictionaries in the background while the UI starts, so
+        // they are ready by the time the first puzzle is made.
+        DictionaryIndex.preload(dictionary);
+        DictionaryIndex.preload(rootsDictionary);
+
+        // Reload the dictionaries when their files change, if asked to
+        if (Boolean.getBoolean(DictionaryWatcher.WATCH_PROPERTY)) {
+            try {
+                DictionaryWatcher.start(dictionary, rootsDictionary);
+            } catch (IOException e) {
+                System.err.println(
+                    "Could not watch the dictionaries for changes: " + e.getMessage()
+                    + ". To watch dictionary files, name their directory with -D"
+                    + Resources.DICTIONARY_DIR_PROPERTY + "."
+                );
+            }
+        }
+
         UIFactory factory = null;
+
+        int batchIndex = argList.indexOf("--batch");
         
-        if (Arrays.asList(args).stream().anyMatch(s -> s.equalsIgnoreCase("--cli"))) {
-            factory = new CLIFactory(dictionaryFile, rootsDictionaryFile);
+        if (batchIndex != -1) {
+            if (batchIndex + 1 >= argList.size()) {
+                System.err.println(
+                    "--batch requires a script file, or \"-\" to read the " +
+                    "script from standard in."
+                );
+                return;
+            }
+
+            File batchScript = new File(argList.get(batchIndex + 1));
+            factory = new CLIFactory(dictionary, rootsDictionary, batchScript);
+        } else if (argList.stream().anyMatch(s -> s.equalsIgnoreCase("--cli"))) {
+            factory = new CLIFactory(dictionary, rootsDictionary, null);
         } else {
-            factory = new GuiFactory(dictionaryFile, rootsDictionaryFile);
+            factory = new GuiFactory(dictionary, rootsDictionary);
         }
 
         Controller controller = factory.createController();
         controller.run();
     }
+
+    /**
+     * Starts a Flight Recorder recording with the JDK's profile settings,
+     * which also records all of the game's events. The recording is written
+     * to the destination when the JVM exits, or when it is stopped.
+     *
+     * @param destination the file to write the recording to
+     * @return the running recording
+     * @throws IOException if the destination can not be written
+     * @throws ParseException if the JDK's profile settings can not be read
+     */
+    static Recording startProfiling(Path destination)
+        throws IOException, ParseException
+    {
+        Recording recording = new Recording(Configuration.getConfiguration("profile"));
+        recording.setName("spellingbee");
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        recording.start();
+        return recording;
+    }
 }
@@ -0,0 +1,70 @@
+package xterminators.spellingbee;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Paths;
+
+import xterminators.spellingbee.model.DictionarySource;
+
+/**
+ * Finds the files bundled with the app on the classpath, so the app works
+ * no matter which directory it is started from.
+ */
+public final class Resources {
+    /** The full dictionary of usable words. */
+    public static final String DICTIONARY = "dictionaries/dictionary_optimized.txt";
+    /** The dictionary of valid root words. */
+    public static final String ROOTS_DICTIONARY = "dictionaries/dictionary_roots.txt";
+    /**
+     * The system property naming a directory of dictionary files to read
+     * instead of the bundled dictionaries, such as files to be edited while
+     * the app watches them.
+     */
+    public static final String DICTIONARY_DIR_PROPERTY = "spellingbee.dictionaryDir";
+
+    private Resources() {}
+
+    /**
+     * Gets the source of a bundled dictionary. If a dictionary directory is
+     * set with {@link #DICTIONARY_DIR_PROPERTY}, the file of the same name
+     * in it is read instead. Otherwise a dictionary in a directory on the
+     * classpath is read as a plain file. The jar ships each dictionary
+     * gzip-compressed, as the resource's path plus ".gz", which is
+     * decompressed as it is read. If neither is on the classpath, the file
+     * in src/main/resources relative to the working directory is used.
+     *
+     * @param resource the path of the dictionary resource, without a leading
+     *                 slash
+     * @return the source of the dictionary
+     */
+    public static DictionarySource dictionary(String resource) {
+        String directory = System.getProperty(DICTIONARY_DIR_PROPERTY);
+        if (directory != null) {
+            return DictionarySource.file(
+                new File(directory, Paths.get(resource).getFileName().toString())
+            );
+        }
+
+        URL url = Resources.class.getResource("/" + resource);
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                return DictionarySource.file(Paths.get(url.toURI()).toFile());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // Read it from the classpath instead
+            }
+        }
+
+        if (Resources.class.getResource("/" + resource + ".gz") != null) {
+            return DictionarySource.gzip(
+                DictionarySource.classpath(resource + ".gz")
+            );
+        }
+        if (url != null) {
+            return DictionarySource.classpath(resource);
+        }
+        return DictionarySource.file(
+            Paths.get("src", "main", "resources", resource).toFile()
+        );
+    }
+}
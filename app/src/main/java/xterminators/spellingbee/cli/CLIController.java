@@ -1,29 +1,34 @@
 package xterminators.spellingbee.cli;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.time.LocalDate;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.TreeMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import com.google.gson.JsonSyntaxException;
 
-import xterminators.spellingbee.model.HelpData;
+import xterminators.spellingbee.model.DailyPuzzle;
+import xterminators.spellingbee.model.DictionarySource;
+import xterminators.spellingbee.model.GuessBatch;
 import xterminators.spellingbee.model.Puzzle;
 import xterminators.spellingbee.model.PuzzleBuilder;
 import xterminators.spellingbee.model.Rank;
 import xterminators.spellingbee.model.SaveMode;
+import xterminators.spellingbee.model.SpellingBeeMetrics;
 import xterminators.spellingbee.model.HighScores;
 import xterminators.spellingbee.ui.Controller;
+import xterminators.spellingbee.ui.HintRenderer;
 
 /**
  * The controller of the CLI mode of the Spelling Bee game. This class takes
@@ -32,16 +37,27 @@ import xterminators.spellingbee.ui.Controller;
  * user.
  */
 public class CLIController extends Controller {
+    /** The batch script path which means the script is read from stdin. */
+    public static final String BATCH_STDIN = "-";
+
     /** The full dictionary of valid guess words to be used. */
-    private File dictionaryFile;
+    private DictionarySource dictionary;
     /** The full dictionary of valid root words to be used. */
-    private File rootsDictionaryFile;
+    private DictionarySource rootsDictionary;
     /** The view which displays output and data to the user. */
     private CLIView view;
 
-    private HelpData helpData;
+    /** Renders and caches the hints for the puzzle. */
+    private HintRenderer hintRenderer;
 
+    /** The saved high scores, read the first time they are needed. */
     private HighScores highScores;
+
+    /** The puzzles of the day, created the first time they are needed. */
+    private DailyPuzzle dailyPuzzle;
+
+    /** The script of commands to run in batch mode, or null if interactive. */
+    private File batchScript;
     
     /**
      * Constructs a new CLIController which connects to the given CLIView, and
@@ -52,19 +68,63 @@ public class CLIController extends Controller {
      * @param rootsDictionaryFile The full dictionary of valid root words
      */
     public CLIController(CLIView view, File dictionaryFile, File rootsDictionaryFile) {
+        this(view, dictionaryFile, rootsDictionaryFile, null);
+    }
+
+    /**
+     * Constructs a new CLIController which runs the commands in the given
+     * batch script instead of reading them from the user.
+     * 
+     * @param view The view for the controller to output to
+     * @param dictionaryFile The full dictionary of valid words to guess
+     * @param rootsDictionaryFile The full dictionary of valid root words
+     * @param batchScript The file of commands to run, "-" to read them all
+     *                    from standard in, or null to run interactively
+     */
+    public CLIController(CLIView view, File dictionaryFile,
+                         File rootsDictionaryFile, File batchScript)
+    {
+        this(
+            view,
+            DictionarySource.file(dictionaryFile),
+            DictionarySource.file(rootsDictionaryFile),
+            batchScript
+        );
+    }
+
+    /**
+     * Constructs a new CLIController which reads the dictionaries from the
+     * given sources, and runs the given batch script if there is one.
+     * 
+     * @param view The view for the controller to output to
+     * @param dictionary The full dictionary of valid words to guess
+     * @param rootsDictionary The full dictionary of valid root words
+     * @param batchScript The file of commands to run, "-" to read them all
+     *                    from standard in, or null to run interactively
+     */
+    public CLIController(CLIView view, DictionarySource dictionary,
+                         DictionarySource rootsDictionary, File batchScript)
+    {
         this.view = view;
-        this.dictionaryFile = dictionaryFile;
-        this.rootsDictionaryFile = rootsDictionaryFile;
-        highScores = new HighScores();
+        this.dictionary = dictionary;
+        this.rootsDictionary = rootsDictionary;
+        this.batchScript = batchScript;
+        hintRenderer = new HintRenderer(HintRenderer.Style.ANSI);
     }
 
     /**
      * Enters the command execution loop for the Spelling Bee game. The
      * controller will read in commands from the user, process them, and sends
-     * output to the view to be displayed.
+     * output to the view to be displayed. If a batch script was given, the
+     * script is run instead of reading commands from the user.
      */
     @Override
     public void run() {
+        if (batchScript != null) {
+            runBatch();
+            return;
+        }
+
         view.showMessage("Welcome to the Spelling Bee!");
         String introCommands = String.format(
             "Type \"%s\" to create a new puzzle, or \"%s\" to see all commands."
@@ -77,119 +137,185 @@ public class CLIController extends Controller {
 
         Scanner scanner = new Scanner(System.in);
 
-        inputLoop:
         while (scanner.hasNextLine()) {
-            String input = scanner.nextLine();
-
-            String[] tokens = input.split(" ");
+            if (!execute(scanner.nextLine())) {
+                break;
+            }
+        }
 
-            Optional<Command> optCommand = Command.fromString(tokens[0]);
+        scanner.close();
+    }
 
-            if (optCommand.isEmpty()) {
-                view.showErrorMessage(
-                    "The command entered is invalid. Please consult \'" +
-                    Command.HELP.keyword + "\' for valid commands."
+    /**
+     * Runs every command in the batch script, timing each one. The whole
+     * script is read before any command is run, and all output is flushed
+     * once at the end instead of after each line. Blank lines and lines
+     * starting with '#' are skipped.
+     */
+    private void runBatch() {
+        List<String> commands;
+        try {
+            if (batchScript.getPath().equals(BATCH_STDIN)) {
+                BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(System.in)
                 );
-                continue;
+                commands = reader.lines().toList();
+            } else {
+                commands = Files.readAllLines(batchScript.toPath());
             }
+        } catch (IOException e) {
+            view.showErrorMessage(
+                "The batch script " + batchScript.getPath() + " could not be read."
+            );
+            view.flush();
+            return;
+        }
 
-            Command curCommand = optCommand.orElseThrow();
+        int numRun = 0;
+        long batchStart = System.nanoTime();
+        try {
+            for (String command : commands) {
+                if (command.isBlank() || command.startsWith("#")) {
+                    continue;
+                }
 
-            List<String> arguments;
+                long commandStart = System.nanoTime();
+                boolean keepGoing = execute(command);
+                view.showTiming(command, System.nanoTime() - commandStart);
+                numRun++;
 
-            if (tokens.length > 1) {
-                arguments = List.of(Arrays.copyOfRange(tokens, 1, tokens.length));
-            } else {
-                arguments = Collections.emptyList();
+                if (!keepGoing) {
+                    break;
+                }
             }
 
-            switch (curCommand) {
-                case EXIT -> {
-                   break inputLoop;
-                }
-                case FOUND_WORDS -> {
-                    foundWords();
-                }
-                case GUESS -> {
-                    if (arguments.isEmpty()) {
-                        view.showErrorMessage(
-                            "You must enter a word to guess. Please try again."
-                        );
-                    } else {
-                        arguments.forEach(this::guess);
-                    }
-                }
-                case HELP -> {
-                    if (arguments.isEmpty()) {
-                        help();
-                    } else {
-                        help(arguments.get(0));
-                    }
-                }
-                case LOAD -> {
-                    if (arguments.isEmpty()) {
-                        view.showErrorMessage(
-                            "You must include a file to load the save from. " +
-                            "Please try again."
-                        );
-                    } else if (arguments.size() > 1) {
-                        view.showErrorMessage(
-                            "Too many arguments for load. Please try again."
-                        );
-                    } else {
-                        load(arguments.get(0));
-                    }
-                }
-                case NEW -> {
-                    if (arguments.isEmpty()) {
-                        newPuzzle();
-                    } else if (arguments.size() == 1) {
-                        view.showErrorMessage(
-                            "Too Few Arguments for New. Please try again."
-                        );
-                    } else if (arguments.size() > 2) {
-                        view.showErrorMessage(
-                            "Too many arguments for new puzzle. Please try again."
-                        );
-                    } else if (arguments.get(0).length() == 1
-                               || arguments.get(1).length() != 1)
-                    {
-                        view.showErrorMessage(
-                            "New Arguments are in the wrong order. Please try again."
-                        );
-                    } else {
-                        newPuzzle(arguments.get(0), arguments.get(1).charAt(0));
-                    }
-                }
-                case RANK -> {
-                    ranks();
-                }
-                case SAVE -> {
-                    save(arguments);
-                }
-                case SHOW -> {
-                    show();
+            view.showTiming(
+                numRun + " command" + (numRun == 1 ? "" : "s"),
+                System.nanoTime() - batchStart
+            );
+        } finally {
+            view.flush();
+        }
+    }
+
+    /**
+     * Parses and runs a single line of input.
+     * 
+     * @param input The line of input containing a command and its arguments
+     * @return false if the command was exit, true otherwise
+     */
+    private boolean execute(String input) {
+        String[] tokens = input.split(" ");
+
+        Optional<Command> optCommand = Command.fromString(tokens[0]);
+
+        if (optCommand.isEmpty()) {
+            view.showErrorMessage(
+                "The command entered is invalid. Please consult \'" +
+                Command.HELP.keyword + "\' for valid commands."
+            );
+            return true;
+        }
+
+        Command curCommand = optCommand.orElseThrow();
+
+        List<String> arguments;
+
+        if (tokens.length > 1) {
+            arguments = List.of(Arrays.copyOfRange(tokens, 1, tokens.length));
+        } else {
+            arguments = Collections.emptyList();
+        }
+
+        switch (curCommand) {
+            case DAILY -> {
+                dailyPuzzle();
+            }
+            case EXIT -> {
+                return false;
+            }
+            case FOUND_WORDS -> {
+                foundWords();
+            }
+            case GUESS -> {
+                if (arguments.isEmpty()) {
+                    view.showErrorMessage(
+                        "You must enter a word to guess. Please try again."
+                    );
+                } else {
+                    guess(arguments);
                 }
-                case SHUFFLE -> {
-                    shuffle();
+            }
+            case HELP -> {
+                if (arguments.isEmpty()) {
+                    help();
+                } else {
+                    help(arguments.get(0));
                 }
-                case HINT -> {
-                    hint();
+            }
+            case LOAD -> {
+                if (arguments.isEmpty()) {
+                    view.showErrorMessage(
+                        "You must include a file to load the save from. " +
+                        "Please try again."
+                    );
+                } else if (arguments.size() > 1) {
+                    view.showErrorMessage(
+                        "Too many arguments for load. Please try again."
+                    );
+                } else {
+                    load(arguments.get(0));
                 }
-                case SAVESCORE -> {
-                    if (arguments.isEmpty()) {
-                        view.showErrorMessage("A name must be provided for the high score.");
-                    } else {
-                        saveScore(arguments.get(0));
-                    }
+            }
+            case NEW -> {
+                if (arguments.isEmpty()) {
+                    newPuzzle();
+                } else if (arguments.size() == 1) {
+                    view.showErrorMessage(
+                        "Too Few Arguments for New. Please try again."
+                    );
+                } else if (arguments.size() > 2) {
+                    view.showErrorMessage(
+                        "Too many arguments for new puzzle. Please try again."
+                    );
+                } else if (arguments.get(0).length() == 1
+                           || arguments.get(1).length() != 1)
+                {
+                    view.showErrorMessage(
+                        "New Arguments are in the wrong order. Please try again."
+                    );
+                } else {
+                    newPuzzle(arguments.get(0), arguments.get(1).charAt(0));
                 }
-                case VIEWSCORES -> {
-                    viewScores();
+            }
+            case RANK -> {
+                ranks();
+            }
+            case SAVE -> {
+                save(arguments);
+            }
+            case SHOW -> {
+                show();
+            }
+            case SHUFFLE -> {
+                shuffle();
+            }
+            case HINT -> {
+                hint();
+            }
+            case SAVESCORE -> {
+                if (arguments.isEmpty()) {
+                    view.showErrorMessage("A name must be provided for the high score.");
+                } else {
+                    saveScore(arguments.get(0));
                 }
             }
+            case VIEWSCORES -> {
+                viewScores();
+            }
         }
 
-        scanner.close();
+        return true;
     }
 
     /**
@@ -213,12 +339,12 @@ public class CLIController extends Controller {
     }
 
     /**
-     * Guesses the given word in the puzzle and sends result to view to be
-     * displayed.
+     * Guesses the given words in the puzzle as one batch and sends the
+     * results to the view to be displayed together.
      * 
-     * @param word The word to be guessed
+     * @param words The words to be guessed
      */
-    private void guess(String word) {
+    private void guess(List<String> words) {
         Puzzle puzzle = Puzzle.getInstance();
 
         if (puzzle == null) {
@@ -228,8 +354,12 @@ public class CLIController extends Controller {
             return;
         }
 
-        int points = puzzle.guess(word);
-        view.showGuess(word, points);
+        GuessBatch batch = puzzle.guessAll(words);
+        if (batch.size() == 1) {
+            view.showGuess(words.get(0), batch.result(0));
+        } else {
+            view.showGuesses(batch);
+        }
     }
 
     /**
@@ -265,7 +395,7 @@ public class CLIController extends Controller {
         File savedFile = new File(filePath);
 
         try {
-            Puzzle puzzle = Puzzle.loadPuzzle(savedFile, dictionaryFile);
+            Puzzle puzzle = Puzzle.loadPuzzle(savedFile, dictionary);
 
             show();
         } catch (FileNotFoundException e) {
@@ -290,14 +420,14 @@ public class CLIController extends Controller {
         Puzzle puzzle = Puzzle.getInstance();
 
         try {
-            PuzzleBuilder builder = new PuzzleBuilder(dictionaryFile, rootsDictionaryFile);
+            PuzzleBuilder builder = new PuzzleBuilder(dictionary, rootsDictionary);
             puzzle = builder.build();
         } catch (FileNotFoundException e) {
-            if (e.getMessage().contains(rootsDictionaryFile.getName())) {
+            if (e.getMessage().contains(rootsDictionary.name())) {
                 view.showErrorMessage(
                     "Could not find dictionary of root words. No puzzle created."
                 );
-            } else if (e.getMessage().contains(dictionaryFile.getName())) {
+            } else if (e.getMessage().contains(dictionary.name())) {
                 view.showErrorMessage(
                     "Could not find dictionary of valid words. No puzzle created."
                 );
@@ -320,141 +450,55 @@ public class CLIController extends Controller {
     
     }
 
-    public void hint(){
-        Puzzle puzzle = Puzzle.getInstance();
-        helpData = puzzle.getHelpData();
-
-        char[] baseWord = new char[7];
-        baseWord[6] = puzzle.getPrimaryLetter();
-        char [] nonRequiredLetters = puzzle.getSecondaryLetters();
-        for(int i = 0; i < baseWord.length - 1; i++){
-            baseWord[i] = nonRequiredLetters[i];
-        }
-        Map<Pair<Character, Integer>, Long> trying = helpData.startingLetterGrid();
-        
-        int maxWordSize = 0;
-        for(Map.Entry<Pair<Character, Integer>, Long> entry : trying.entrySet()){
-            int wordSize = entry.getKey().getRight();
-            if(wordSize > maxWordSize) maxWordSize = wordSize;
-        }
-        //Initialize the matrix
-        String[][] grid = new String[9][maxWordSize - 1];
-        //Populate the matrix with dashes
-        for(int row = 0; row < 9; row++){
-            for(int col = 0; col < maxWordSize - 1; col ++){
-                grid[row][col] = "-";
-            }
-        }
-        grid[0][0] = " ";
-        grid[8][0] = "\u03A3";
-        grid[0][maxWordSize - 2] = "\u03A3";
-        //Put the puzzle letters into the matrix
-        for(int i = 1; i < 8; i++){
-            grid[i][0] = "" + baseWord[i - 1];
-        }
-        //Puts the word length into the matrix
-        for(int i = 1; i < maxWordSize - 2; i ++){
-            grid[0][i] = (i + 3) + "";
-        }
-        //This for loop maps the number of words to their size and letters
-        //in the grid.
-        for(Map.Entry<Pair<Character, Integer>, Long> work : trying.entrySet()){
-            for(int k = 1; k < 8; k++){
-                if((work.getKey().getLeft()+ "").equals(grid[k][0])){
-                    grid[k][work.getKey().getRight() - 3] = (work.getValue() + "");
-                }
-            }
-        }
-        // This calculates the sum of the words that start with each letter.
-        int sumValLet;
-        for(int row = 1; row < 8; row++){
-            sumValLet = 0;
-            for(int col = 1; col < maxWordSize - 2; col ++){
-                if (!grid[row][col].equals("-")){
-                    sumValLet = sumValLet + Integer.parseInt(grid[row][col]);
-                }
-            }
-            grid[row][maxWordSize - 2] = sumValLet + "";
-        }
-        //Calculate the sum of words of each length
-        int sumValCol;
-        for(int col = 1; col < maxWordSize - 1; col++){
-            sumValCol = 0;
-            for(int row = 1; row < 8; row ++){
-                if (!grid[row][col].equals("-")){
-                    sumValCol = sumValCol + Integer.parseInt(grid[row][col]);
-                }
-            }
-            grid[8][col] = sumValCol + "";
+    /**
+     * Starts today's puzzle of the day. Sends command to view to display the
+     * new puzzle.
+     */
+    private void dailyPuzzle() {
+        if (dailyPuzzle == null) {
+            dailyPuzzle = DailyPuzzle.withDefaultCalendar(
+                dictionary, rootsDictionary
+            );
         }
 
-        //Initialize the two letter list matrix and populate with '-'
-        String [][] twoLetList = new String[7][7];
-        for(int i = 0; i < 7; i++){
-            for(int k = 0; k < 7; k ++){
-                twoLetList[i][k] = "-";
-            }
+        Puzzle puzzle;
+        try {
+            puzzle = dailyPuzzle.puzzleFor(LocalDate.now());
+        } catch (IOException e) {
+            view.showErrorMessage(
+                "IO error while creating the daily puzzle. No puzzle created."
+            );
+            return;
+        } catch (IllegalStateException e) {
+            view.showErrorMessage(e.getMessage() + " No puzzle created.");
+            return;
         }
 
-        //Places the starting letter pairs into rows based on starting letter
-        for(Map.Entry<String, Long> item : helpData.startingLetterPairs().entrySet()){
-            for(int i = 0; i < 7; i++){
-                if((baseWord[i] + "").equals(item.getKey().charAt(0) + "")){
-                    for(int k = 0; k < 7; k++){
-                        if((baseWord[k] + "").equals(item.getKey().charAt(1) + "")){
-                            twoLetList[i][k] = item + "";
-                        }
-                    }
-                }
-            }
-        }
+        view.showPuzzle(
+            puzzle.getPrimaryLetter(),
+            puzzle.getSecondaryLetters(),
+            puzzle.getRank(),
+            puzzle.getEarnedPoints()
+        );
+    }
 
-        //Print everything out
-        System.out.println("Spelling Bee Grid" + System.lineSeparator());
-        System.out.println("Required letter is in" + "\u001B[1m BOLD " 
-        + System.lineSeparator());
-        System.out.print( (baseWord[6] + " ").toUpperCase() + "\u001B[0m");
-        for(int i = 0; i < 6; i++){
-            System.out.print((baseWord[i] + "").toUpperCase() + " ");
-        }
-        System.out.println();
-        System.out.println();
-        System.out.println("WORDS: " + helpData.numWords() 
-        + ", POINTS: " + helpData.totalPoints() + ", PANGRAMS: " +
-         helpData.numPangrams() + " (" + helpData.numPerfectPangrams()
-          + " Perfect)" + System.lineSeparator());
-        //This for loop prints out the matrix
-        for(int row = 0; row < 9; row++){
-            for(int col = 0; col < maxWordSize - 1; col ++){
-                if(row == 0 || col == 0 || row == 8 || col == maxWordSize - 2){
-                    System.out.print("\u001B[1m" + String.format("%-" + 3 +"s", 
-                    grid[row][col].toUpperCase()) + "\u001B[0m");
-                    System.out.print(" ");
-                }
-                else{
-                    System.out.print(String.format("%-" + 3 +"s", 
-                    grid[row][col].toUpperCase()));
-                    System.out.print(" ");
-                }
-            }
-            System.out.println("");
-        }
+    /**
+     * Sends the hints for the puzzle to the view to be displayed.
+     */
+    private void hint() {
+        Puzzle puzzle = Puzzle.getInstance();
 
-        //Print out the start of the two letter list section
-        System.out.println(System.lineSeparator() + 
-        "\u001B[1mTwo letter list: \u001B[0m" 
-        + System.lineSeparator());
-        
-        //Prints out the list of two letter starts.
-        for(int i = 0; i < 7; i++){
-            for (int k = 0; k < 6; k++){
-                if(!twoLetList[i][k].equals("-")){
-                    System.out.print(String.format("%-" + 6 + "s", 
-                    twoLetList[i][k].toUpperCase()));
-                }
-            }
-            System.out.println();
+        if (puzzle == null) {
+            view.showErrorMessage(
+                "There is no puzzle in progress. Please make or load a puzzle and try again."
+            );
+            return;
         }
+
+        long start = System.nanoTime();
+        String hint = hintRenderer.render(puzzle);
+        SpellingBeeMetrics.get().recordHint(System.nanoTime() - start);
+        view.showHint(hint);
     }
     
     /**
@@ -467,7 +511,7 @@ public class CLIController extends Controller {
         Puzzle puzzle = Puzzle.getInstance();
 
         try {
-            PuzzleBuilder builder = new PuzzleBuilder(dictionaryFile, rootsDictionaryFile);
+            PuzzleBuilder builder = new PuzzleBuilder(dictionary, rootsDictionary);
 
             if (!builder.setRootAndRequiredLetter(word, requiredLetter)) {
                 view.showErrorMessage(
@@ -478,11 +522,11 @@ public class CLIController extends Controller {
 
             puzzle = builder.build();
         } catch (FileNotFoundException e) {
-            if (e.getMessage().contains(rootsDictionaryFile.getName())) {
+            if (e.getMessage().contains(rootsDictionary.name())) {
                 view.showErrorMessage(
                     "Could not find dictionary of root words. No puzzle created."
                 );
-            } else if (e.getMessage().contains(dictionaryFile.getName())) {
+            } else if (e.getMessage().contains(dictionary.name())) {
                 view.showErrorMessage(
                     "Could not find dictionary of valid words. No puzzle created."
                 );
@@ -681,12 +725,12 @@ public class CLIController extends Controller {
         Puzzle p = Puzzle.getInstance();
         int score = p.getEarnedPoints();
 
-        if (!highScores.isHighScore(score)) {
+        if (!highScores().isHighScore(score)) {
             view.showErrorMessage("Your score is not high enough to be a high score.");
             return;
         }
 
-        highScores.saveScore(userName, score);
+        highScores().saveScore(userName, score);
         viewScores();
     }
 
@@ -694,11 +738,24 @@ public class CLIController extends Controller {
      * Shows the current high scores.
      */
     private void viewScores() {
-        TreeMap<String, Integer> scores = highScores.getScores();
+        TreeMap<String, Integer> scores = highScores().getScores();
         if (scores == null || scores.size() == 0) {
             view.showErrorMessage("No high scores saved currently.");
         }
 
         view.showHighScores(scores);
     }
+
+    /**
+     * Gets the high scores, reading them the first time this is called so
+     * that starting the CLI does not wait on the high scores file.
+     *
+     * @return the high scores
+     */
+    private HighScores highScores() {
+        if (highScores == null) {
+            highScores = new HighScores();
+        }
+        return highScores;
+    }
 }
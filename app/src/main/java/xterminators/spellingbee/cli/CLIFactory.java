@@ -1,7 +1,13 @@
 package xterminators.spellingbee.cli;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
 
+import xterminators.spellingbee.model.DictionarySource;
+import xterminators.spellingbee.model.Puzzle;
 import xterminators.spellingbee.ui.Controller;
 import xterminators.spellingbee.ui.UIFactory;
 import xterminators.spellingbee.ui.View;
@@ -10,8 +16,13 @@ import xterminators.spellingbee.ui.View;
  * A factory for creating a CLI for the spelling bee game.
  */
 public class CLIFactory extends UIFactory {
+    /** The size of the output buffer used in batch mode. */
+    private static final int BATCH_BUFFER_SIZE = 1 << 16;
+
     private CLIController controller;
     private CLIView view;
+    /** The batch script to run, or null if the CLI is interactive. */
+    private File batchScript;
 
     /**
      * Creates a CLIFactory with the given dictionaries.
@@ -20,10 +31,45 @@ public class CLIFactory extends UIFactory {
      * @param rootsDictionary the dictionary of valid root words
      */
     public CLIFactory(File fullDictionary, File rootsDictionary) {
+        this(fullDictionary, rootsDictionary, null);
+    }
+
+    /**
+     * Creates a CLIFactory with the given dictionaries which runs the given
+     * batch script instead of reading commands interactively.
+     * 
+     * @param fullDictionary the full dictionary of valid words
+     * @param rootsDictionary the dictionary of valid root words
+     * @param batchScript the file of commands to run, "-" for standard in, or
+     *                    null to run interactively
+     */
+    public CLIFactory(File fullDictionary, File rootsDictionary,
+                      File batchScript)
+    {
+        this(
+            DictionarySource.file(fullDictionary),
+            DictionarySource.file(rootsDictionary),
+            batchScript
+        );
+    }
+
+    /**
+     * Creates a CLIFactory which reads the dictionaries from the given
+     * sources, and runs the given batch script if there is one.
+     * 
+     * @param fullDictionary the full dictionary of valid words
+     * @param rootsDictionary the dictionary of valid root words
+     * @param batchScript the file of commands to run, "-" for standard in, or
+     *                    null to run interactively
+     */
+    public CLIFactory(DictionarySource fullDictionary,
+                      DictionarySource rootsDictionary, File batchScript)
+    {
         super(fullDictionary, rootsDictionary);
 
         this.controller = null;
         this.view = null;
+        this.batchScript = batchScript;
     }
 
     /**
@@ -35,8 +81,9 @@ public class CLIFactory extends UIFactory {
         if (view == null) {
             initControllerViewPair();
         } else if (controller == null) {
-            controller
-                = new CLIController(view, fullDictionary, rootsDictionary);
+            controller = new CLIController(
+                view, fullDictionary, rootsDictionary, batchScript
+            );
         }
 
         return controller;
@@ -58,7 +105,25 @@ public class CLIFactory extends UIFactory {
      * Creates a CLIController and CLIView linked together as a pair.
      */
     private void initControllerViewPair() {
-        view = new CLIView();
-        controller = new CLIController(view, fullDictionary, rootsDictionary);
+        if (batchScript == null) {
+            view = new CLIView();
+        } else {
+            // Batch output goes through one large buffer which is only
+            // flushed when the batch is done, rather than System.out which
+            // flushes on every line.
+            view = new CLIView(new PrintStream(
+                new BufferedOutputStream(
+                    new FileOutputStream(FileDescriptor.out),
+                    BATCH_BUFFER_SIZE
+                ),
+                false
+            ));
+        }
+        controller = new CLIController(
+            view, fullDictionary, rootsDictionary, batchScript
+        );
+
+        // The view adds a new rank to the result of a guess
+        Puzzle.addListener(view);
     }
 }
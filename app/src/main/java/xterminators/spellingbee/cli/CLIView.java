@@ -1,22 +1,60 @@
 package xterminators.spellingbee.cli;
 
+import java.io.PrintStream;
 import java.util.TreeMap;
 import java.util.Map;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
+import xterminators.spellingbee.model.GuessBatch;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleListener;
 import xterminators.spellingbee.model.Rank;
 import xterminators.spellingbee.ui.View;
 
 /**
  * The view of the CLI mode of the Spelling Bee game. This class takes
  * instructions and data from the controller and displays output accordingly.
+ *
+ * When added as a puzzle listener, the view also tells the user when a
+ * guess reaches a new rank, right after the result of the guess.
  */
-public class CLIView extends View {
+public class CLIView extends View implements PuzzleListener {
     public static final String ANSI_BOLD = "\u001B[1m";
     public static final String ANSI_RED = "\u001B[31m";
     public static final String ANSI_RESET = "\u001B[0m";
 
+    /**
+     * The stream all output is written to. If null, output is written to
+     * whatever System.out currently is.
+     */
+    private final PrintStream out;
+
+    /**
+     * The rank reached by the guess being made, or null if the rank has not
+     * changed. It is shown with the result of the guess.
+     */
+    private Rank newRank;
+
+    /**
+     * Constructs a CLIView which writes all output to standard out.
+     */
+    public CLIView() {
+        this(null);
+    }
+
+    /**
+     * Constructs a CLIView which writes all output to the given stream. This
+     * is used by batch mode to write through a single buffered stream which is
+     * only flushed once the batch is finished.
+     * 
+     * @param out The stream to write output to, or null for standard out
+     */
+    public CLIView(PrintStream out) {
+        this.out = out;
+    }
+
     /**
      * Displays the given list of found words for the puzzle.
      * 
@@ -24,14 +62,14 @@ public class CLIView extends View {
      */
     public void showFoundWords(List<String> foundWords) {
         if (foundWords.isEmpty()) {
-            System.out.println("You have not found any words yet.");
+            out().println("You have not found any words yet.");
         } else if (foundWords.size() == 1) {
-            System.out.println("You have found 1 word:");
+            out().println("You have found 1 word:");
         } else {
-            System.out.println("You have found " + foundWords.size() + " words:");
+            out().println("You have found " + foundWords.size() + " words:");
         }
 
-        foundWords.forEach(System.out::println);
+        foundWords.forEach(out()::println);
     }
 
     /**
@@ -41,27 +79,88 @@ public class CLIView extends View {
      * @param points The points earned from the word
      */
     public void showGuess(String word, int points) {
+        out().println(guessMessage(word, points));
+        if (newRank != null) {
+            out().println(rankMessage(newRank));
+            newRank = null;
+        }
+    }
+
+    /**
+     * Displays the results of guessing many words at once: a line for each
+     * word, then the points earned by all of them and any new rank. The
+     * whole batch is written at once.
+     * 
+     * @param batch The results of the guesses
+     */
+    public void showGuesses(GuessBatch batch) {
+        String newline = System.lineSeparator();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < batch.size(); i++) {
+            text.append(guessMessage(batch.words().get(i), batch.result(i)))
+                .append(newline);
+        }
+
+        int found = batch.numFound();
+        text.append("You found ").append(found)
+            .append(found == 1 ? " new word" : " new words")
+            .append(" for ").append(batch.points())
+            .append(batch.points() == 1 ? " point." : " points.")
+            .append(newline);
+        if (batch.rankChanged()) {
+            text.append(rankMessage(batch.rank())).append(newline);
+        }
+        // The batch already has the new rank, if there is one
+        newRank = null;
+
+        out().print(text);
+    }
+
+    @Override
+    public void rankChanged(Puzzle puzzle, Rank previousRank, Rank rank) {
+        if (puzzle == Puzzle.getInstance()) {
+            newRank = rank;
+        }
+    }
+
+    @Override
+    public void puzzleReplaced(Puzzle previous, Puzzle puzzle) {
+        newRank = null;
+    }
+
+    /**
+     * Gets the message for the result of guessing a word.
+     * 
+     * @param word The word guessed
+     * @param points The points earned from the word
+     * @return the message for the guess
+     */
+    private static String guessMessage(String word, int points) {
         if (points == -1) {
-            System.out.println(
-                "You already found the word \"" + word + "\". Try again."
-            );
+            return "You already found the word \"" + word + "\". Try again.";
         } else if (points == 0) {
-            System.out.println(
-                "The word \"" + word + "\" is not a word in the puzzle. Try again."
-            );
+            return "The word \"" + word + "\" is not a word in the puzzle. Try again.";
         } else {
-            System.out.println(
-                "You found \"" + word + "\". You earned " + points +" points."
-            );
+            return "You found \"" + word + "\". You earned " + points +" points.";
         }
     }
 
+    /**
+     * Gets the message for reaching a new rank.
+     * 
+     * @param rank The rank reached
+     * @return the message for the rank
+     */
+    private static String rankMessage(Rank rank) {
+        return "You reached a new rank! Your rank is now " + rank.getRankName() + ".";
+    }
+
     /**
      * Displays the general help for all commands.
      */
     public void showHelp() {
         for (Command c : Command.values()) {
-            System.out.println(c.keyword + ": " + c.shortHelp);
+            out().println(c.keyword + ": " + c.shortHelp);
         }
     }
 
@@ -71,7 +170,7 @@ public class CLIView extends View {
      * @param command The command to display help for
      */
     public void showHelp(Command command) {
-        System.out.println(command.longHelp);
+        out().println(command.longHelp);
     }
 
     /**
@@ -80,7 +179,7 @@ public class CLIView extends View {
      * @param message The status message to be displayed
      */
     public void showMessage(String message) {
-        System.out.println(message);
+        out().println(message);
     }
 
     /**
@@ -89,7 +188,7 @@ public class CLIView extends View {
      * @param message The error message to be displayed
      */
     public void showErrorMessage(String message) {
-        System.out.println(ANSI_BOLD + ANSI_RED + message + ANSI_RESET);
+        out().println(ANSI_BOLD + ANSI_RED + message + ANSI_RESET);
     }
 
     /**
@@ -122,9 +221,9 @@ public class CLIView extends View {
         puzzleHex.append("    +---+")
             .append(System.lineSeparator());
         
-        System.out.println(puzzleHex);
-        System.out.println("Current Rank  : " + rank.getRankName());
-        System.out.println("Current Points: " + points);
+        out().println(puzzleHex);
+        out().println("Current Rank  : " + rank.getRankName());
+        out().println("Current Points: " + points);
     }
 
     /**
@@ -137,12 +236,12 @@ public class CLIView extends View {
      */
     public void showRanks(Rank rank, int earnedPoints, int totalPoints) {
         if (earnedPoints == 1) {
-            System.out.println(
+            out().println(
                 "Current Rank: " + rank.getRankName() + " - " +
                 earnedPoints + " point" + System.lineSeparator()
             );
         } else {
-            System.out.println(
+            out().println(
                 "Current Rank: " + rank.getRankName() + " - " +
                 earnedPoints + " points" + System.lineSeparator()
             );
@@ -164,7 +263,7 @@ public class CLIView extends View {
             String reqPointsStr = String.valueOf(reqPoints);
             String asterisk = r.equals(rank) ? "*" : " ";
         
-            System.out.println(
+            out().println(
                 asterisk + padLeft(r.getRankName(), maxNameLength) + " - " +
                 padLeft(reqPointsStr, maxPointsLength) + " point" +
                 (reqPoints == 1 ? "" : "s") + " minimum"
@@ -172,17 +271,55 @@ public class CLIView extends View {
         }               
     }
 
+    /**
+     * Displays the rendered hints for the puzzle.
+     * 
+     * @param hint The rendered hints, ending with a line separator
+     */
+    public void showHint(String hint) {
+        out().print(hint);
+    }
+
+    /**
+     * Displays how long a command took to run. Used by batch mode to report
+     * per-command timing.
+     * 
+     * @param command The command line that was run
+     * @param elapsedNanos The time the command took, in nanoseconds
+     */
+    public void showTiming(String command, long elapsedNanos) {
+        out().println(String.format(
+            Locale.ROOT, "[%.3f ms] %s", elapsedNanos / 1_000_000.0, command
+        ));
+    }
+
+    /**
+     * Flushes any buffered output to the underlying stream.
+     */
+    public void flush() {
+        out().flush();
+    }
+
     public void showHighScores(TreeMap<String, Integer> scores) {
-        System.out.println("Current High Scores");
+        out().println("Current High Scores");
 
         int rank = 1;
         for (Map.Entry<String, Integer> entry : scores.entrySet()) {
-            System.out.println(padLeft(rank + "", 2) + ". " + 
+            out().println(padLeft(rank + "", 2) + ". " + 
                 entry.getKey() + ": " + entry.getValue());
             rank++;
         }
     }
 
+    /**
+     * Gets the stream output should currently be written to.
+     * 
+     * @return The stream given at construction, or System.out if none was
+     */
+    private PrintStream out() {
+        return out == null ? System.out : out;
+    }
+
     /**
      * Pads the given string on the right with spaces and returns the result.
      * If the given string is null, it will be returned unchanged.
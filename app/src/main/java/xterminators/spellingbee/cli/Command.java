@@ -7,6 +7,14 @@ import java.util.Optional;
  * keyword, a short help description, and a long help description.
  */
 public enum Command {
+    /** The command to start the puzzle of the day. */
+    DAILY(
+        "daily",
+        "Starts the puzzle of the day.",
+        """
+        Starts the puzzle of the day. Every player gets the same puzzle on the
+        same day."""
+    ),
     /** The command to exit the CLI. */
     EXIT(
         "exit",
@@ -0,0 +1,171 @@
+package xterminators.spellingbee.gui;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Frame;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JProgressBar;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.WindowConstants;
+
+import xterminators.spellingbee.model.Puzzle;
+
+/**
+ * Runs slow work, like building, loading or saving a puzzle, off of the
+ * event dispatch thread. While the work runs a progress dialog with a cancel
+ * button is shown, and the result is handed back on the event dispatch
+ * thread once the work is finished.
+ *
+ * Tasks run one at a time in the order they were started. Canceling only
+ * discards the result: the work is not interrupted, since an interrupted
+ * write could leave a file half written, so it runs to the end and its
+ * result is never handed back. If the work replaced the puzzle, the
+ * listeners have already been told of the new puzzle, so once the work
+ * finishes the previous puzzle is put back and they are told again.
+ *
+ * The puzzle can still be played while work runs, so work that reads it,
+ * like saving, should be given a snapshot taken when the task is started.
+ */
+public class BackgroundTask<T> extends SwingWorker<T, Void> {
+    /**
+     * Work to be done in the background.
+     *
+     * @param <T> the type of the result of the work
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        /**
+         * Does the work.
+         *
+         * @return the result of the work
+         * @throws Exception if the work could not be done
+         */
+        T run() throws Exception;
+    }
+
+    /**
+     * How long the work can run before the progress dialog is shown, so that
+     * quick tasks do not flash a dialog.
+     */
+    private static final int DIALOG_DELAY_MILLIS = 200;
+
+    /** Runs all of the tasks, one at a time. */
+    private static final ExecutorService EXECUTOR
+        = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spelling-bee-background");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private final Work<T> work;
+    private final Consumer<T> onSuccess;
+    private final Consumer<Exception> onFailure;
+
+    private final JDialog progressDialog;
+    private final Timer dialogTimer;
+
+    /**
+     * Creates a task. The task does nothing until it is started.
+     *
+     * @param owner the frame the progress dialog belongs to
+     * @param message the message shown in the progress dialog
+     * @param work the work to do in the background
+     * @param onSuccess called on the event dispatch thread with the result
+     * @param onFailure called on the event dispatch thread if the work threw
+     */
+    public BackgroundTask(
+        Frame owner,
+        String message,
+        Work<T> work,
+        Consumer<T> onSuccess,
+        Consumer<Exception> onFailure
+    ) {
+        this.work = work;
+        this.onSuccess = onSuccess;
+        this.onFailure = onFailure;
+
+        progressDialog = new JDialog(owner, "Please Wait", true);
+        progressDialog.setDefaultCloseOperation(
+            WindowConstants.DO_NOTHING_ON_CLOSE
+        );
+
+        JLabel messageLabel = new JLabel(message);
+        messageLabel.setBorder(BorderFactory.createEmptyBorder(10, 10, 5, 10));
+
+        JProgressBar progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+
+        JButton cancelButton = new JButton("Cancel");
+        cancelButton.setBackground(Color.white);
+        cancelButton.addActionListener(e -> cancel(false));
+
+        progressDialog.setLayout(new BorderLayout(10, 10));
+        progressDialog.add(messageLabel, BorderLayout.NORTH);
+        progressDialog.add(progressBar, BorderLayout.CENTER);
+        progressDialog.add(cancelButton, BorderLayout.SOUTH);
+        progressDialog.pack();
+        progressDialog.setLocationRelativeTo(owner);
+
+        dialogTimer = new Timer(DIALOG_DELAY_MILLIS, e -> {
+            if (!isDone()) {
+                progressDialog.setVisible(true);
+            }
+        });
+        dialogTimer.setRepeats(false);
+    }
+
+    /**
+     * Starts the task. This must be called on the event dispatch thread.
+     */
+    public void start() {
+        dialogTimer.start();
+        EXECUTOR.execute(this);
+    }
+
+    @Override
+    protected T doInBackground() throws Exception {
+        Puzzle previous = Puzzle.getInstance();
+        try {
+            return work.run();
+        } finally {
+            if (isCancelled()) {
+                Puzzle.setInstance(previous);
+            }
+        }
+    }
+
+    @Override
+    protected void done() {
+        dialogTimer.stop();
+        progressDialog.dispose();
+
+        if (isCancelled()) {
+            return;
+        }
+
+        try {
+            onSuccess.accept(get());
+        } catch (CancellationException e) {
+            // Canceled between the check and the get, nothing to report
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                onFailure.accept((Exception) cause);
+            } else {
+                onFailure.accept(e);
+            }
+        }
+    }
+}
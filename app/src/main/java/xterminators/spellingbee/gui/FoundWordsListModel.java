@@ -0,0 +1,78 @@
+package xterminators.spellingbee.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+import javax.swing.SwingUtilities;
+
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleListener;
+
+/**
+ * The list of found words shown in the GUI. The model follows one puzzle at
+ * a time. Each word found in that puzzle is inserted at its sorted position
+ * with a single insert event, so the list only repaints the new row.
+ *
+ * The model must only be read and changed on the event dispatch thread.
+ * Words found on other threads are handed over to it.
+ */
+public class FoundWordsListModel extends AbstractListModel<String>
+    implements PuzzleListener
+{
+    /** The puzzle whose found words are shown. */
+    private Puzzle puzzle;
+    /** The found words of the puzzle, in sorted order. */
+    private final List<String> words = new ArrayList<>();
+
+    /**
+     * Shows the found words of the given puzzle, replacing whatever was shown
+     * before.
+     *
+     * @param puzzle the puzzle to follow, or null to show no words
+     */
+    public void setPuzzle(Puzzle puzzle) {
+        int oldSize = words.size();
+        this.puzzle = puzzle;
+        words.clear();
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+
+        if (puzzle != null) {
+            words.addAll(puzzle.getFoundWords());
+        }
+        if (!words.isEmpty()) {
+            fireIntervalAdded(this, 0, words.size() - 1);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return words.size();
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return words.get(index);
+    }
+
+    @Override
+    public void wordFound(Puzzle puzzle, String word, int index) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> wordFound(puzzle, word, index));
+            return;
+        }
+
+        // Words found on another thread may already have been copied in by
+        // setPuzzle before this event arrived.
+        if (puzzle != this.puzzle || index > words.size()
+            || (index < words.size() && words.get(index).equals(word)))
+        {
+            return;
+        }
+
+        words.add(index, word);
+        fireIntervalAdded(this, index, index);
+    }
+}
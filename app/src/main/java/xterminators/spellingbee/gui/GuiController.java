@@ -3,39 +3,60 @@ package xterminators.spellingbee.gui;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.time.LocalDate;
 
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.TreeMap;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import com.google.gson.JsonSyntaxException;
 
-import xterminators.spellingbee.model.HelpData;
+import xterminators.spellingbee.model.DailyPuzzle;
+import xterminators.spellingbee.model.DictionarySource;
+import xterminators.spellingbee.model.GuessBatch;
 import xterminators.spellingbee.model.Puzzle;
 import xterminators.spellingbee.model.PuzzleBuilder;
 import xterminators.spellingbee.model.Rank;
 import xterminators.spellingbee.model.SaveMode;
+import xterminators.spellingbee.model.SpellingBeeMetrics;
 import xterminators.spellingbee.model.HighScores;
 import xterminators.spellingbee.ui.Controller;
+import xterminators.spellingbee.ui.HintRenderer;
 
 public class GuiController extends Controller {
     /** The view that the user interacts with. */
     private GuiView guiView;
-    /** The file pointing to the full dictionary of usable words. */
-    private File dictionaryFile;
-    /** The file pointing to the dictionary of valid root words. */
-    private File rootsDictionaryFile;
+    /** The source of the full dictionary of usable words. */
+    private DictionarySource dictionary;
+    /** The source of the dictionary of valid root words. */
+    private DictionarySource rootsDictionary;
 
-    private HelpData helpData;
+    /** Renders and caches the hints for the puzzle. */
+    private HintRenderer hintRenderer;
 
+    /** The saved high scores, read the first time they are needed. */
     private HighScores highScores;
 
+    /** The puzzles of the day, created the first time they are needed. */
+    private DailyPuzzle dailyPuzzle;
+
     public GuiController(GuiView guic, File dictionaryFile, File rootsDictionaryFile) {
+        this(
+            guic,
+            DictionarySource.file(dictionaryFile),
+            DictionarySource.file(rootsDictionaryFile)
+        );
+    }
+
+    public GuiController(
+        GuiView guic,
+        DictionarySource dictionary,
+        DictionarySource rootsDictionary
+    ) {
         this.guiView = guic;
-        this.dictionaryFile = dictionaryFile;
-        this.rootsDictionaryFile = rootsDictionaryFile;
-        this.highScores = new HighScores();
+        this.dictionary = dictionary;
+        this.rootsDictionary = rootsDictionary;
+        this.hintRenderer = new HintRenderer(HintRenderer.Style.PLAIN);
     }
 
     @Override
@@ -69,8 +90,8 @@ public class GuiController extends Controller {
 
         try {
             PuzzleBuilder builder = new PuzzleBuilder(
-                dictionaryFile,
-                rootsDictionaryFile
+                dictionary,
+                rootsDictionary
             );
 
             // If seedWord is empty, a random puzzle will be generated instead.
@@ -123,6 +144,21 @@ public class GuiController extends Controller {
         createNewPuzzle("", 'a');
     }
 
+    /**
+     * Starts today's puzzle of the day. Every player gets the same puzzle on
+     * the same day.
+     * @throws IOException if there was a problem reading the dictionary file.
+     * @throws IllegalStateException if no puzzle was found for today.
+     */
+    public void createDailyPuzzle() throws IOException {
+        if (dailyPuzzle == null) {
+            dailyPuzzle = DailyPuzzle.withDefaultCalendar(
+                dictionary, rootsDictionary
+            );
+        }
+        dailyPuzzle.puzzleFor(LocalDate.now());
+    }
+
     /**
      * Shuffles the letters in the display.
      */
@@ -151,8 +187,19 @@ public class GuiController extends Controller {
      * @throws IOException - if an I/O error occurs.
      */
     public String savePuzzle(String saveFilepath, SaveMode saveMode) throws IOException {
-        Puzzle puzzle = Puzzle.getInstance();
+        return savePuzzle(Puzzle.getInstance(), saveFilepath, saveMode);
+    }
 
+    /**
+     * Saves a puzzle to a JSON format. To save from a background thread,
+     * pass a snapshot of the puzzle taken on the event dispatch thread, so
+     * guesses made while it saves do not change what is written.
+     * @param puzzle - the puzzle to save, or null if there is none
+     * @throws IOException - if an I/O error occurs.
+     */
+    public String savePuzzle(Puzzle puzzle, String saveFilepath, SaveMode saveMode)
+        throws IOException
+    {
         if (puzzle == null) {
             return "There is no puzzle in progress. Please try again.";
         }
@@ -174,7 +221,7 @@ public class GuiController extends Controller {
             //Create a file object to read the contents of loadFile
             File savedFile = new File (loadFile);
             
-            Puzzle LoadedPuzzle = Puzzle.loadPuzzle(savedFile, dictionaryFile);
+            Puzzle LoadedPuzzle = Puzzle.loadPuzzle(savedFile, dictionary);
 
             result = "Succesfully loaded " + loadFile + "!";
         }
@@ -209,6 +256,12 @@ public class GuiController extends Controller {
             return result;
         }
 
+        // A pasted list of words is guessed as one batch
+        String[] words = word.trim().split("\\s+");
+        if (words.length > 1) {
+            return guessWords(Arrays.asList(words));
+        }
+
         Rank prevRank = puzzle.getRank();
 
         int wasValid = puzzle.guess(word);
@@ -236,171 +289,55 @@ public class GuiController extends Controller {
     }
 
     /**
-     * A method to display the hints in the GUI.
+     * Guesses many words at once, and sums up the results in one message.
      * 
-     * @return String - The message that will be displayed in the GUI
+     * @param words The words being guessed.
+     * @return the message to show for the whole batch
      */
-    public String hint(){
+    public String guessWords(Collection<String> words) {
         Puzzle puzzle = Puzzle.getInstance();
-        String result = "";
-        helpData = puzzle.getHelpData();
-
-        //Initialize a baseword array for later printing the matrix
-        char[] baseWord = new char[7];
-        baseWord[6] = puzzle.getPrimaryLetter();
-        char [] nonRequiredLetters = puzzle.getSecondaryLetters();
-        for(int i = 0; i < baseWord.length - 1; i++){
-            baseWord[i] = nonRequiredLetters[i];
-        }
-        Map<Pair<Character, Integer>, Long> trying = helpData.startingLetterGrid();
-        
-        // Find the maxwordsize to create the matrix
-        int maxWordSize = 0;
-        for(Map.Entry<Pair<Character, Integer>, Long> entry : trying.entrySet()){
-            int wordSize = entry.getKey().getRight();
-            if(wordSize > maxWordSize) maxWordSize = wordSize;
-        }
-        //Initialize the matrix
-        String[][] grid = new String[9][maxWordSize - 1];
-        //Populate the matrix with dashes
-        for(int row = 0; row < 9; row++){
-            for(int col = 0; col < maxWordSize - 1; col ++){
-                grid[row][col] = "-";
-            }
-        }
-        // Set the summation rows titles, and a blank row for [0][0].
-        grid[0][0] = " ";
-        grid[8][0] = "\u03A3";
-        grid[0][maxWordSize - 2] = "\u03A3";
-
-        //Put the puzzle letters into the matrix
-        for(int i = 1; i < 8; i++){
-            grid[i][0] = "" + baseWord[i - 1];
-        }
 
-        //Puts the word lengths into the matrix
-        for(int i = 1; i < maxWordSize - 2; i ++){
-            grid[0][i] = (i + 3) + "";
-        }
-
-        //Initialize a variable for later manual padding.
-        int maxValLen = 0;
-
-        //This for loop maps the number of words to their size and letters
-        //in the grid.
-        for(Map.Entry<Pair<Character, Integer>, Long> work : trying.entrySet()){
-            for(int k = 1; k < 8; k++){
-                if((work.getKey().getLeft()+ "").equals(grid[k][0])){
-                    grid[k][work.getKey().getRight() - 3] = (work.getValue() + "");
-
-                    // Check to find the maximum value length.
-                    if((work.getValue() + "").length() > maxValLen){
-                        maxValLen = (work.getValue() + "").length();
-                    }
-                }
-            }
-        }
-
-        // This calculates the sum of the words that start with each letter.
-        int sumValLet;
-        for(int row = 1; row < 8; row++){
-            sumValLet = 0;
-            for(int col = 1; col < maxWordSize - 2; col ++){
-                if (!grid[row][col].equals("-")){
-                    sumValLet = sumValLet + Integer.parseInt(grid[row][col]);
-                }
-            }
-            grid[row][maxWordSize - 2] = sumValLet + "";
-        }
-        
-        //Calculate the sum of words of each length
-        int sumValCol;
-        for(int col = 1; col < maxWordSize - 1; col++){
-            sumValCol = 0;
-            for(int row = 1; row < 8; row ++){
-                if (!grid[row][col].equals("-")){
-                    sumValCol = sumValCol + Integer.parseInt(grid[row][col]);
-                }
-            }
-            grid[8][col] = sumValCol + "";
+        if (puzzle == null) {
+            return "No puzzle is loaded.";
         }
 
-        //Initialize the two letter list matrix and populate with '-'
-        String [][] twoLetList = new String[7][7];
-        for(int i = 0; i < 7; i++){
-            for(int k = 0; k < 7; k ++){
-                twoLetList[i][k] = "-";
-            }
-        }
+        GuessBatch batch = puzzle.guessAll(words);
 
-        //Places the starting letter pairs into rows based on starting letter
-        for(Map.Entry<String, Long> item : helpData.startingLetterPairs().entrySet()){
-            for(int i = 0; i < 7; i++){
-                if((baseWord[i] + "").equals(item.getKey().charAt(0) + "")){
-                    for(int k = 0; k < 7; k++){
-                        if((baseWord[k] + "").equals(item.getKey().charAt(1) + "")){
-                            twoLetList[i][k] = item + "";
-                        }
-                    }
-                }
-            }
+        int found = batch.numFound();
+        String result = "You found " + found + " of " + batch.size() +
+            " words for " + batch.points() +
+            (batch.points() == 1 ? " point." : " points.");
+        if (batch.rankChanged()) {
+            result += " You reached a new rank! Your rank is now " +
+                batch.rank().getRankName() + ".";
         }
+        return result;
+    }
 
-        //Print everything out
-        result += "Spelling Bee Grid" + 
-        System.lineSeparator() + System.lineSeparator() +
-    
-        "Required letter is first" +
-        System.lineSeparator() + System.lineSeparator() +
-
-        (baseWord[6] + " ").toUpperCase();
+    /**
+     * A method to display the hints in the GUI.
+     * 
+     * @return String - The message that will be displayed in the GUI
+     */
+    public String hint() {
+        Puzzle puzzle = Puzzle.getInstance();
 
-        for(int i = 0; i < 6; i++){
-            result += (baseWord[i] + "").toUpperCase() + " ";
-        }
-        result += System.lineSeparator() + System.lineSeparator() + 
-
-        "WORDS: " + helpData.numWords() + ", POINTS: "
-         + helpData.totalPoints() + ", PANGRAMS: " + helpData.numPangrams()
-          + " (" + helpData.numPerfectPangrams() + " Perfect)" + 
-          System.lineSeparator() + System.lineSeparator();
-
-        //This for loop prints out the matrix
-        for(int row = 0; row < 9; row++){
-            for(int col = 0; col < maxWordSize - 1; col ++){
-                result +=  grid[row][col].toUpperCase() + "  ";
-                if(grid[row][col].length() < maxValLen){
-                    for(int i = grid[row][col].length(); i < maxValLen + 1; i++){
-                        result += " ";
-                    }
-                }
-            }
-            result += System.lineSeparator();
+        if (puzzle == null) {
+            return "No puzzle is loaded.";
         }
 
-        //Print out the start of the two letter list section
-        result += System.lineSeparator() + "Two letter list: " +
-        System.lineSeparator() + System.lineSeparator();
-        
-        //Prints out the list of two letter starts.
-        for(int i = 0; i < 7; i++){
-            for (int k = 0; k < 6; k++){
-                if(!twoLetList[i][k].equals("-")){
-                    result += String.format("%-" + 6 + "s", 
-                    twoLetList[i][k].toUpperCase());
-                }
-            }
-            result += System.lineSeparator();
-        }
-        return result;
+        long start = System.nanoTime();
+        String hint = hintRenderer.render(puzzle);
+        SpellingBeeMetrics.get().recordHint(System.nanoTime() - start);
+        return hint;
     }
 
     /**
      * Gets the high scores from the HighScores class.
      */
     public TreeMap<String, Integer> getHighScores() {
-        highScores.loadScores();
-        return highScores.getScores();
+        highScores().loadScores();
+        return highScores().getScores();
     }
 
     /**
@@ -413,8 +350,8 @@ public class GuiController extends Controller {
         Puzzle puzzle = Puzzle.getInstance();
         if (puzzle == null) return false;
         
-        boolean result = highScores.saveScore(userName, puzzle.getEarnedPoints());
-        highScores.loadScores();
+        boolean result = highScores().saveScore(userName, puzzle.getEarnedPoints());
+        highScores().loadScores();
         return result;
     }
 
@@ -425,7 +362,20 @@ public class GuiController extends Controller {
      */
     public boolean isHighScore() {
         Puzzle puzzle = Puzzle.getInstance();
-        return highScores.isHighScore(puzzle.getEarnedPoints());
+        return highScores().isHighScore(puzzle.getEarnedPoints());
+    }
+
+    /**
+     * Gets the high scores, reading them the first time this is called so
+     * that starting the GUI does not wait on the high scores file.
+     *
+     * @return the high scores
+     */
+    private HighScores highScores() {
+        if (highScores == null) {
+            highScores = new HighScores();
+        }
+        return highScores;
     }
 
 }
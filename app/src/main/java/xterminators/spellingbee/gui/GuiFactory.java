@@ -2,6 +2,7 @@ package xterminators.spellingbee.gui;
 
 import java.io.File;
 
+import xterminators.spellingbee.model.DictionarySource;
 import xterminators.spellingbee.ui.Controller;
 import xterminators.spellingbee.ui.UIFactory;
 import xterminators.spellingbee.ui.View;
@@ -11,6 +12,10 @@ public class GuiFactory extends UIFactory {
     private GuiView view;
 
     public GuiFactory(File fullDictionary, File rootsDictionary) {
+        this(DictionarySource.file(fullDictionary), DictionarySource.file(rootsDictionary));
+    }
+
+    public GuiFactory(DictionarySource fullDictionary, DictionarySource rootsDictionary) {
         super(fullDictionary, rootsDictionary);
         
         this.controller = null;
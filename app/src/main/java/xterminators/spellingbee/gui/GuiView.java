@@ -2,19 +2,15 @@ package xterminators.spellingbee.gui;
 
 import xterminators.spellingbee.gui.GuiController;
 
-import javax.swing.Timer;
 import javax.swing.BoxLayout;
 
 import java.util.ArrayList;
-import java.nio.file.Paths;
 
 import java.awt.Font;
 import java.awt.Color;
 import java.awt.Image;
-import java.awt.Robot;
 import java.awt.Toolkit;
 import java.awt.Dimension;
-import java.awt.Rectangle;
 import java.awt.FlowLayout;
 import java.awt.event.KeyEvent;
 import java.awt.event.ActionEvent;
@@ -26,8 +22,7 @@ import java.awt.datatransfer.Transferable;
 
 import java.io.File;
 import java.io.IOException;
-
-import java.nio.file.Paths;
+import java.net.URL;
 
 import java.util.ArrayList;
 import java.util.TreeMap;
@@ -35,19 +30,25 @@ import java.util.Map;
 
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
-import javax.swing.JTextArea;
 import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
 import javax.swing.filechooser.FileNameExtensionFilter;
 
+import xterminators.spellingbee.model.DictionarySource;
 import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleListener;
 import xterminators.spellingbee.model.Rank;
 import xterminators.spellingbee.model.SaveMode;
+import xterminators.spellingbee.ui.PuzzleImageRenderer;
+import xterminators.spellingbee.ui.RankSprites;
 import xterminators.spellingbee.ui.View;
 
 
@@ -70,16 +71,29 @@ public class GuiView extends View {
     private JPanel highScoresPanel;
     private JPanel mainPanel;
     private JPanel rankImagePanel;
-    private JTextArea foundWordsArea;
+    // One label per hex in the rank bar, kept for the life of the view
+    private JLabel[] rankHexLabels;
+    private ImageIcon[] emptyRankIcons;
+    private ImageIcon[] fullRankIcons;
+    private boolean[] rankHexFilled;
+    private JList<String> foundWordsList;
+    private FoundWordsListModel foundWordsModel;
     private JTextField tbGuess;
-    // Used where the guess components are for screen grab
-    private JLabel placeholderLabel;
-
-    // File paths
-    private static final String BEE_PATH = Paths.get("src", "main", "resources", "bee_icon.png").toString();
-    private static final String EMPTY_RANK_START = Paths.get("src", "main", "resources", "hex_empty_start.png").toString();
-    private static final String EMPTY_RANK_END = Paths.get("src", "main", "resources", "hex_empty_end.png").toString();
-    private static final String EMPTY_RANK_MID = Paths.get("src", "main", "resources", "hex_empty.png").toString();
+    // Colors tbGuess when its text cannot become a remaining word
+    private PrefixFeedback prefixFeedback;
+    // Draws the puzzle image copied to the clipboard
+    private PuzzleImageRenderer imageRenderer;
+    // Redraws only the parts of the view a puzzle event changed
+    private PuzzleListener puzzleChanges;
+    // The puzzle the view was last drawn for
+    private Puzzle shownPuzzle;
+
+    // Classpath resources
+    private static final String BEE_RESOURCE = "/bee_icon.png";
+
+    /** Set to exit once the first puzzle is shown, for startup timing. */
+    public static final String EXIT_AFTER_FIRST_PUZZLE_PROPERTY
+        = "spellingbee.exitAfterFirstPuzzle";
 
     // Constants for component coordinates and sizes
     private static final int FRAME_WIDTH = 990;
@@ -96,8 +110,8 @@ public class GuiView extends View {
 
     public GuiView(
         GuiController controller,
-        File dictionaryFile,
-        File rootsDictionaryFile
+        DictionarySource dictionary,
+        DictionarySource rootsDictionary
     ) {
         guiController = controller;
         mainFrame = new JFrame("Spelling Bee");
@@ -105,6 +119,7 @@ public class GuiView extends View {
         standardFont = new Font("Helvetica", Font.BOLD, 16);
         smallFont = new Font("Helvetica", Font.BOLD, 13);
         guessKeyListener = new GuessKeyListener();
+        imageRenderer = new PuzzleImageRenderer();
     }
 
     /**
@@ -117,8 +132,11 @@ public class GuiView extends View {
      */
     public void InitUI() {
         try {
-            Image iconImage = javax.imageio.ImageIO.read(new File(BEE_PATH));
-            mainFrame.setIconImage(iconImage);
+            URL iconResource = GuiView.class.getResource(BEE_RESOURCE);
+            if (iconResource != null) {
+                Image iconImage = javax.imageio.ImageIO.read(iconResource);
+                mainFrame.setIconImage(iconImage);
+            }
         } catch (IOException ex) {
             //ignore, icon just won't get set
         }
@@ -130,12 +148,12 @@ public class GuiView extends View {
         initActionComponents();
         initFoundWordsComponents();
 
+        puzzleChanges = new PuzzleChanges(this::redrawChanges);
+        Puzzle.addListener(puzzleChanges);
+
         mainPanel.setBackground(Color.gray);
         mainFrame.setContentPane(mainPanel);
 
-        // Start off with a random puzzle
-        createRandomPuzzle();
-
         Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
         int centerX = (int) (screenSize.getWidth() - FRAME_WIDTH) / 2;
         int centerY = (int) (screenSize.getHeight() - FRAME_HEIGHT) / 2;
@@ -145,6 +163,13 @@ public class GuiView extends View {
         mainFrame.setResizable(false);
         mainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         mainFrame.setVisible(true);
+
+        // Read the high scores and start off with a random puzzle once the
+        // window is showing, so neither holds up the window appearing.
+        SwingUtilities.invokeLater(() -> {
+            redrawHighScores();
+            createFirstPuzzle();
+        });
     }
 
     /**
@@ -154,6 +179,7 @@ public class GuiView extends View {
         tbGuess = new JTextField();
         tbGuess.setFont(standardFont);
         tbGuess.addKeyListener(guessKeyListener);
+        prefixFeedback = new PrefixFeedback(tbGuess);
         tbGuess.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
@@ -231,6 +257,22 @@ public class GuiView extends View {
         rankImagePanel.setBackground(Color.gray);
         mainPanel.add(rankImagePanel);
 
+        // The icons share the cached sprites, and the labels are only ever
+        // given a new icon when their hex fills or empties.
+        int hexCount = Rank.values().length;
+        rankHexLabels = new JLabel[hexCount];
+        emptyRankIcons = new ImageIcon[hexCount];
+        fullRankIcons = new ImageIcon[hexCount];
+        rankHexFilled = new boolean[hexCount];
+        for (int i = 0; i < hexCount; ++i) {
+            emptyRankIcons[i] = new ImageIcon(RankSprites.forRank(i, hexCount, false));
+            fullRankIcons[i] = new ImageIcon(RankSprites.forRank(i, hexCount, true));
+
+            rankHexLabels[i] = new JLabel(emptyRankIcons[i]);
+            rankImagePanel.add(rankHexLabels[i]);
+        }
+
+        redrawPoints();
         redrawRank();
     }
 
@@ -249,8 +291,6 @@ public class GuiView extends View {
                                     PUZZLE_TOP_Y - 65, HIGH_SCORE_PANEL_WIDTH, FRAME_HEIGHT - 150);
         highScoresPanel.setBackground(Color.gray);
 
-        redrawHighScores();
-
         mainPanel.add(highScoresPanel);
     }
 
@@ -267,6 +307,10 @@ public class GuiView extends View {
         JButton newPuzzleButton = createButton("New Puzzle", 0, 0, 50, 12, actionPanel);
         newPuzzleButton.addActionListener(this::newPuzzleButtonClick);
 
+        // Daily Puzzle
+        JButton dailyPuzzleButton = createButton("Daily Puzzle", 0, 0, 50, 12, actionPanel);
+        dailyPuzzleButton.addActionListener(this::dailyPuzzleButtonClick);
+
         //Random Puzzle
         JButton randomPuzzleButton = createButton("New Random Puzzle", 0, 0, 50, 12, actionPanel);
         randomPuzzleButton.addActionListener(this::randomPuzzleButtonClick);
@@ -277,13 +321,7 @@ public class GuiView extends View {
 
         // Save Puzzle
         JButton savePuzzleButton = createButton("Save Puzzle", 0, 0, 50, 12, actionPanel);
-        savePuzzleButton.addActionListener(e -> {
-            try {
-                savePuzzleButtonClick(e);
-            } catch (IOException a) {
-                System.out.println("There was an I/O error, please try again.");
-            }
-        });
+        savePuzzleButton.addActionListener(this::savePuzzleButtonClick);
 
         // Load Puzzle
         JButton loadPuzzleButton = createButton("Load Puzzle", 0, 0, 50, 12, actionPanel);
@@ -297,6 +335,16 @@ public class GuiView extends View {
         JButton hintButton = createButton("Hint", 0, 0, 50, 12, actionPanel);
         hintButton.addActionListener(this::hintButtonClick);
 
+        // Prefix Feedback
+        JCheckBox prefixFeedbackCheckBox = new JCheckBox("Check Prefixes");
+        prefixFeedbackCheckBox.setFont(smallFont);
+        prefixFeedbackCheckBox.setBackground(Color.gray);
+        prefixFeedbackCheckBox.addActionListener(e -> {
+            prefixFeedback.setEnabled(prefixFeedbackCheckBox.isSelected());
+            tbGuess.requestFocus();
+        });
+        actionPanel.add(prefixFeedbackCheckBox);
+
         //
         // Add subsequent action buttons to actionPanel here
         // unless they are invisible by default, then put them 
@@ -323,12 +371,17 @@ public class GuiView extends View {
         foundWordsPanel.setBackground(Color.gray);
         mainPanel.add(foundWordsPanel);
 
-        foundWordsArea = new JTextArea(20, 15);
-        foundWordsArea.setEditable(false);
-        foundWordsArea.setFont(smallFont);
-        foundWordsArea.setBounds(0, 0, PUZZLE_WIDTH, FRAME_HEIGHT - 115);
-        foundWordsArea.setBackground(Color.white);
-        JScrollPane scrollPane = new JScrollPane(foundWordsArea);
+        // The model gets each found word from the puzzle as it is guessed.
+        // The prototype value gives every cell a fixed size, so the list
+        // never has to measure its words.
+        foundWordsModel = new FoundWordsListModel();
+        Puzzle.addListener(foundWordsModel);
+        foundWordsList = new JList<>(foundWordsModel);
+        foundWordsList.setFont(smallFont);
+        foundWordsList.setBackground(Color.white);
+        foundWordsList.setPrototypeCellValue("m".repeat(15));
+        foundWordsList.setVisibleRowCount(20);
+        JScrollPane scrollPane = new JScrollPane(foundWordsList);
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         foundWordsPanel.add(scrollPane);
     }
@@ -382,17 +435,34 @@ public class GuiView extends View {
             } else {
                 createRandomPuzzle();
             }
-            redrawRank();
-            redrawFoundWords();
-            refocusGuessTextBox();
         }
     }
 
+    /**
+     * The handler for the daily puzzle button click.
+     * Starts the puzzle of the day in the background.
+     *
+     * @param e The ActionEvent from the button click.
+     */
+    private void dailyPuzzleButtonClick(ActionEvent e) {
+        new BackgroundTask<Void>(
+            mainFrame,
+            "Getting the puzzle of the day...",
+            () -> {
+                guiController.createDailyPuzzle();
+                return null;
+            },
+            // The new puzzle is drawn when it replaces the current one
+            result -> {},
+            ex -> showErrorDialog("There was a problem making the daily puzzle. " + ex.getMessage())
+        ).start();
+    }
+
     /**
      * The handler for the shuffle button click.
      * If there is a puzzle loaded, the letters
-     * will be shuffled and the puzzle letter buttons
-     * will be redrawn.
+     * will be shuffled. The puzzle letter buttons
+     * are redrawn when the puzzle says they changed.
      *
      * @param e The ActionEvent from the button click.
      */
@@ -404,8 +474,6 @@ public class GuiView extends View {
         }
 
         puzzle.shuffle();
-
-        redrawPuzzleButtons();
     }
 
     /**
@@ -428,15 +496,12 @@ public class GuiView extends View {
                 return;
         }
 
+        // New words are added to the found words list by its model, and the
+        // points and rank are redrawn only if the guess changed them
         String result = guiController.guessWord(tbGuess.getText());
         if (!result.isEmpty()) {
-            redrawFoundWords();
-            redrawRank();
             showMessage(result);
         }
-        if (guiController.isHighScore()) {
-            saveHighScoreButton.setVisible(true);
-        }
         refocusGuessTextBox();
     }
 
@@ -462,63 +527,63 @@ public class GuiView extends View {
 
             if (userChoice == JOptionPane.YES_OPTION) {
                 createRandomPuzzle();
-                redrawFoundWords();
-                redrawRank();
-                refocusGuessTextBox();
             }
             // No action on NO_OPTION
         } else {
             createRandomPuzzle();
-            redrawFoundWords();
-            redrawRank();
-            refocusGuessTextBox();
         }
     }
 
     /**
      * The function that is called whenever the savepuzzlebutton is clicked.
+     * The puzzle is saved in the background.
      * @param e - The button click
-     * @throws IOException - If an I/O error occurs.
      */
-    private void savePuzzleButtonClick(ActionEvent e) throws IOException{
-        try{
-            JFileChooser fileChooser = new JFileChooser();
-            fileChooser.setCurrentDirectory(new File(System.getProperty("user.home")));
-
-            FileNameExtensionFilter filter = new FileNameExtensionFilter("JSON Files", "json");
-            fileChooser.setFileFilter(filter);
-
-            int returnValue = fileChooser.showSaveDialog(mainFrame);
- 
-            if (returnValue == JFileChooser.APPROVE_OPTION) {
-                File selectedFile = fileChooser.getSelectedFile();
-                
-                int result = JOptionPane.showConfirmDialog(
-                    mainFrame,
-                    "Do you want to save the word list in an encrypted format?",
-                    "Save Encrypted?",
-                    JOptionPane.YES_NO_OPTION
-                );
+    private void savePuzzleButtonClick(ActionEvent e) {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setCurrentDirectory(new File(System.getProperty("user.home")));
 
-                String saveResult;
-                if (result == JOptionPane.YES_OPTION) {
-                    saveResult = 
-                        guiController.savePuzzle(selectedFile.getAbsolutePath(), SaveMode.ENCRYPTED);
-                } else {
-                    saveResult = 
-                        guiController.savePuzzle(selectedFile.getAbsolutePath(), SaveMode.UNENCRYPTED);
-                }
-                
-                showMessage(saveResult);
-            }
-        }
-        catch (IOException a){
-            showErrorDialog("The puzzle could not be saved due to an IO error.");
+        FileNameExtensionFilter filter = new FileNameExtensionFilter("JSON Files", "json");
+        fileChooser.setFileFilter(filter);
+
+        int returnValue = fileChooser.showSaveDialog(mainFrame);
+
+        if (returnValue == JFileChooser.APPROVE_OPTION) {
+            File selectedFile = fileChooser.getSelectedFile();
+
+            int result = JOptionPane.showConfirmDialog(
+                mainFrame,
+                "Do you want to save the word list in an encrypted format?",
+                "Save Encrypted?",
+                JOptionPane.YES_NO_OPTION
+            );
+
+            SaveMode saveMode = (
+                result == JOptionPane.YES_OPTION
+                ? SaveMode.ENCRYPTED
+                : SaveMode.UNENCRYPTED
+            );
+
+            // Guesses can still be made until the progress dialog shows, so
+            // the puzzle is copied here and the copy is saved
+            Puzzle puzzle = Puzzle.getInstance();
+            Puzzle snapshot = puzzle == null ? null : puzzle.snapshot();
+
+            new BackgroundTask<String>(
+                mainFrame,
+                "Saving the puzzle...",
+                () -> guiController.savePuzzle(
+                    snapshot, selectedFile.getAbsolutePath(), saveMode
+                ),
+                this::showMessage,
+                ex -> showErrorDialog("The puzzle could not be saved due to an IO error.")
+            ).start();
         }
     }
 
     /**
      * Function that is called when loadPuzzleButton is clicked.
+     * The puzzle is loaded in the background.
      * @param e - the button click.
      */
     private void loadPuzzleButtonClick(ActionEvent e){
@@ -530,88 +595,41 @@ public class GuiView extends View {
         // Converts the selectedfile name to string format
         String loadFile = "" + j.getSelectedFile() + "";
 
-        // Pop-up informing the user of the results for trying to load the file.
-        showMessage(guiController.loadPuzzle(loadFile));
-
-        // Refreshes the button and foundwords views.
-        Puzzle p = Puzzle.getInstance();
-        if (p != null) {
-            char[] secondaryLetters = p.getSecondaryLetters();
-            char[] allLetters = new char[secondaryLetters.length + 1];
-
-            for (int i = 0; i < letterButtons.size(); ++i) {
-                if (i >= secondaryLetters.length) break;
-                letterButtons.get(i).setText(secondaryLetters[i] + "");
-                allLetters[i] = secondaryLetters[i];
-            }
-            primaryLetterButton.setText(p.getPrimaryLetter() + "");
-
-            allLetters[allLetters.length - 1] = p.getPrimaryLetter();
-            guessKeyListener.setAllowedLetters(allLetters);
-            redrawFoundWords();
-        }
+        new BackgroundTask<String>(
+            mainFrame,
+            "Loading the puzzle...",
+            () -> guiController.loadPuzzle(loadFile),
+            result -> {
+                // Pop-up informing the user of the results for trying to load the file.
+                // The loaded puzzle is drawn when it replaces the current one.
+                showMessage(result);
+            },
+            ex -> showErrorDialog("The puzzle could not be loaded. " + ex.getMessage())
+        ).start();
     }
 
+    /**
+     * The handler for the get puzzle image button click.
+     * Renders the puzzle into an image off screen and
+     * copies it to the clipboard.
+     *
+     * @param e The ActionEvent from the button click.
+     */
     private void screenGrabButtonClick(ActionEvent e) {
-        try {
-            mainPanel.remove(tbGuess);
-            mainPanel.remove(btnGuess);
-
-            placeholderLabel = new JLabel("Spelling Bee");
-            placeholderLabel.setFont(standardFont);
-            placeholderLabel.setBounds(10, PUZZLE_TOP_Y - 90, tbGuess.getWidth(), tbGuess.getHeight());
-
-            mainPanel.add(placeholderLabel);
-            mainPanel.repaint();
-            mainFrame.repaint();
-            // Shrink frame to exclude action buttons and found words
-            int temp = mainFrame.getWidth();
-            mainFrame.setSize(temp - ACTION_PANEL_WIDTH - PUZZLE_WIDTH - 50, mainFrame.getHeight());
-
-            // This is stupid, but necessary because the frame won't be redrawn
-            // until the event handler ends.
-            Timer timer = new Timer(10, new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    try {
-
-                    // Action to be performed after 10 ms
-                    System.out.println("Timer fired after 10 ms");
-
-                    Robot robot = new Robot();
-                    Rectangle frameBounds = mainFrame.getBounds();
-                    Rectangle captureBounds = new Rectangle(frameBounds.x + 10, frameBounds.y + 40, frameBounds.width - 18, frameBounds.height - 55);
-                    BufferedImage screenshot = robot.createScreenCapture(captureBounds);
-
-                    Transferable transferable = new TransferableImage(screenshot);
-
-                    Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
-                    clipboard.setContents(transferable, null);
-
-                    // Restore guess controls
-                    mainPanel.remove(placeholderLabel);
-                    mainPanel.add(tbGuess);
-                    mainPanel.add(btnGuess);
-
-                    mainPanel.repaint();
-                    mainFrame.repaint();
-
-                    // Restore frame size
-                    mainFrame.setSize(temp, mainFrame.getHeight());
-
-                    JOptionPane.showMessageDialog(mainFrame, "Puzzle image copied to clipboard.");
-                    } catch (Exception ex) {
-                        ex.printStackTrace();
-                    }
-                    ((Timer) e.getSource()).stop();
-                }
-            });
-
-            // Start the timer
-            timer.start();
-        } catch (Exception ex) {
-            ex.printStackTrace();
+        Puzzle puzzle = Puzzle.getInstance();
+        if (puzzle == null) {
+            showErrorDialog("No puzzle has been loaded." +
+                " Please click \"New Puzzle\" to start a new puzzle. ");
+            return;
         }
+
+        BufferedImage image = imageRenderer.render(puzzle);
+        Transferable transferable = new TransferableImage(image);
+
+        Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
+        clipboard.setContents(transferable, null);
+
+        showMessage("Puzzle image copied to clipboard.");
     }
 
     private void hintButtonClick(ActionEvent e){
@@ -700,22 +718,99 @@ public class GuiView extends View {
     }
 
     /**
-     * Creates a new puzzle in GuiFunctions,
+     * Creates the random puzzle the GUI starts with. When the
+     * spellingbee.exitAfterFirstPuzzle system property is set, the
+     * app exits once the puzzle is shown, which lets the startup
+     * benchmark time how long the first puzzle takes.
+     */
+    private void createFirstPuzzle() {
+        if (!Boolean.getBoolean(EXIT_AFTER_FIRST_PUZZLE_PROPERTY)) {
+            createRandomPuzzle();
+            return;
+        }
+
+        new BackgroundTask<Void>(
+            mainFrame,
+            "Building the puzzle...",
+            () -> {
+                guiController.createNewPuzzle();
+                return null;
+            },
+            result -> {
+                // Draws the puzzle unless its replaced event already did
+                redrawChanges(PuzzleChanges.PUZZLE_REPLACED);
+                // Exit after the redrawn puzzle has been painted
+                SwingUtilities.invokeLater(() -> System.exit(0));
+            },
+            ex -> System.exit(1)
+        ).start();
+    }
+
+    /**
+     * Creates a new puzzle in GuiFunctions in the background,
      * and then updates all of the letter buttons
      * with the puzzle's letters.
      */
     private void createPuzzle(String baseWord, char requiredLetter) {
-        try {
-            if (baseWord == null || baseWord.isEmpty()) {
-                guiController.createNewPuzzle();
-            } else {
-                guiController.createNewPuzzle(baseWord, requiredLetter);
+        new BackgroundTask<Void>(
+            mainFrame,
+            "Building the puzzle...",
+            () -> {
+                if (baseWord == null || baseWord.isEmpty()) {
+                    guiController.createNewPuzzle();
+                } else {
+                    guiController.createNewPuzzle(baseWord, requiredLetter);
+                }
+                return null;
+            },
+            // The new puzzle is drawn when it replaces the current one
+            result -> {},
+            ex -> showErrorDialog("There was a problem making the puzzle. " + ex.getMessage())
+        ).start();
+    }
+
+    /**
+     * Redraws the parts of the view that changed since the
+     * last puzzle events. Called on the event dispatch thread
+     * with the PuzzleChanges flags of what changed.
+     *
+     * @param changes The flags of everything that changed.
+     */
+    private void redrawChanges(int changes) {
+        if ((changes & PuzzleChanges.PUZZLE_REPLACED) != 0
+            && Puzzle.getInstance() != shownPuzzle)
+        {
+            // Everything is redrawn, so nothing else needs to be
+            redrawPuzzle();
+            return;
+        }
+
+        if ((changes & PuzzleChanges.LETTERS_SHUFFLED) != 0) {
+            redrawPuzzleButtons();
+        }
+        if ((changes & PuzzleChanges.WORDS_FOUND) != 0) {
+            redrawPoints();
+            if (guiController.isHighScore()) {
+                saveHighScoreButton.setVisible(true);
             }
-        } catch (Exception ex) {
-            showErrorDialog("There was a problem making the puzzle. " + ex.getMessage());
         }
+        if ((changes & PuzzleChanges.RANK_CHANGED) != 0) {
+            redrawRank();
+        }
+    }
 
+    /**
+     * Redraws everything that shows the puzzle. This is
+     * necessary whenever the puzzle is replaced.
+     */
+    private void redrawPuzzle() {
+        shownPuzzle = Puzzle.getInstance();
         redrawPuzzleButtons();
+        redrawPoints();
+        redrawRank();
+        redrawFoundWords();
+        prefixFeedback.setPuzzle(shownPuzzle);
+        refocusGuessTextBox();
     }
 
     /**
@@ -743,17 +838,25 @@ public class GuiView extends View {
     }
 
     /**
-     * Draws the rank progress bar.
+     * Sets the current points label to the puzzle's
+     * earned points. This is necessary whenever a
+     * word is found.
+     */
+    private void redrawPoints() {
+        Puzzle p = Puzzle.getInstance();
+        int earnedPoints = p == null ? 0 : p.getEarnedPoints();
+
+        currentPointsLabel.setText("Current Points: " + earnedPoints);
+    }
+
+    /**
+     * Draws the rank name and the rank progress bar.
      * All of the hexes up to the puzzle's
      * current rank will use full rank images,
      * and any hexes above the current rank
      * will use empty rank images.
      */
     private void redrawRank() {
-        final String FULL_RANK_START = Paths.get("src", "main", "resources", "hex_full_start.png").toString();
-        final String FULL_RANK_END = Paths.get("src", "main", "resources", "hex_full_end.png").toString();
-        final String FULL_RANK_MID = Paths.get("src", "main", "resources", "hex_full.png").toString();
-
         int earnedPoints = 0;
         String currentRankName = "None";
         int totalPoints = 100;
@@ -765,42 +868,21 @@ public class GuiView extends View {
             totalPoints = p.getTotalPoints();
         }
 
-        currentPointsLabel.setText("Current Points: " + earnedPoints);
         currentRankLabel.setText("Current Rank: " + currentRankName);
 
         Rank[] allRanks = Rank.values();
 
-        rankImagePanel.removeAll();
-
-        int x = 0;
         for (int i = 0; i < allRanks.length; ++i) {
-            // Do this comparison up here so the code is easier to read
             boolean sufficientPoints = allRanks[i].getRequiredPoints(totalPoints) <= earnedPoints;
 
-            ImageIcon icon = new ImageIcon(EMPTY_RANK_MID);
-            if (sufficientPoints) {
-                    icon = new ImageIcon(FULL_RANK_MID);
-            }
-
-            if (i == 0) {
-                icon = new ImageIcon(EMPTY_RANK_START);
-                if (sufficientPoints) {
-                    icon = new ImageIcon(FULL_RANK_START);
-                }
-            } else if (i == allRanks.length - 1) {
-                icon = new ImageIcon(EMPTY_RANK_END);
-                if (sufficientPoints) {
-                    icon = new ImageIcon(FULL_RANK_END);
-                }
+            // Only touch the labels whose hex changed
+            if (sufficientPoints != rankHexFilled[i]) {
+                rankHexFilled[i] = sufficientPoints;
+                rankHexLabels[i].setIcon(
+                    sufficientPoints ? fullRankIcons[i] : emptyRankIcons[i]
+                );
             }
-            JLabel imageLabel = new JLabel();
-            imageLabel.setIcon(icon);
-            imageLabel.setBounds(x, 0, icon.getIconWidth(), icon.getIconHeight());
-            rankImagePanel.add(imageLabel);
-            x += icon.getIconWidth();
         }
-        rankImagePanel.revalidate();
-        rankImagePanel.repaint();
     }
 
     private void redrawHighScores() {
@@ -821,17 +903,12 @@ public class GuiView extends View {
     }
 
     /**
-     * Fills the found word box with all found words from the puzzle's
-     * found words list.
+     * Fills the found word list with all found words from the puzzle's
+     * found words list. Only needed when the puzzle is replaced, since
+     * words found after that are added to the list as they are guessed.
      */
     private void redrawFoundWords() {
-        foundWordsArea.setText("");
-        Puzzle puzzle = Puzzle.getInstance();
-        if (puzzle != null && puzzle.getFoundWords() != null) {
-            for (String word : puzzle.getFoundWords()) {
-                foundWordsArea.append(word + "\n");
-            }
-        }
+        foundWordsModel.setPuzzle(Puzzle.getInstance());
     }
 
     private void refocusGuessTextBox() {
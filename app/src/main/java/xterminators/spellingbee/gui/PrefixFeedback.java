@@ -0,0 +1,171 @@
+package xterminators.spellingbee.gui;
+
+import java.awt.Color;
+import java.util.concurrent.CompletableFuture;
+
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+import xterminators.spellingbee.model.Dawg;
+import xterminators.spellingbee.model.ExecutionPolicy;
+import xterminators.spellingbee.model.Puzzle;
+
+/**
+ * Colors the guess text box as the player types, showing whether the text
+ * so far can still become a word of the puzzle that has not been found yet.
+ *
+ * Each change walks the puzzle's word graph along the typed text, and
+ * counts the found words with the same prefix. The text is read into a
+ * reused segment instead of a new string, so typing a letter allocates
+ * nothing. The word graph is prepared off the event dispatch thread; until
+ * it is ready, the text box is left as it is.
+ *
+ * The feedback is off until it is enabled. It must only be used on the
+ * event dispatch thread.
+ */
+public class PrefixFeedback implements DocumentListener {
+    /** The color of text that cannot become a remaining word. */
+    static final Color NO_WORDS_COLOR = Color.red;
+
+    private final JTextField textField;
+    private final Color normalColor;
+    /** Holds the text of the text box, reused for every change. */
+    private final Segment text = new Segment();
+
+    private boolean enabled;
+    private Puzzle puzzle;
+    /** The puzzle's word graph, or null while it is being prepared. */
+    private Dawg.View wordGraph;
+    /** Whether the text box is currently showing that no words are left. */
+    private boolean showingNoWords;
+
+    /**
+     * Creates feedback for a text box and starts listening to its text.
+     *
+     * @param textField the text box guesses are typed into
+     */
+    public PrefixFeedback(JTextField textField) {
+        this.textField = textField;
+        this.normalColor = textField.getForeground();
+        textField.getDocument().addDocumentListener(this);
+    }
+
+    /**
+     * Turns the feedback on or off.
+     *
+     * @param enabled whether to show the feedback
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled && wordGraph == null && puzzle != null) {
+            prepare(puzzle);
+        }
+        update();
+    }
+
+    /**
+     * Checks if the feedback is turned on.
+     *
+     * @return true if the feedback is shown
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gives feedback for a new puzzle.
+     *
+     * @param puzzle the puzzle guesses are for, or null if there is none
+     * @return a future that completes once the feedback for the puzzle is
+     *         ready, on the event dispatch thread
+     */
+    public CompletableFuture<Void> setPuzzle(Puzzle puzzle) {
+        this.puzzle = puzzle;
+        this.wordGraph = null;
+        update();
+
+        if (puzzle == null || !enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return prepare(puzzle);
+    }
+
+    /**
+     * Prepares a puzzle's word graph in the background, then shows feedback
+     * with it if the puzzle is still the current one.
+     *
+     * @param forPuzzle the puzzle to prepare
+     * @return a future that completes once the word graph is in use
+     */
+    private CompletableFuture<Void> prepare(Puzzle forPuzzle) {
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+
+        // Run on the model's pool, not the common pool
+        CompletableFuture.supplyAsync(
+            forPuzzle::getWordGraph, ExecutionPolicy.pool()
+        ).whenComplete((graph, error) -> SwingUtilities.invokeLater(() -> {
+            // Without a word graph there is simply no feedback
+            if (graph != null && puzzle == forPuzzle) {
+                wordGraph = graph;
+                update();
+            }
+            ready.complete(null);
+        }));
+
+        return ready;
+    }
+
+    /**
+     * Recolors the text box for its current text.
+     */
+    void update() {
+        boolean noWords = false;
+        if (enabled && wordGraph != null && puzzle != null) {
+            Document document = textField.getDocument();
+            try {
+                document.getText(0, document.getLength(), text);
+            } catch (BadLocationException e) {
+                return;
+            }
+
+            int remaining = wordGraph.countWithPrefix(text)
+                - puzzle.countFoundWithPrefix(text);
+            noWords = remaining <= 0;
+        }
+
+        if (noWords != showingNoWords) {
+            showingNoWords = noWords;
+            textField.setForeground(noWords ? NO_WORDS_COLOR : normalColor);
+        }
+    }
+
+    /**
+     * Checks if the text box is showing that its text cannot become a
+     * remaining word.
+     *
+     * @return true if no remaining word starts with the text
+     */
+    public boolean isShowingNoWords() {
+        return showingNoWords;
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        update();
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        update();
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+        // Only attribute changes, the text is the same
+    }
+}
@@ -0,0 +1,96 @@
+package xterminators.spellingbee.gui;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import javax.swing.SwingUtilities;
+
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleListener;
+import xterminators.spellingbee.model.Rank;
+
+/**
+ * Collects the changes to the current puzzle so the GUI only redraws the
+ * components that changed. Events can come from any thread, so each one only
+ * records what kind of change it was. The recorded changes are then handed
+ * to the view once, on the event dispatch thread, as a set of flags. A batch
+ * of guesses, or a puzzle that is built and then put back, redraws each
+ * component at most once.
+ *
+ * Events about puzzles other than the current one are ignored.
+ */
+public class PuzzleChanges implements PuzzleListener {
+    /** Set when words were found, so the points have changed. */
+    public static final int WORDS_FOUND = 1;
+    /** Set when the rank has changed. */
+    public static final int RANK_CHANGED = 1 << 1;
+    /** Set when the letters were shuffled. */
+    public static final int LETTERS_SHUFFLED = 1 << 2;
+    /** Set when the current puzzle was replaced. */
+    public static final int PUZZLE_REPLACED = 1 << 3;
+
+    /** Gets the changes on the event dispatch thread. */
+    private final IntConsumer redraw;
+    /** The changes not yet handed to the view. */
+    private final AtomicInteger pending = new AtomicInteger();
+    /** Hands the pending changes to the view, made once so events reuse it. */
+    private final Runnable flush = this::flush;
+
+    /**
+     * Creates a listener which hands the changes to the given view.
+     *
+     * @param redraw called on the event dispatch thread with the flags of
+     *               everything that changed since it was last called
+     */
+    public PuzzleChanges(IntConsumer redraw) {
+        this.redraw = redraw;
+    }
+
+    @Override
+    public void wordFound(Puzzle puzzle, String word, int index) {
+        if (puzzle == Puzzle.getInstance()) {
+            record(WORDS_FOUND);
+        }
+    }
+
+    @Override
+    public void rankChanged(Puzzle puzzle, Rank previousRank, Rank rank) {
+        if (puzzle == Puzzle.getInstance()) {
+            record(RANK_CHANGED);
+        }
+    }
+
+    @Override
+    public void lettersShuffled(Puzzle puzzle) {
+        if (puzzle == Puzzle.getInstance()) {
+            record(LETTERS_SHUFFLED);
+        }
+    }
+
+    @Override
+    public void puzzleReplaced(Puzzle previous, Puzzle puzzle) {
+        record(PUZZLE_REPLACED);
+    }
+
+    /**
+     * Records a change, and schedules the view to be redrawn if nothing was
+     * waiting to be redrawn already.
+     *
+     * @param change the flag of the change
+     */
+    private void record(int change) {
+        if (pending.getAndAccumulate(change, (a, b) -> a | b) == 0) {
+            SwingUtilities.invokeLater(flush);
+        }
+    }
+
+    /**
+     * Hands all of the pending changes to the view.
+     */
+    private void flush() {
+        int changes = pending.getAndSet(0);
+        if (changes != 0) {
+            redraw.accept(changes);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package xterminators.spellingbee.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The puzzle of the day. Every date maps to one puzzle, the same for every
+ * player: the date seeds the random choices of the puzzle builder, and
+ * puzzles that do not have the wanted difficulty are skipped using the same
+ * seeded generator.
+ *
+ * If a precomputed calendar covers the date, the puzzle is taken from it
+ * without reading the dictionary. Otherwise it is built, which gives the
+ * same puzzle as long as the dictionaries have not changed.
+ */
+public class DailyPuzzle {
+    /** The system property naming a calendar file to serve puzzles from. */
+    public static final String CALENDAR_PROPERTY = "spellingbee.calendar";
+
+    /** Mixed into every date's seed, so daily puzzles differ from others. */
+    private static final long SEED_SALT = 0x5350454C4C424545L;
+    /** How many puzzles are tried for a date before giving up. */
+    private static final int MAX_ATTEMPTS = 1000;
+
+    private final DictionarySource dictionary;
+    private final DictionarySource rootsDictionary;
+    private final Difficulty difficulty;
+    private final PuzzleCalendar calendar;
+
+    /**
+     * Creates daily puzzles which are always built from the dictionaries.
+     *
+     * @param dictionaryFile the full dictionary of usable words
+     * @param rootsDictionaryFile the dictionary of valid root words
+     * @param difficulty the difficulty of every daily puzzle
+     */
+    public DailyPuzzle(
+        File dictionaryFile,
+        File rootsDictionaryFile,
+        Difficulty difficulty
+    ) {
+        this(dictionaryFile, rootsDictionaryFile, difficulty, null);
+    }
+
+    /**
+     * Creates daily puzzles which are taken from a calendar when it covers
+     * the date. The calendar is only used if it has the same difficulty.
+     *
+     * @param dictionaryFile the full dictionary of usable words
+     * @param rootsDictionaryFile the dictionary of valid root words
+     * @param difficulty the difficulty of every daily puzzle
+     * @param calendar the precomputed puzzles, or null if there are none
+     */
+    public DailyPuzzle(
+        File dictionaryFile,
+        File rootsDictionaryFile,
+        Difficulty difficulty,
+        PuzzleCalendar calendar
+    ) {
+        this(
+            DictionarySource.file(dictionaryFile),
+            DictionarySource.file(rootsDictionaryFile),
+            difficulty,
+            calendar
+        );
+    }
+
+    /**
+     * Creates daily puzzles which are taken from a calendar when it covers
+     * the date. The calendar is only used if it has the same difficulty.
+     *
+     * @param dictionary the full dictionary of usable words
+     * @param rootsDictionary the dictionary of valid root words
+     * @param difficulty the difficulty of every daily puzzle
+     * @param calendar the precomputed puzzles, or null if there are none
+     */
+    public DailyPuzzle(
+        DictionarySource dictionary,
+        DictionarySource rootsDictionary,
+        Difficulty difficulty,
+        PuzzleCalendar calendar
+    ) {
+        this.dictionary = dictionary;
+        this.rootsDictionary = rootsDictionary;
+        this.difficulty = difficulty;
+        this.calendar = (
+            calendar != null && calendar.difficulty() == difficulty
+            ? calendar
+            : null
+        );
+    }
+
+    /**
+     * Creates daily puzzles of medium difficulty, using the calendar named by
+     * the spellingbee.calendar system property if it is set and readable.
+     *
+     * @param dictionaryFile the full dictionary of usable words
+     * @param rootsDictionaryFile the dictionary of valid root words
+     * @return the daily puzzles
+     */
+    public static DailyPuzzle withDefaultCalendar(
+        File dictionaryFile,
+        File rootsDictionaryFile
+    ) {
+        return withDefaultCalendar(
+            DictionarySource.file(dictionaryFile),
+            DictionarySource.file(rootsDictionaryFile)
+        );
+    }
+
+    /**
+     * Creates daily puzzles of medium difficulty, using the calendar named by
+     * the spellingbee.calendar system property if it is set and readable.
+     *
+     * @param dictionary the full dictionary of usable words
+     * @param rootsDictionary the dictionary of valid root words
+     * @return the daily puzzles
+     */
+    public static DailyPuzzle withDefaultCalendar(
+        DictionarySource dictionary,
+        DictionarySource rootsDictionary
+    ) {
+        PuzzleCalendar calendar = null;
+        String calendarPath = System.getProperty(CALENDAR_PROPERTY);
+        if (calendarPath != null) {
+            try {
+                calendar = PuzzleCalendar.read(new File(calendarPath));
+            } catch (IOException e) {
+                // Build the puzzles instead, they are the same either way
+            }
+        }
+
+        Difficulty difficulty = calendar == null
+            ? Difficulty.MEDIUM
+            : calendar.difficulty();
+        return new DailyPuzzle(
+            dictionary, rootsDictionary, difficulty, calendar
+        );
+    }
+
+    /**
+     * Gets the difficulty of the daily puzzles.
+     *
+     * @return the difficulty of the daily puzzles
+     */
+    public Difficulty difficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Makes the puzzle of the given date the current puzzle.
+     *
+     * @param date the date of the puzzle
+     * @return the new puzzle
+     * @throws IOException if the puzzle had to be built and the dictionaries
+     *                     could not be read
+     */
+    public Puzzle puzzleFor(LocalDate date) throws IOException {
+        return Puzzle.fromDefinition(definitionFor(date), dictionary);
+    }
+
+    /**
+     * Gets the definition of the puzzle of the given date. This does not
+     * change the current puzzle.
+     *
+     * @param date the date of the puzzle
+     * @return the definition of the date's puzzle
+     * @throws IOException if the puzzle had to be built and the dictionaries
+     *                     could not be read
+     * @throws IllegalStateException if no puzzle of the wanted difficulty
+     *                               was found for the date
+     */
+    public PuzzleDefinition definitionFor(LocalDate date) throws IOException {
+        if (calendar != null) {
+            Optional<PuzzleDefinition> definition = calendar.definitionFor(date);
+            if (definition.isPresent()) {
+                return definition.get();
+            }
+        }
+        return build(date);
+    }
+
+    /**
+     * Builds the puzzle of a date from the dictionaries.
+     *
+     * @param date the date of the puzzle
+     * @return the definition of the date's puzzle
+     * @throws IOException if the dictionaries could not be read
+     */
+    private PuzzleDefinition build(LocalDate date) throws IOException {
+        RandomGenerator rng = randomFor(date);
+
+        // Candidates are built without making them the current puzzle, so
+        // listeners never hear of the ones that are thrown away
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            PuzzleBuilder builder
+                = new PuzzleBuilder(dictionary, rootsDictionary);
+            PuzzleDefinition definition = builder.buildDefinition(rng);
+
+            if (difficulty.matches(definition.helpData().numWords())) {
+                // Sorted, like the words of a calendar's puzzles
+                List<String> words = new ArrayList<>(definition.validWords());
+                Collections.sort(words);
+                return new PuzzleDefinition(
+                    definition.requiredLetter(),
+                    definition.secondaryLetters(),
+                    words,
+                    definition.helpData()
+                );
+            }
+        }
+
+        throw new IllegalStateException(
+            "No " + difficulty + " puzzle was found for " + date + "."
+        );
+    }
+
+    /**
+     * Gets the random number generator for a date. The same date always
+     * gives a generator with the same sequence of numbers.
+     *
+     * @param date the date
+     * @return a new generator seeded by the date
+     */
+    public static RandomGenerator randomFor(LocalDate date) {
+        return new SplittableRandom(SEED_SALT ^ date.toEpochDay());
+    }
+}
@@ -0,0 +1,564 @@
+package xterminators.spellingbee.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A directed acyclic word graph (DAWG) of a dictionary, for fast prefix
+ * queries. A DAWG is a trie in which identical subtrees are shared, so
+ * words with the same endings, like "-ing" and "-ness", share their nodes.
+ *
+ * Once built, the graph is stored as a handful of primitive arrays. Nodes are
+ * numbered so that every node comes after all of its children, and the edges
+ * of each node are stored together, sorted by letter. Each node also stores
+ * how many words can be reached from it, so counting the words with a prefix
+ * is a single walk down the prefix.
+ *
+ * A puzzle only allows some letters, so {@link #restrict(char, char[])}
+ * gives a view of the graph that only contains the words of a puzzle. A
+ * view keeps two counts for every node of the graph, so a view kept with a
+ * puzzle should be of a graph of the puzzle's words, not of the whole
+ * dictionary.
+ */
+public final class Dawg {
+    /** The index of the first edge of each node, with one extra at the end. */
+    private final int[] firstEdge;
+    /** The letter of each edge. */
+    private final char[] edgeLetters;
+    /** The node each edge leads to. */
+    private final int[] edgeTargets;
+    /** Whether each node ends a word, as a bit set. */
+    private final long[] terminal;
+    /** The number of words that can be reached from each node. */
+    private final int[] wordCounts;
+    /** The node every word starts from. */
+    private final int root;
+
+    private Dawg(
+        int[] firstEdge,
+        char[] edgeLetters,
+        int[] edgeTargets,
+        long[] terminal,
+        int[] wordCounts,
+        int root
+    ) {
+        this.firstEdge = firstEdge;
+        this.edgeLetters = edgeLetters;
+        this.edgeTargets = edgeTargets;
+        this.terminal = terminal;
+        this.wordCounts = wordCounts;
+        this.root = root;
+    }
+
+    /**
+     * Builds a DAWG of the words in a dictionary.
+     *
+     * @param dictionary the dictionary to build from
+     * @return the DAWG of every word in the dictionary
+     */
+    public static Dawg of(DictionaryIndex dictionary) {
+        String[] words = new String[dictionary.size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = dictionary.word(i);
+        }
+        return of(words);
+    }
+
+    /**
+     * Builds a DAWG of the given words.
+     *
+     * @param words the words, in any order and possibly with duplicates
+     * @return the DAWG of the words
+     */
+    public static Dawg of(String[] words) {
+        String[] sorted = Arrays.copyOf(words, words.length);
+        Arrays.sort(sorted);
+
+        Builder builder = new Builder();
+        for (String word : sorted) {
+            builder.add(word);
+        }
+        return builder.freeze();
+    }
+
+    /**
+     * Gets the number of nodes in the graph.
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return wordCounts.length;
+    }
+
+    /**
+     * Gets the number of edges in the graph.
+     *
+     * @return the number of edges
+     */
+    public int edgeCount() {
+        return edgeTargets.length;
+    }
+
+    /**
+     * Gets the number of words in the graph.
+     *
+     * @return the number of words
+     */
+    public int wordCount() {
+        return wordCounts[root];
+    }
+
+    /**
+     * Estimates the memory used by the graph's arrays, including their
+     * headers.
+     *
+     * @return the estimated size of the graph in bytes
+     */
+    public long memoryBytes() {
+        final int arrayHeader = 16;
+        return (arrayHeader + 4L * firstEdge.length)
+            + (arrayHeader + 2L * edgeLetters.length)
+            + (arrayHeader + 4L * edgeTargets.length)
+            + (arrayHeader + 8L * terminal.length)
+            + (arrayHeader + 4L * wordCounts.length);
+    }
+
+    /**
+     * Checks if a word is in the graph.
+     *
+     * @param word the word to check
+     * @return true if the word is in the graph
+     */
+    public boolean contains(CharSequence word) {
+        int node = walk(word);
+        return node != -1 && isTerminal(node);
+    }
+
+    /**
+     * Checks if any word in the graph starts with the given prefix. Every
+     * word is a prefix of itself.
+     *
+     * @param prefix the prefix to check
+     * @return true if a word starts with the prefix
+     */
+    public boolean isPrefix(CharSequence prefix) {
+        return walk(prefix) != -1;
+    }
+
+    /**
+     * Counts the words in the graph that start with the given prefix.
+     *
+     * @param prefix the prefix to count
+     * @return the number of words that start with the prefix
+     */
+    public int countWithPrefix(CharSequence prefix) {
+        int node = walk(prefix);
+        return node == -1 ? 0 : wordCounts[node];
+    }
+
+    /**
+     * Gives a view of the graph containing only the words of a puzzle: the
+     * words that use only the puzzle's letters and include its primary
+     * letter.
+     *
+     * @param primaryLetter the required letter of the puzzle
+     * @param secondaryLetters the other letters of the puzzle
+     * @return the view of the puzzle's words
+     */
+    public View restrict(char primaryLetter, char[] secondaryLetters) {
+        return new View(primaryLetter, secondaryLetters);
+    }
+
+    /**
+     * Follows a word from the root.
+     *
+     * @param word the letters to follow
+     * @return the node the word leads to, or -1 if it leaves the graph
+     */
+    private int walk(CharSequence word) {
+        int node = root;
+        for (int i = 0; i < word.length() && node != -1; i++) {
+            node = child(node, word.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Finds the child of a node along the edge with the given letter.
+     *
+     * @param node the parent node
+     * @param letter the letter of the edge
+     * @return the child, or -1 if the node has no edge with the letter
+     */
+    private int child(int node, char letter) {
+        for (int edge = firstEdge[node]; edge < firstEdge[node + 1]; edge++) {
+            if (edgeLetters[edge] == letter) {
+                return edgeTargets[edge];
+            } else if (edgeLetters[edge] > letter) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isTerminal(int node) {
+        return (terminal[node >>> 6] & (1L << node)) != 0;
+    }
+
+    /**
+     * The words of a single puzzle. Each node of the graph is given two
+     * counts: the number of puzzle words that can still be completed from
+     * the node before the primary letter has been used, and after. Words
+     * must use the primary letter, so which count applies depends on the
+     * letters already typed.
+     *
+     * The counts are computed in one pass over the nodes when the view is
+     * created. After that, every query is a walk down the prefix.
+     */
+    public final class View {
+        private final char primaryLetter;
+        /** The letters of the puzzle, as a letter mask. */
+        private final int allowedMask;
+        /** Words completable from each node, if the primary letter is unused. */
+        private final int[] countsWithoutPrimary;
+        /** Words completable from each node, once the primary letter is used. */
+        private final int[] countsWithPrimary;
+
+        private View(char primaryLetter, char[] secondaryLetters) {
+            this.primaryLetter = primaryLetter;
+
+            int mask = DictionaryIndex.letterBit(primaryLetter);
+            for (char c : secondaryLetters) {
+                mask |= DictionaryIndex.letterBit(c);
+            }
+            this.allowedMask = mask;
+
+            int nodes = wordCounts.length;
+            countsWithoutPrimary = new int[nodes];
+            countsWithPrimary = new int[nodes];
+
+            // Children are numbered before their parents, so a single pass
+            // in order sees every child's counts before its parent's.
+            for (int node = 0; node < nodes; node++) {
+                int without = 0;
+                int with = isTerminal(node) ? 1 : 0;
+
+                for (int edge = firstEdge[node]; edge < firstEdge[node + 1]; edge++) {
+                    char letter = edgeLetters[edge];
+                    if (!isAllowed(letter)) {
+                        continue;
+                    }
+
+                    int target = edgeTargets[edge];
+                    with += countsWithPrimary[target];
+                    without += letter == primaryLetter
+                        ? countsWithPrimary[target]
+                        : countsWithoutPrimary[target];
+                }
+
+                countsWithoutPrimary[node] = without;
+                countsWithPrimary[node] = with;
+            }
+        }
+
+        /**
+         * Estimates the memory used by the view, including the graph it
+         * views and its own counts.
+         *
+         * @return the estimated size of the view in bytes
+         */
+        public long memoryBytes() {
+            final int arrayHeader = 16;
+            return Dawg.this.memoryBytes()
+                + 2 * (arrayHeader + 4L * countsWithPrimary.length);
+        }
+
+        /**
+         * Gets the number of words in the puzzle.
+         *
+         * @return the number of words
+         */
+        public int wordCount() {
+            return countsWithoutPrimary[root];
+        }
+
+        /**
+         * Checks if a word is one of the puzzle's words.
+         *
+         * @param word the word to check
+         * @return true if the word is in the puzzle
+         */
+        public boolean contains(CharSequence word) {
+            int node = walkAllowed(word);
+            return node != -1 && isTerminal(node) && usesPrimary(word);
+        }
+
+        /**
+         * Checks if any of the puzzle's words start with the given prefix.
+         *
+         * @param prefix the prefix to check
+         * @return true if a word of the puzzle starts with the prefix
+         */
+        public boolean isPrefix(CharSequence prefix) {
+            return countWithPrefix(prefix) > 0;
+        }
+
+        /**
+         * Counts the puzzle's words that start with the given prefix.
+         *
+         * @param prefix the prefix to count
+         * @return the number of the puzzle's words that start with it
+         */
+        public int countWithPrefix(CharSequence prefix) {
+            int node = walkAllowed(prefix);
+            if (node == -1) {
+                return 0;
+            }
+            return usesPrimary(prefix)
+                ? countsWithPrimary[node]
+                : countsWithoutPrimary[node];
+        }
+
+        /**
+         * Finds the letters that can come next after a prefix while still
+         * leading to one of the puzzle's words.
+         *
+         * @param prefix the letters typed so far
+         * @return a letter mask of the possible next letters
+         */
+        public int nextLetters(CharSequence prefix) {
+            int node = walkAllowed(prefix);
+            if (node == -1) {
+                return 0;
+            }
+
+            boolean used = usesPrimary(prefix);
+            int letters = 0;
+            for (int edge = firstEdge[node]; edge < firstEdge[node + 1]; edge++) {
+                char letter = edgeLetters[edge];
+                if (!isAllowed(letter)) {
+                    continue;
+                }
+
+                int target = edgeTargets[edge];
+                int count = used || letter == primaryLetter
+                    ? countsWithPrimary[target]
+                    : countsWithoutPrimary[target];
+                if (count > 0) {
+                    letters |= DictionaryIndex.letterBit(letter);
+                }
+            }
+            return letters;
+        }
+
+        private boolean isAllowed(char letter) {
+            return (DictionaryIndex.letterBit(letter) & allowedMask) != 0;
+        }
+
+        private boolean usesPrimary(CharSequence word) {
+            for (int i = 0; i < word.length(); i++) {
+                if (word.charAt(i) == primaryLetter) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Follows a word from the root using only the puzzle's letters.
+         *
+         * @param word the letters to follow
+         * @return the node the word leads to, or -1 if it leaves the puzzle
+         */
+        private int walkAllowed(CharSequence word) {
+            int node = root;
+            for (int i = 0; i < word.length() && node != -1; i++) {
+                char letter = word.charAt(i);
+                node = isAllowed(letter) ? child(node, letter) : -1;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Builds a minimal DAWG from words added in sorted order. This is the
+     * incremental algorithm of Daciuk et al.: once a word is added, the
+     * part of the previous word that it does not share can never change
+     * again, so those nodes are merged with identical nodes right away.
+     */
+    private static final class Builder {
+        /** A node of the graph while it is being built. */
+        private static final class Node {
+            char[] letters = new char[0];
+            Node[] children = new Node[0];
+            boolean terminal;
+
+            void addChild(char letter, Node child) {
+                int size = letters.length;
+                letters = Arrays.copyOf(letters, size + 1);
+                children = Arrays.copyOf(children, size + 1);
+                letters[size] = letter;
+                children[size] = child;
+            }
+
+            Node lastChild() {
+                return children[children.length - 1];
+            }
+
+            void replaceLastChild(Node child) {
+                children[children.length - 1] = child;
+            }
+
+            // Two nodes are equal if they end a word alike and have the same
+            // edges to the same (already merged) children.
+            @Override
+            public boolean equals(Object other) {
+                if (!(other instanceof Node node)) {
+                    return false;
+                }
+                if (terminal != node.terminal
+                    || !Arrays.equals(letters, node.letters))
+                {
+                    return false;
+                }
+                for (int i = 0; i < children.length; i++) {
+                    if (children[i] != node.children[i]) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public int hashCode() {
+                int hash = terminal ? 1 : 0;
+                for (int i = 0; i < children.length; i++) {
+                    hash = 31 * hash + letters[i];
+                    hash = 31 * hash + System.identityHashCode(children[i]);
+                }
+                return hash;
+            }
+        }
+
+        private final Node root = new Node();
+        /** Every merged node, so identical nodes can be found. */
+        private final Map<Node, Node> register = new HashMap<>();
+        /** The nodes of the last word that have not been merged yet. */
+        private final List<Node> unchecked = new ArrayList<>();
+        private String previous = "";
+
+        void add(String word) {
+            if (word.equals(previous) && !unchecked.isEmpty()) {
+                return;
+            }
+
+            int common = 0;
+            int max = Math.min(word.length(), previous.length());
+            while (common < max && word.charAt(common) == previous.charAt(common)) {
+                common++;
+            }
+
+            minimize(common);
+
+            Node node = unchecked.isEmpty() ? root : unchecked.get(unchecked.size() - 1);
+            for (int i = common; i < word.length(); i++) {
+                Node child = new Node();
+                node.addChild(word.charAt(i), child);
+                unchecked.add(child);
+                node = child;
+            }
+            node.terminal = true;
+            previous = word;
+        }
+
+        /**
+         * Merges the unchecked nodes deeper than the given depth.
+         *
+         * @param depth the depth of the deepest node to keep unchecked
+         */
+        private void minimize(int depth) {
+            for (int i = unchecked.size() - 1; i >= depth; i--) {
+                Node parent = i == 0 ? root : unchecked.get(i - 1);
+                Node child = unchecked.remove(i);
+                Node existing = register.putIfAbsent(child, child);
+                if (existing != null) {
+                    parent.replaceLastChild(existing);
+                }
+            }
+        }
+
+        Dawg freeze() {
+            minimize(0);
+
+            // Number the nodes so every node comes after its children
+            Map<Node, Integer> ids = new IdentityHashMap<>();
+            List<Node> ordered = new ArrayList<>();
+            number(root, ids, ordered);
+
+            int nodes = ordered.size();
+            int edges = 0;
+            for (Node node : ordered) {
+                edges += node.children.length;
+            }
+
+            int[] firstEdge = new int[nodes + 1];
+            char[] edgeLetters = new char[edges];
+            int[] edgeTargets = new int[edges];
+            long[] terminal = new long[(nodes + 63) / 64];
+            int[] wordCounts = new int[nodes];
+
+            int edge = 0;
+            for (int id = 0; id < nodes; id++) {
+                Node node = ordered.get(id);
+                firstEdge[id] = edge;
+
+                int count = 0;
+                if (node.terminal) {
+                    terminal[id >>> 6] |= 1L << id;
+                    count++;
+                }
+
+                for (int i = 0; i < node.children.length; i++) {
+                    int target = ids.get(node.children[i]);
+                    edgeLetters[edge] = node.letters[i];
+                    edgeTargets[edge] = target;
+                    count += wordCounts[target];
+                    edge++;
+                }
+                wordCounts[id] = count;
+            }
+            firstEdge[nodes] = edge;
+
+            return new Dawg(
+                firstEdge, edgeLetters, edgeTargets, terminal, wordCounts,
+                ids.get(root)
+            );
+        }
+
+        /**
+         * Numbers a node after all of its children.
+         *
+         * @param node the node to number
+         * @param ids the numbers given so far
+         * @param ordered the nodes in number order
+         */
+        private static void number(
+            Node node,
+            Map<Node, Integer> ids,
+            List<Node> ordered
+        ) {
+            if (ids.containsKey(node)) {
+                return;
+            }
+            for (Node child : node.children) {
+                number(child, ids, ordered);
+            }
+            ids.put(node, ordered.size());
+            ordered.add(node);
+        }
+    }
+}
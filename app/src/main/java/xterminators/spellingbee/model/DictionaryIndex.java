@@ -0,0 +1,464 @@
+package xterminators.spellingbee.model;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * An in memory copy of a dictionary file, read once and shared by every
+ * puzzle that uses the same file. Each word is stored with a bit mask of the
+ * letters it uses, so checking if a word fits a puzzle's letters is a couple
+ * of integer operations instead of a scan over its characters.
+ *
+ * Indexes are cached by the name and version of their source, so a
+ * dictionary file that changes on disk is read again the next time it is
+ * used. A DictionaryWatcher can instead publish each new version once it
+ * has been read in full, so no lookup ever reads a file that is still being
+ * written.
+ */
+public final class DictionaryIndex {
+    /**
+     * The bit set in a mask for any character that is not a lowercase letter.
+     * Puzzles never allow this bit, so words with such characters never fit.
+     */
+    public static final int NON_LETTER_BIT = 1 << 31;
+
+    /**
+     * Identifies one version of a dictionary.
+     *
+     * @param name the name of the dictionary's source
+     * @param version the version of the source's contents
+     */
+    private record Key(String name, String version) {}
+
+    /** The loaded and loading indexes. */
+    private static final ConcurrentMap<Key, CompletableFuture<DictionaryIndex>> CACHE
+        = new ConcurrentHashMap<>();
+
+    /**
+     * The indexes published by a watcher, by the name of their source. These
+     * are used in place of the cache until they are withdrawn.
+     */
+    private static final ConcurrentMap<String, DictionaryIndex> PUBLISHED
+        = new ConcurrentHashMap<>();
+
+    /** The starting hash of the 64 bit FNV-1a hash of the words. */
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    /** The multiplier of the 64 bit FNV-1a hash of the words. */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** Runs preloads, on daemon threads so they never keep the app open. */
+    private static final Executor PRELOAD_EXECUTOR = runnable -> {
+        Thread thread = new Thread(runnable, "dictionary-preload");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    /** The words of the dictionary, in file order. */
+    private final String[] words;
+    /** The letter mask of each word. */
+    private final int[] masks;
+    /** The version of the words, a hash of their contents. */
+    private final String version;
+    /**
+     * The indexes of the words in sorted order of the words, created the
+     * first time a word is looked up.
+     */
+    private volatile int[] sortedIndexes;
+    /** The recently built puzzles of this dictionary. */
+    private final PuzzleCache puzzleCache = PuzzleCache.withDefaultSize();
+
+    private DictionaryIndex(String[] words, int[] masks, long hash) {
+        this.words = words;
+        this.masks = masks;
+        this.version = String.format("%016x", hash);
+    }
+
+    /**
+     * Gets the index of a dictionary file, reading the file if it has not
+     * been read since it last changed. If another thread is already reading
+     * the file, this waits for that read instead of starting another.
+     *
+     * @param file the dictionary file
+     * @return the index of the file
+     * @throws FileNotFoundException if the file does not exist
+     * @throws IOException if the file could not be read
+     */
+    public static DictionaryIndex of(File file) throws IOException {
+        return of(DictionarySource.file(file));
+    }
+
+    /**
+     * Gets the index of a dictionary, reading it if it has not been read
+     * since its version last changed. If another thread is already reading
+     * the dictionary, this waits for that read instead of starting another.
+     *
+     * @param source the source of the dictionary
+     * @return the index of the dictionary
+     * @throws FileNotFoundException if the source does not exist
+     * @throws IOException if the source could not be read
+     */
+    public static DictionaryIndex of(DictionarySource source) throws IOException {
+        try {
+            return lookup(source, Runnable::run).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts reading a dictionary file on a background thread, so it is
+     * ready by the time a puzzle needs it. Does nothing if the file has
+     * already been read or is being read.
+     *
+     * @param file the dictionary file
+     * @return a future that completes once the index is ready
+     */
+    public static CompletableFuture<DictionaryIndex> preload(File file) {
+        return preload(DictionarySource.file(file));
+    }
+
+    /**
+     * Starts reading a dictionary on a background thread, so it is ready by
+     * the time a puzzle needs it. Does nothing if the dictionary has already
+     * been read or is being read.
+     *
+     * @param source the source of the dictionary
+     * @return a future that completes once the index is ready
+     */
+    public static CompletableFuture<DictionaryIndex> preload(DictionarySource source) {
+        try {
+            return lookup(source, PRELOAD_EXECUTOR);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Gets the index of a dictionary file only if it has already been read,
+     * without reading the file.
+     *
+     * @param file the dictionary file
+     * @return the index of the file, or null if it has not been read since
+     *         it last changed
+     */
+    public static DictionaryIndex ifLoaded(File file) {
+        return ifLoaded(DictionarySource.file(file));
+    }
+
+    /**
+     * Gets the index of a dictionary only if it has already been read,
+     * without reading it.
+     *
+     * @param source the source of the dictionary
+     * @return the index of the dictionary, or null if it has not been read
+     *         since its version last changed
+     */
+    public static DictionaryIndex ifLoaded(DictionarySource source) {
+        DictionaryIndex published = PUBLISHED.get(source.name());
+        if (published != null) {
+            return published;
+        }
+
+        if (!source.exists()) {
+            return null;
+        }
+
+        try {
+            Key key = new Key(source.name(), source.version());
+            CompletableFuture<DictionaryIndex> loaded = CACHE.get(key);
+            return loaded != null && loaded.isDone() && !loaded.isCompletedExceptionally()
+                ? loaded.join()
+                : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds or starts the load of a dictionary.
+     *
+     * @param source the source of the dictionary
+     * @param executor runs the load if it has not been started yet
+     * @return the future index of the dictionary
+     * @throws FileNotFoundException if the source does not exist
+     * @throws IOException if the version of the source could not be found
+     */
+    private static CompletableFuture<DictionaryIndex> lookup(
+        DictionarySource source,
+        Executor executor
+    ) throws IOException {
+        DictionaryIndex published = PUBLISHED.get(source.name());
+        if (published != null) {
+            return CompletableFuture.completedFuture(published);
+        }
+
+        if (!source.exists()) {
+            throw new FileNotFoundException(
+                "The dictionary (" + source.name() + ") does not exist."
+            );
+        }
+
+        Key key = new Key(source.name(), source.version());
+
+        CompletableFuture<DictionaryIndex> loading = new CompletableFuture<>();
+        CompletableFuture<DictionaryIndex> existing = CACHE.putIfAbsent(key, loading);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Drop any older versions of the same dictionary
+        CACHE.keySet().removeIf(
+            other -> other.name().equals(key.name()) && !other.equals(key)
+        );
+
+        executor.execute(() -> {
+            try {
+                loading.complete(read(source));
+            } catch (IOException e) {
+                // Let the next caller try again
+                CACHE.remove(key, loading);
+                loading.completeExceptionally(new UncheckedIOException(e));
+            } catch (RuntimeException | Error e) {
+                CACHE.remove(key, loading);
+                loading.completeExceptionally(e);
+            }
+        });
+
+        return loading;
+    }
+
+    /**
+     * Makes an index the one used for its dictionary, in place of reading
+     * the dictionary, until it is withdrawn. Lookups see either the old or
+     * the new index, never a mix of the two.
+     *
+     * @param source the source of the dictionary
+     * @param index the index to use for the dictionary
+     */
+    static void publish(DictionarySource source, DictionaryIndex index) {
+        PUBLISHED.put(source.name(), index);
+
+        // Versions read by the cache are no longer used
+        CACHE.keySet().removeIf(key -> key.name().equals(source.name()));
+    }
+
+    /**
+     * Stops using the published index of a dictionary, so it is read from
+     * its source again.
+     *
+     * @param source the source of the dictionary
+     */
+    static void withdraw(DictionarySource source) {
+        PUBLISHED.remove(source.name());
+    }
+
+    /**
+     * Reads a dictionary into a new index, without using or filling the
+     * cache. Every non-empty line is a word. The words and their masks go
+     * straight into the index's arrays as the lines are read, so nothing
+     * else is built along the way, even for a compressed source. The words
+     * are hashed as they are read to give the index's version.
+     *
+     * @param source the source of the dictionary
+     * @return a new index of the dictionary
+     * @throws FileNotFoundException if the source does not exist
+     * @throws IOException if the source could not be read
+     */
+    public static DictionaryIndex read(DictionarySource source) throws IOException {
+        String[] words = new String[1 << 16];
+        int[] masks = new int[words.length];
+        int size = 0;
+        long hash = FNV_OFFSET_BASIS;
+
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(source.open(), StandardCharsets.UTF_8),
+            64 * 1024
+        )) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (size == words.length) {
+                    words = Arrays.copyOf(words, size * 2);
+                    masks = Arrays.copyOf(masks, size * 2);
+                }
+                words[size] = line;
+                masks[size] = mask(line);
+                size++;
+
+                for (int i = 0; i < line.length(); i++) {
+                    hash = (hash ^ line.charAt(i)) * FNV_PRIME;
+                }
+                hash = (hash ^ '\n') * FNV_PRIME;
+            }
+        }
+
+        return new DictionaryIndex(
+            Arrays.copyOf(words, size),
+            Arrays.copyOf(masks, size),
+            hash
+        );
+    }
+
+    /**
+     * Gets the bit for a single letter.
+     *
+     * @param letter the letter
+     * @return the bit for the letter, or 0 if it is not a lowercase letter
+     */
+    public static int letterBit(char letter) {
+        if (letter < 'a' || letter > 'z') {
+            return 0;
+        }
+        return 1 << (letter - 'a');
+    }
+
+    /**
+     * Gets the mask of the letters in a word. Any character that is not a
+     * lowercase letter sets NON_LETTER_BIT.
+     *
+     * @param word the word
+     * @return the mask of the letters in the word
+     */
+    public static int mask(CharSequence word) {
+        int mask = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int bit = letterBit(word.charAt(i));
+            mask |= bit == 0 ? NON_LETTER_BIT : bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the version of the dictionary's words. Two indexes with the same
+     * words in the same order have the same version, whatever their source.
+     *
+     * @return the version of the words, as 16 hex digits
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * Gets the number of words in the dictionary.
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * Gets a word of the dictionary.
+     *
+     * @param index the index of the word, in file order
+     * @return the word
+     */
+    public String word(int index) {
+        return words[index];
+    }
+
+    /**
+     * Gets the letter mask of a word of the dictionary.
+     *
+     * @param index the index of the word, in file order
+     * @return the mask of the letters in the word
+     */
+    public int mask(int index) {
+        return masks[index];
+    }
+
+    /**
+     * Gets the words of the dictionary without copying them. This is the
+     * pool that puzzles take their words from, so a word is stored once
+     * however many puzzles use it.
+     *
+     * @return the words, in file order, which must not be changed
+     */
+    String[] words() {
+        return words;
+    }
+
+    /**
+     * Checks if the dictionary contains a word.
+     *
+     * @param word the word to look for
+     * @return true if the word is in the dictionary
+     */
+    public boolean contains(String word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * Finds the index of a word. The words are sorted the first time a word
+     * is looked up, which is only needed when a puzzle is made from words
+     * that did not come straight from the dictionary, such as a save.
+     *
+     * @param word the word to look for
+     * @return the index of the word, in file order, or -1 if the dictionary
+     *         does not contain it
+     */
+    public int indexOf(String word) {
+        int[] sorted = sortedIndexes;
+        if (sorted == null) {
+            Integer[] order = new Integer[words.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Comparator<Integer> byWord = (a, b) -> words[a].compareTo(words[b]);
+            if (ExecutionPolicy.sortInParallel(order.length)) {
+                ExecutionPolicy.inPool(() -> {
+                    Arrays.parallelSort(order, byWord);
+                    return order;
+                });
+            } else {
+                Arrays.sort(order, byWord);
+            }
+            sorted = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sorted[i] = order[i];
+            }
+            sortedIndexes = sorted;
+        }
+
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = words[sorted[middle]].compareTo(word);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return sorted[middle];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the cache of puzzles recently built from the dictionary.
+     *
+     * @return the dictionary's puzzle cache
+     */
+    public PuzzleCache puzzleCache() {
+        return puzzleCache;
+    }
+}
@@ -0,0 +1,208 @@
+package xterminators.spellingbee.model;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Where the words of a dictionary are read from: a plain file, a resource
+ * on the classpath, or a gzip-compressed version of either. Every source is
+ * read as a stream of lines, one word per line, so a compressed dictionary
+ * is decompressed as it is read rather than copied out first.
+ */
+public interface DictionarySource {
+    /**
+     * Gets a name for the source, used in messages and to tell sources
+     * apart. Two sources with the same name read the same dictionary.
+     *
+     * @return the name of the source
+     */
+    String name();
+
+    /**
+     * Gets the version of the contents of the source. The version changes
+     * whenever the contents may have changed, so a dictionary is read again
+     * when its version changes.
+     *
+     * @return the current version of the source
+     * @throws IOException if the version could not be determined
+     */
+    String version() throws IOException;
+
+    /**
+     * Checks if the source exists.
+     *
+     * @return true if the source can be opened
+     */
+    boolean exists();
+
+    /**
+     * Opens the contents of the source.
+     *
+     * @return a stream of the dictionary's text
+     * @throws FileNotFoundException if the source does not exist
+     * @throws IOException if the source could not be opened
+     */
+    InputStream open() throws IOException;
+
+    /**
+     * Gets the file the source reads from, if it reads from one.
+     *
+     * @return the file, or null if the source is not a file
+     */
+    default File file() {
+        return null;
+    }
+
+    /**
+     * Gets a source that reads a plain file.
+     *
+     * @param file the dictionary file
+     * @return the source of the file
+     */
+    static DictionarySource file(File file) {
+        return new FileSource(file);
+    }
+
+    /**
+     * Gets a source that reads a resource on the classpath.
+     *
+     * @param resource the path of the resource, without a leading slash
+     * @return the source of the resource
+     */
+    static DictionarySource classpath(String resource) {
+        return new ClasspathSource(resource);
+    }
+
+    /**
+     * Gets a source that decompresses another, gzip-compressed source.
+     *
+     * @param compressed the compressed source
+     * @return the source of the decompressed dictionary
+     */
+    static DictionarySource gzip(DictionarySource compressed) {
+        return new GzipSource(compressed);
+    }
+
+    /**
+     * A dictionary in a plain file. Its version is its modified time and
+     * length, so editing the file changes its version.
+     *
+     * @param path the dictionary file
+     */
+    record FileSource(File path) implements DictionarySource {
+        @Override
+        public String name() {
+            try {
+                return path.getCanonicalPath();
+            } catch (IOException e) {
+                return path.getAbsolutePath();
+            }
+        }
+
+        @Override
+        public String version() {
+            return path.lastModified() + ":" + path.length();
+        }
+
+        @Override
+        public boolean exists() {
+            return path.isFile();
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            if (!exists()) {
+                throw new FileNotFoundException(
+                    "The dictionary (" + path.getAbsolutePath() + ") does not exist."
+                );
+            }
+            return Files.newInputStream(path.toPath());
+        }
+
+        @Override
+        public File file() {
+            return path;
+        }
+    }
+
+    /**
+     * A dictionary bundled as a resource on the classpath. Resources cannot
+     * change while the app runs, so the version never changes.
+     *
+     * @param resource the path of the resource, without a leading slash
+     */
+    record ClasspathSource(String resource) implements DictionarySource {
+        @Override
+        public String name() {
+            return "classpath:" + resource;
+        }
+
+        @Override
+        public String version() {
+            return "";
+        }
+
+        @Override
+        public boolean exists() {
+            return url() != null;
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            URL url = url();
+            if (url == null) {
+                throw new FileNotFoundException(
+                    "The dictionary (" + resource + ") is not on the classpath."
+                );
+            }
+            return url.openStream();
+        }
+
+        private URL url() {
+            return ClasspathSource.class.getResource("/" + resource);
+        }
+    }
+
+    /**
+     * A gzip-compressed dictionary, decompressed as it is read.
+     *
+     * @param compressed the compressed source
+     */
+    record GzipSource(DictionarySource compressed) implements DictionarySource {
+        @Override
+        public String name() {
+            return "gzip:" + compressed.name();
+        }
+
+        @Override
+        public String version() throws IOException {
+            return compressed.version();
+        }
+
+        @Override
+        public boolean exists() {
+            return compressed.exists();
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            InputStream in = compressed.open();
+            try {
+                return new GZIPInputStream(in, 64 * 1024);
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public File file() {
+            return compressed.file();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package xterminators.spellingbee.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Watches dictionary files and reloads them when they change, so the word
+ * lists can be updated without restarting the app.
+ *
+ * A changed dictionary is read into a new index on the watcher's thread
+ * while the old index stays in use. Once the new index is complete it is
+ * published in one step, so a puzzle being built uses either the old words
+ * or the new words, never a dictionary that is only partly read. Puzzles
+ * that were already built keep their words.
+ *
+ * Only dictionaries read from files can be watched. Other sources, such as
+ * resources in the jar, cannot change while the app runs and are ignored,
+ * but at least one of the dictionaries must be a file.
+ */
+public final class DictionaryWatcher implements Closeable {
+    /** The system property which turns on watching in the app. */
+    public static final String WATCH_PROPERTY = "spellingbee.watchDictionaries";
+
+    /**
+     * How long a directory must be quiet before its changed dictionaries are
+     * read, so a file being written is read once, after the last write.
+     */
+    private static final long SETTLE_MILLIS = 200;
+
+    private final WatchService watchService;
+    /** The watched dictionaries, by their file's absolute path. */
+    private final Map<Path, DictionarySource> sources;
+    private final AtomicInteger reloads = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    /**
+     * Creates a watcher and starts its thread.
+     *
+     * @param sources the dictionaries to watch
+     * @throws IOException if the dictionaries could not be read or watched
+     */
+    private DictionaryWatcher(List<DictionarySource> sources) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.sources = new HashMap<>();
+
+        try {
+            Set<Path> directories = new HashSet<>();
+            for (DictionarySource source : sources) {
+                Path path = source.file().getAbsoluteFile().toPath().normalize();
+
+                // Publish the current words, so the dictionary is only read
+                // again by this watcher, once a change is complete.
+                DictionaryIndex.publish(source, DictionaryIndex.of(source));
+                this.sources.put(path, source);
+
+                if (directories.add(path.getParent())) {
+                    path.getParent().register(
+                        watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY
+                    );
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+
+        Thread thread = new Thread(this::watch, "dictionary-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Starts watching the given dictionaries. Dictionaries that are not read
+     * from files are skipped.
+     *
+     * @param sources the dictionaries to watch
+     * @return the watcher, which should be closed when it is no longer needed
+     * @throws IOException if none of the dictionaries are files, or they
+     *                     could not be read or watched
+     */
+    public static DictionaryWatcher start(DictionarySource... sources)
+        throws IOException
+    {
+        List<DictionarySource> watched = new ArrayList<>();
+        for (DictionarySource source : sources) {
+            if (source.file() != null) {
+                watched.add(source);
+            }
+        }
+        if (watched.isEmpty()) {
+            throw new IOException(
+                "None of the dictionaries are read from files, so none can change"
+            );
+        }
+        return new DictionaryWatcher(watched);
+    }
+
+    /**
+     * Gets the number of times a changed dictionary has been published.
+     *
+     * @return the number of reloads
+     */
+    public int reloads() {
+        return reloads.get();
+    }
+
+    /**
+     * Stops watching. The dictionaries go back to being read from their
+     * sources whenever they change.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // The watcher is stopping either way
+        }
+        for (DictionarySource source : sources.values()) {
+            DictionaryIndex.withdraw(source);
+        }
+    }
+
+    /**
+     * Waits for changes and reloads the changed dictionaries, until the
+     * watcher is closed.
+     */
+    private void watch() {
+        try {
+            while (running) {
+                Set<DictionarySource> changed = new LinkedHashSet<>();
+                collect(watchService.take(), changed);
+
+                // Wait for the writes to stop before reading anything
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(key, changed);
+                }
+
+                for (DictionarySource source : changed) {
+                    reload(source);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Adds the dictionaries changed by a key's events.
+     *
+     * @param key the key with the events
+     * @param changed the changed dictionaries
+     */
+    private void collect(WatchKey key, Set<DictionarySource> changed) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, so any of the dictionaries may have changed
+                changed.addAll(sources.values());
+                continue;
+            }
+
+            DictionarySource source
+                = sources.get(directory.resolve((Path) event.context()));
+            if (source != null) {
+                changed.add(source);
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Reads a changed dictionary and publishes it if its words changed. If
+     * the dictionary cannot be read, or changes while it is read, the old
+     * words are kept until the next change.
+     *
+     * @param source the changed dictionary
+     */
+    private void reload(DictionarySource source) {
+        try {
+            String before = source.version();
+            DictionaryIndex index = DictionaryIndex.read(source);
+            if (!before.equals(source.version())) {
+                // Still being written, so its next change is read instead
+                return;
+            }
+
+            DictionaryIndex current = DictionaryIndex.ifLoaded(source);
+            if (current != null && current.version().equals(index.version())) {
+                return;
+            }
+
+            if (running) {
+                DictionaryIndex.publish(source, index);
+                reloads.incrementAndGet();
+            }
+        } catch (IOException e) {
+            // Missing while it is replaced, or unreadable: keep the old words
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package xterminators.spellingbee.model;
+
+/**
+ * How hard a puzzle is, judged by how many words it has. Ranks are a share
+ * of all of a puzzle's points, so the more words a puzzle has, the more a
+ * player must find to reach each rank.
+ */
+public enum Difficulty {
+    /** Puzzles with few words. */
+    EASY(20, 150),
+    /** Puzzles with a typical number of words. */
+    MEDIUM(150, 400),
+    /** Puzzles with many words. */
+    HARD(400, 800),
+    /** Any puzzle at all. */
+    ANY(0, Integer.MAX_VALUE);
+
+    /** The fewest words a puzzle of this difficulty has. */
+    public final int minWords;
+    /** The most words a puzzle of this difficulty has. */
+    public final int maxWords;
+
+    /**
+     * Initializes a Difficulty.
+     *
+     * @param minWords the fewest words a puzzle may have
+     * @param maxWords the most words a puzzle may have
+     */
+    Difficulty(int minWords, int maxWords) {
+        this.minWords = minWords;
+        this.maxWords = maxWords;
+    }
+
+    /**
+     * Checks if a puzzle with the given number of words has this difficulty.
+     *
+     * @param numWords the number of words in the puzzle
+     * @return true if the puzzle has this difficulty
+     */
+    public boolean matches(int numWords) {
+        return numWords >= minWords && numWords <= maxWords;
+    }
+}
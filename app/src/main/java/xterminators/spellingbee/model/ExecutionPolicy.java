@@ -0,0 +1,142 @@
+package xterminators.spellingbee.model;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Decides how the model runs its bulk computations: sequentially on the
+ * calling thread when the input is small, and in parallel on the model's
+ * own pool when it is large enough for that to pay off.
+ *
+ * A puzzle has tens of words, and splitting work that small across threads
+ * costs more than the work itself. The model's pool keeps the large jobs,
+ * like sorting the dictionary, off the common pool, so they do not hold up
+ * other parallel work in the same process.
+ *
+ * The thresholds come from ParallelThresholdBenchmark, and can be changed
+ * with system properties for other machines.
+ */
+public final class ExecutionPolicy {
+    /** The system property setting the number of model threads. */
+    public static final String THREADS_PROPERTY = "spellingbee.modelThreads";
+    /** The system property setting the fewest words streamed in parallel. */
+    public static final String STREAM_THRESHOLD_PROPERTY
+        = "spellingbee.parallelStreamThreshold";
+    /** The system property setting the fewest words sorted in parallel. */
+    public static final String SORT_THRESHOLD_PROPERTY
+        = "spellingbee.parallelSortThreshold";
+
+    /**
+     * The fewest words streamed in parallel if the property is not set.
+     * Below this, counting over the words is faster on one thread.
+     */
+    public static final int DEFAULT_STREAM_THRESHOLD = 4096;
+    /** The fewest words sorted in parallel if the property is not set. */
+    public static final int DEFAULT_SORT_THRESHOLD = 65_536;
+
+    /** The fewest words streamed in parallel. */
+    private static final int STREAM_THRESHOLD
+        = Integer.getInteger(STREAM_THRESHOLD_PROPERTY, DEFAULT_STREAM_THRESHOLD);
+    /** The fewest words sorted in parallel. */
+    private static final int SORT_THRESHOLD
+        = Integer.getInteger(SORT_THRESHOLD_PROPERTY, DEFAULT_SORT_THRESHOLD);
+
+    private ExecutionPolicy() {}
+
+    /**
+     * Holds the model's pool, so it is only started the first time there is
+     * parallel work.
+     */
+    private static final class PoolHolder {
+        static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Integer.getInteger(
+                THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()
+            )),
+            pool -> {
+                ForkJoinWorkerThread thread
+                    = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("model-worker-" + thread.getPoolIndex());
+                // Never keep the app open
+                thread.setDaemon(true);
+                return thread;
+            },
+            null,
+            false
+        );
+    }
+
+    /**
+     * Gets the pool parallel model work runs on.
+     *
+     * @return the model's pool
+     */
+    public static ForkJoinPool pool() {
+        return PoolHolder.POOL;
+    }
+
+    /**
+     * Checks if streaming over a number of words is worth doing in parallel.
+     *
+     * @param size the number of words
+     * @return true if the words should be streamed in parallel
+     */
+    public static boolean streamInParallel(int size) {
+        return size >= STREAM_THRESHOLD;
+    }
+
+    /**
+     * Checks if sorting a number of words is worth doing in parallel.
+     *
+     * @param size the number of words
+     * @return true if the words should be sorted in parallel
+     */
+    public static boolean sortInParallel(int size) {
+        return size >= SORT_THRESHOLD;
+    }
+
+    /**
+     * Runs an operation over a stream of the elements of a collection. The
+     * stream is parallel, and the operation runs on the model's pool, only
+     * if there are enough elements.
+     *
+     * @param <T> the type of the elements
+     * @param <R> the type of the result
+     * @param elements the elements to stream
+     * @param operation the operation, which must finish with the stream
+     * @return the result of the operation
+     */
+    public static <T, R> R stream(
+        Collection<T> elements,
+        Function<Stream<T>, R> operation
+    ) {
+        if (!streamInParallel(elements.size())) {
+            return operation.apply(elements.stream());
+        }
+        // Parallel streams use the pool of the thread they start on
+        return inPool(() -> operation.apply(elements.parallelStream()));
+    }
+
+    /**
+     * Runs a computation on the model's pool and waits for it. Parallel
+     * streams and sorts started by the computation use the model's pool
+     * rather than the common pool.
+     *
+     * @param <R> the type of the result
+     * @param computation the computation
+     * @return the result of the computation
+     */
+    public static <R> R inPool(Supplier<R> computation) {
+        ForkJoinPool pool = pool();
+        if (Thread.currentThread() instanceof ForkJoinWorkerThread worker
+            && worker.getPool() == pool)
+        {
+            // Already on the pool, so there is no need to hand the work over
+            return computation.get();
+        }
+        return pool.submit(computation::get).join();
+    }
+}
@@ -0,0 +1,84 @@
+package xterminators.spellingbee.model;
+
+import java.util.List;
+
+/**
+ * The results of guessing many words at once. Each word's result is the
+ * same as Puzzle.guess would give: -1 if it was already found, including
+ * earlier in the same batch, 0 if it is not a word of the puzzle, and
+ * otherwise the points it earned.
+ *
+ * @param words the guessed words, in the order they were guessed
+ * @param results the result of each word
+ * @param points the total points earned by the batch
+ * @param previousRank the rank before the batch
+ * @param rank the rank after the batch
+ */
+public record GuessBatch(
+    List<String> words,
+    int[] results,
+    int points,
+    Rank previousRank,
+    Rank rank
+) {
+    /**
+     * Creates the results of a batch of guesses.
+     */
+    public GuessBatch {
+        words = List.copyOf(words);
+        results = results.clone();
+    }
+
+    /**
+     * Gets the result of each word.
+     *
+     * @return a copy of the results, in the order the words were guessed
+     */
+    @Override
+    public int[] results() {
+        return results.clone();
+    }
+
+    /**
+     * Gets the number of guessed words.
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return results.length;
+    }
+
+    /**
+     * Gets the result of one word.
+     *
+     * @param index the index of the word in the batch
+     * @return the word's result
+     */
+    public int result(int index) {
+        return results[index];
+    }
+
+    /**
+     * Gets the number of new words the batch found.
+     *
+     * @return the number of words that earned points
+     */
+    public int numFound() {
+        int found = 0;
+        for (int result : results) {
+            if (result > 0) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Checks if the batch reached a new rank.
+     *
+     * @return true if the rank changed
+     */
+    public boolean rankChanged() {
+        return rank != previousRank;
+    }
+}
@@ -98,11 +98,15 @@ public class HighScores {
      * Saves the current scores to the HighScores.json file.
      */
     public boolean saveScores() {
+        long start = System.nanoTime();
+        PuzzleEvents.HighScoresSaveEvent event
+            = new PuzzleEvents.HighScoresSaveEvent();
+        event.begin();
+        String userHome = System.getProperty("user.home");
+        String filePath = userHome + File.separator + FILE_NAME;
+        File saveLocation = new File(filePath);
+        boolean saved = false;
         try {
-            String userHome = System.getProperty("user.home");
-            String filePath = userHome + File.separator + FILE_NAME;
-            File saveLocation = new File(filePath);
-
             Gson gson = new Gson();
             String json = gson.toJson(scores);
 
@@ -110,8 +114,20 @@ public class HighScores {
             writer.write(json);
             writer.close();
             loadScores();
+            saved = true;
         } catch (Exception ex) {
             return false;
+        } finally {
+            // Failed writes count too, so slow failures show in the latency
+            SpellingBeeMetrics.get().recordHighScoreWrite(
+                System.nanoTime() - start
+            );
+            if (event.shouldCommit()) {
+                event.scores = scores.size();
+                event.bytes = saved ? saveLocation.length() : 0;
+                event.result = saved ? PuzzleEvents.OK : PuzzleEvents.FAILED;
+                event.commit();
+            }
         }
         return true;
     }
@@ -0,0 +1,95 @@
+package xterminators.spellingbee.model;
+
+import java.beans.ConstructorProperties;
+import java.util.Locale;
+
+/**
+ * A summary of the latencies of one kind of operation, in microseconds.
+ * Percentiles are the upper bound of the histogram bucket they fall in, so
+ * they may be up to a quarter more than the true value.
+ */
+public class LatencySummary {
+    private final long count;
+    private final double meanMicros;
+    private final double p50Micros;
+    private final double p99Micros;
+    private final double maxMicros;
+
+    /**
+     * Creates a summary.
+     *
+     * @param count the number of operations
+     * @param meanMicros the mean latency
+     * @param p50Micros the median latency
+     * @param p99Micros the 99th percentile latency
+     * @param maxMicros the largest latency
+     */
+    @ConstructorProperties({"count", "meanMicros", "p50Micros", "p99Micros", "maxMicros"})
+    public LatencySummary(
+        long count,
+        double meanMicros,
+        double p50Micros,
+        double p99Micros,
+        double maxMicros
+    ) {
+        this.count = count;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    /**
+     * Gets the number of operations.
+     *
+     * @return the number of operations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean latency, in microseconds.
+     *
+     * @return the mean latency, in microseconds
+     */
+    public double getMeanMicros() {
+        return meanMicros;
+    }
+
+    /**
+     * Gets the median latency, in microseconds.
+     *
+     * @return the median latency, in microseconds
+     */
+    public double getP50Micros() {
+        return p50Micros;
+    }
+
+    /**
+     * Gets the 99th percentile latency, in microseconds.
+     *
+     * @return the 99th percentile latency, in microseconds
+     */
+    public double getP99Micros() {
+        return p99Micros;
+    }
+
+    /**
+     * Gets the largest latency, in microseconds.
+     *
+     * @return the largest latency, in microseconds
+     */
+    public double getMaxMicros() {
+        return maxMicros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            Locale.ROOT,
+            "%d ops, mean %.1f us, p50 %.1f us, p99 %.1f us, max %.1f us",
+            count, meanMicros, p50Micros, p99Micros, maxMicros
+        );
+    }
+}
@@ -8,14 +8,21 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.Buffer;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
+import java.util.RandomAccess;
 import java.util.Scanner;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -41,17 +48,45 @@ public class Puzzle {
     /** The number of bonus points recived for finding a pangram. */
     public final static int PANGRAM_BONUS = 7;
 
-    /** Global instance of the Puzzle Singleton. */
-    private static Puzzle instance;
+    /**
+     * Global instance of the Puzzle Singleton. Puzzles may be built on a
+     * background thread, so the instance is volatile.
+     */
+    private static volatile Puzzle instance;
+
+    /** An empty list of listeners, shared so there is only ever one. */
+    private static final PuzzleListener[] NO_LISTENERS = new PuzzleListener[0];
+
+    /** An empty array of found words, shared by puzzles with none found. */
+    private static final int[] NO_WORDS = new int[0];
+    /**
+     * The listeners notified of events on every puzzle. The array is replaced,
+     * never modified, so events can be sent without locking or copying.
+     */
+    private static volatile PuzzleListener[] listeners = NO_LISTENERS;
+    /** The ranks, lowest first, kept so finding the rank copies nothing. */
+    private static final Rank[] RANKS = Rank.values();
 
     /** The primary (required) letter of the puzzle. */
     private char primaryLetter;
     /** The secondary letters of the puzzle. */
     private char[] secondaryLetters;
-    /** The list of all valid words for the puzzle. */
-    private List<String> validWords;
-    /** The list of all words currently found in the puzzle. */
-    private List<String> foundWords;
+    /**
+     * The pool the puzzle's words are kept in: the words of the dictionary,
+     * shared by every puzzle made from it, or the puzzle's own words if they
+     * are not all in a loaded dictionary. Words are only ever handed out as
+     * the pool's instances.
+     */
+    private String[] wordPool;
+    /** The ids of all valid words for the puzzle in the pool, sorted by word. */
+    private int[] validWordIds;
+    /**
+     * The words currently found in the puzzle, as positions in validWordIds,
+     * in increasing order, which is also alphabetical order.
+     */
+    private int[] foundWords;
+    /** The number of found words. Positions past this are unused. */
+    private int numFound;
     /** The total number of points that can be earned in the puzzle. */
     private int totalPoints;
     /** The number of points currently earned in the puzzle. */
@@ -59,6 +94,12 @@ public class Puzzle {
 
     /** The HelpData object storing all the help data for the puzzle. */
     private HelpData helpData;
+    /** The dictionary the puzzle's words come from. */
+    private DictionarySource dictionary;
+    /** The version of the dictionary the words came from, or null if unknown. */
+    private String dictionaryVersion;
+    /** The word graph of the puzzle's words, created when needed. */
+    private volatile Dawg.View wordGraph;
 
     /**
      * Loads a saved puzzle json into a Puzzle object.
@@ -79,54 +120,179 @@ public class Puzzle {
         throws FileNotFoundException, IOException, JsonSyntaxException,
                IllegalArgumentException
     {
-        if (!savedPuzzle.exists()) {
-            throw new FileNotFoundException(
-                "The save file does not exist"
-            );
-        }
+        return loadPuzzle(savedPuzzle, DictionarySource.file(dictionaryFile));
+    }
 
-        boolean isEncrypted = false;
-        try (Stream<String> lines = Files.lines(savedPuzzle.toPath())) {
-            isEncrypted = lines
-                .parallel()
-                .anyMatch(s -> s.contains("secretWordList"));
-        }
+    /**
+     * Loads a saved puzzle json into a Puzzle object.
+     * 
+     * @param savedPuzzle the file where a puzzle is saved
+     * @param dictionary the dictionary the puzzle's words come from
+     * @return a new Puzzle constructed from the save file's contents
+     * @throws FileNotFoundException if the save file doesn't exist
+     * @throws IOException
+     * @throws JsonSyntaxException if json is not a valid representation for a
+     *                             saved puzzle
+     * @throws IllegalArgumentException if the json file contains an impossible
+     *                                  puzzle
+     */
+    public static Puzzle loadPuzzle(File savedPuzzle, DictionarySource dictionary)
+        throws FileNotFoundException, IOException, JsonSyntaxException,
+               IllegalArgumentException
+    {
+        return loadPuzzle(savedPuzzle, dictionary, true);
+    }
 
-        PuzzleSave save = null;
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        if (isEncrypted) {
-            try (BufferedReader reader = Files.newBufferedReader(
-                    savedPuzzle.toPath()
-            ))
-            {
-                save = gson.fromJson(reader, EncryptedPuzzleSave.class);
+    /**
+     * Loads a saved puzzle, as loadPuzzle does, without making it the global
+     * instance. This suits puzzles used away from the game, such as by
+     * workers on other threads, which must not replace the player's puzzle.
+     *
+     * @param savedPuzzle the file where a puzzle is saved
+     * @param dictionary the dictionary the puzzle's words come from
+     * @return a new Puzzle constructed from the save file's contents
+     * @throws FileNotFoundException if the save file doesn't exist
+     * @throws IOException
+     * @throws JsonSyntaxException if json is not a valid representation for a
+     *                             saved puzzle
+     * @throws IllegalArgumentException if the json file contains an impossible
+     *                                  puzzle
+     */
+    public static Puzzle loadPuzzleDetached(
+        File savedPuzzle,
+        DictionarySource dictionary
+    ) throws FileNotFoundException, IOException, JsonSyntaxException,
+             IllegalArgumentException
+    {
+        return loadPuzzle(savedPuzzle, dictionary, false);
+    }
+
+    /**
+     * Loads a saved puzzle json into a Puzzle object.
+     *
+     * @param savedPuzzle the file where a puzzle is saved
+     * @param dictionary the dictionary the puzzle's words come from
+     * @param publish true to make the puzzle the global instance
+     * @return a new Puzzle constructed from the save file's contents
+     * @throws FileNotFoundException if the save file doesn't exist
+     * @throws IOException
+     * @throws JsonSyntaxException if json is not a valid representation for a
+     *                             saved puzzle
+     * @throws IllegalArgumentException if the json file contains an impossible
+     *                                  puzzle
+     */
+    private static Puzzle loadPuzzle(
+        File savedPuzzle,
+        DictionarySource dictionary,
+        boolean publish
+    ) throws FileNotFoundException, IOException, JsonSyntaxException,
+             IllegalArgumentException
+    {
+        long start = System.nanoTime();
+        PuzzleEvents.LoadEvent event = new PuzzleEvents.LoadEvent();
+        event.begin();
+        Puzzle puzzle = null;
+        try {
+            if (!savedPuzzle.exists()) {
+                throw new FileNotFoundException(
+                    "The save file does not exist"
+                );
             }
-        } else {
-            try (BufferedReader reader = Files.newBufferedReader(
-                    savedPuzzle.toPath()
-            ))
-            {
-                save = gson.fromJson(reader, UnencryptedPuzzleSave.class);
+
+            // A save is a few dozen lines, too few to be worth reading in
+            // parallel
+            boolean isEncrypted = false;
+            try (Stream<String> lines = Files.lines(savedPuzzle.toPath())) {
+                isEncrypted = lines.anyMatch(s -> s.contains("secretWordList"));
+            }
+            event.encrypted = isEncrypted;
+
+            PuzzleSave save = null;
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            if (isEncrypted) {
+                try (BufferedReader reader = Files.newBufferedReader(
+                        savedPuzzle.toPath()
+                ))
+                {
+                    save = gson.fromJson(reader, EncryptedPuzzleSave.class);
+                }
+            } else {
+                try (BufferedReader reader = Files.newBufferedReader(
+                        savedPuzzle.toPath()
+                ))
+                {
+                    save = gson.fromJson(reader, UnencryptedPuzzleSave.class);
+                }
+            }
+
+            puzzle = new Puzzle(save, dictionary, publish);
+            SpellingBeeMetrics.get().recordLoad(
+                savedPuzzle.length(), System.nanoTime() - start
+            );
+            return puzzle;
+        } finally {
+            if (event.shouldCommit()) {
+                event.path = savedPuzzle.getPath();
+                event.bytes = savedPuzzle.length();
+                if (puzzle != null) {
+                    event.puzzleId = PuzzleEvents.puzzleId(puzzle);
+                    event.wordCount = puzzle.validWordIds.length;
+                }
+                event.result = puzzle != null ? PuzzleEvents.OK : PuzzleEvents.FAILED;
+                event.commit();
             }
         }
+    }
 
-        return new Puzzle(save, dictionaryFile);
+    /**
+     * Makes a new, unplayed puzzle from a definition. Nothing is read from
+     * the dictionary, since the definition already has the puzzle's words and
+     * hints.
+     *
+     * @param definition the definition of the puzzle
+     * @param dictionaryFile the dictionary the puzzle's words came from
+     * @return a new Puzzle with the definition's letters and words
+     */
+    public static Puzzle fromDefinition(
+        PuzzleDefinition definition,
+        File dictionaryFile
+    ) {
+        return fromDefinition(definition, DictionarySource.file(dictionaryFile));
+    }
+
+    /**
+     * Makes a new, unplayed puzzle from a definition. Nothing is read from
+     * the dictionary, since the definition already has the puzzle's words and
+     * hints.
+     *
+     * @param definition the definition of the puzzle
+     * @param dictionary the dictionary the puzzle's words came from
+     * @return a new Puzzle with the definition's letters and words
+     */
+    public static Puzzle fromDefinition(
+        PuzzleDefinition definition,
+        DictionarySource dictionary
+    ) {
+        return new Puzzle(definition, dictionary);
     }
 
     /**
      * Constructs a Puzzle object from the given puzzle data.
      * 
      * @param save the puzzle data to construct into a Puzzle
-     * @param dictionaryFile the dictionary of words to parse
+     * @param dictionary the dictionary the puzzle's words come from
+     * @param publish true to make the puzzle the global instance
      * @throws FileNotFoundException if the dictionary file is not found
      * @throws IOException
      * @throws IllegalArgumentException if the puzzle data represents an invalid
      *                                  puzzle
      */
-    private Puzzle(PuzzleSave save, File dictionaryFile)
+    private Puzzle(PuzzleSave save, DictionarySource dictionary, boolean publish)
         throws FileNotFoundException, IOException, IllegalArgumentException
     {
         this.primaryLetter = save.requiredLetter();
+        this.dictionary = dictionary;
+        this.dictionaryVersion = save.dictionaryVersion();
 
         List<Character> otherLetters = new ArrayList<>();
         for (char c : save.baseWord()) {
@@ -152,23 +318,118 @@ public class Puzzle {
             this.secondaryLetters[i] = otherLetters.get(i);
         }
 
-        try {
-            this.validWords = save.validWords();
-        } catch (Exception e) {
-            throw new IllegalArgumentException(
-                "Could not get valid words from save file."
-            );
+        // A puzzle with the same letters and points that was built recently
+        // has the same words, so there is no need to read or decrypt them.
+        PuzzleDefinition cached = null;
+        DictionaryIndex index = DictionaryIndex.ifLoaded(dictionary);
+        if (index != null && isCanonicalLetters(primaryLetter, secondaryLetters)) {
+            cached = index.puzzleCache()
+                .get(PuzzleId.of(primaryLetter, secondaryLetters));
+            if (cached != null && cached.totalPoints() != save.maxPoints()) {
+                cached = null;
+            }
+            if (dictionaryVersion != null
+                && !dictionaryVersion.equals(index.version()))
+            {
+                // The words may have changed since the puzzle was saved
+                cached = null;
+            }
+        }
+
+        if (cached != null) {
+            setWords(cached.validWords(), index);
+        } else {
+            try {
+                setWords(save.validWords(), index);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                    "Could not get valid words from save file."
+                );
+            }
         }
 
         this.totalPoints = save.maxPoints();
         
-        this.foundWords = save.foundWords();
+        // Found words are kept sorted so guesses can insert in place. Only
+        // the pool's copy of each word is kept, not the one read from the
+        // save.
+        this.foundWords = NO_WORDS;
+        if (save.foundWords() != null) {
+            int[] positions = new int[save.foundWords().size()];
+            int count = 0;
+            for (String word : save.foundWords()) {
+                int position = validPosition(word);
+                if (position >= 0) {
+                    positions[count++] = position;
+                }
+            }
+            Arrays.sort(positions, 0, count);
+            for (int i = 0; i < count; i++) {
+                if (numFound == 0 || positions[numFound - 1] != positions[i]) {
+                    positions[numFound++] = positions[i];
+                }
+            }
+            this.foundWords = positions;
+        }
 
         this.earnedPoints = save.playerPoints();
 
-        instance = this;
-        
-        this.helpData = this.calculateHelpData();
+        this.helpData = (
+            cached != null
+            ? cached.helpData()
+            : this.calculateHelpData()
+        );
+
+        if (publish) {
+            replaceInstance(this);
+        }
+    }
+
+    /**
+     * Constructs a Puzzle object from a definition.
+     *
+     * @param definition the definition of the puzzle
+     * @param dictionary the dictionary the puzzle's words came from
+     */
+    private Puzzle(PuzzleDefinition definition, DictionarySource dictionary) {
+        this.primaryLetter = definition.requiredLetter();
+        this.secondaryLetters = definition.secondaryLetters();
+        this.dictionary = dictionary;
+        setWords(
+            definition.validWords(),
+            dictionary == null ? null : DictionaryIndex.ifLoaded(dictionary)
+        );
+        this.totalPoints = definition.totalPoints();
+        this.foundWords = NO_WORDS;
+        this.earnedPoints = 0;
+
+        this.helpData = definition.helpData();
+
+        replaceInstance(this);
+    }
+
+    /**
+     * Constructs a copy of a puzzle as it is now. The copy is not made the
+     * global instance.
+     *
+     * @param puzzle the puzzle to copy
+     */
+    private Puzzle(Puzzle puzzle) {
+        this.primaryLetter = puzzle.primaryLetter;
+        this.secondaryLetters = Arrays.copyOf(
+            puzzle.secondaryLetters,
+            puzzle.secondaryLetters.length
+        );
+        // The words are never changed once set, so they can be shared
+        this.wordPool = puzzle.wordPool;
+        this.validWordIds = puzzle.validWordIds;
+        this.foundWords = Arrays.copyOf(puzzle.foundWords, puzzle.numFound);
+        this.numFound = puzzle.numFound;
+        this.totalPoints = puzzle.totalPoints;
+        this.earnedPoints = puzzle.earnedPoints;
+        this.helpData = puzzle.helpData;
+        this.dictionary = puzzle.dictionary;
+        this.dictionaryVersion = puzzle.dictionaryVersion;
     }
 
     /**
@@ -182,29 +443,296 @@ public class Puzzle {
      */
     protected Puzzle(char primaryLetter, char[] secondaryLetters,
                   File dictionaryFile) throws IOException {
+        this(primaryLetter, secondaryLetters, DictionarySource.file(dictionaryFile));
+    }
+
+    /**
+     * Constructs a Puzzle object from the required letter, and the six other
+     * acceptable letters. Fills validWords from the words of the dictionary.
+     * 
+     * @param primaryLetter The required letter for the puzzle
+     * @param secondaryLetters The six other acceptable letters for the puzzle
+     * @param dictionarySource The dictionary to be used to generate validWords.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected Puzzle(char primaryLetter, char[] secondaryLetters,
+                  DictionarySource dictionarySource) throws IOException {
+        this(primaryLetter, secondaryLetters, dictionarySource, true);
+    }
+
+    /**
+     * Constructs a Puzzle object from the required letter, and the six other
+     * acceptable letters, which is only made the global instance if asked.
+     * Puzzles which may be thrown away, like the candidates for a daily
+     * puzzle, are built without publishing them, so listeners never see them.
+     * They are not added to the dictionary's puzzle cache either, so they do
+     * not push out the puzzles that are being played.
+     * 
+     * @param primaryLetter The required letter for the puzzle
+     * @param secondaryLetters The six other acceptable letters for the puzzle
+     * @param dictionarySource The dictionary to be used to generate validWords.
+     * @param publish true to make the puzzle the global instance and cache
+     *                it
+     * @throws IOException if an I/O error occurs.
+     */
+    Puzzle(char primaryLetter, char[] secondaryLetters,
+           DictionarySource dictionarySource, boolean publish)
+        throws IOException
+    {
         this.primaryLetter = primaryLetter;
+        this.dictionary = dictionarySource;
         this.secondaryLetters = Arrays.copyOf(
             secondaryLetters,
             secondaryLetters.length
         );
 
-        try(Stream<String> words = Files.lines(dictionaryFile.toPath())) {
-            this.validWords = words
-                .parallel()
-                .filter(this::isValid)
-                .toList();
+        // The dictionary is shared between puzzles, and each of its words
+        // already has a mask of its letters, so a word fits the puzzle if it
+        // uses only the puzzle's letters and includes the primary letter.
+        DictionaryIndex dictionary = DictionaryIndex.of(dictionarySource);
+        this.dictionaryVersion = dictionary.version();
+
+        // Recently built puzzles with the same letters are reused as is
+        PuzzleId id = isCanonicalLetters(primaryLetter, this.secondaryLetters)
+            ? PuzzleId.of(primaryLetter, this.secondaryLetters)
+            : null;
+        PuzzleDefinition cached = id == null
+            ? null
+            : dictionary.puzzleCache().get(id);
+        if (cached != null) {
+            setWords(cached.validWords(), dictionary);
+            this.totalPoints = cached.totalPoints();
+            this.foundWords = NO_WORDS;
+            this.earnedPoints = 0;
+
+            this.helpData = cached.helpData();
+
+            if (publish) {
+                replaceInstance(this);
+            }
+            return;
         }
 
-        this.totalPoints = validWords.parallelStream()
-            .mapToInt(this::wordValue)
-            .sum();
+        int allowedMask = DictionaryIndex.letterBit(primaryLetter);
+        for (char c : this.secondaryLetters) {
+            allowedMask |= DictionaryIndex.letterBit(c);
+        }
+        int requiredBit = DictionaryIndex.letterBit(primaryLetter);
 
-        this.foundWords = new ArrayList<>();
-        this.earnedPoints = 0;
+        int[] ids = new int[64];
+        int count = 0;
+        for (int i = 0; i < dictionary.size(); i++) {
+            int mask = dictionary.mask(i);
+            if ((mask & ~allowedMask) == 0 && (mask & requiredBit) != 0
+                && dictionary.word(i).length() >= MINIMUM_WORD_LENGTH)
+            {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = i;
+            }
+        }
+        this.wordPool = dictionary.words();
+        this.validWordIds = Arrays.copyOf(ids, count);
+        sortByWord(validWordIds, wordPool);
 
-        instance = this;
+        this.totalPoints = ExecutionPolicy.stream(
+            validWords(),
+            words -> words.mapToInt(this::wordValue).sum()
+        );
+
+        this.foundWords = NO_WORDS;
+        this.earnedPoints = 0;
 
         this.helpData = calculateHelpData();
+
+        if (id != null && publish) {
+            dictionary.puzzleCache().put(id, getDefinition());
+        }
+
+        if (publish) {
+            replaceInstance(this);
+        }
+    }
+
+    /**
+     * Sorts word ids by their words, in place. The dictionary is nearly in
+     * sorted order already, so the ids of a puzzle's words come out nearly
+     * sorted, and an insertion sort only moves the few that are out of
+     * place, without boxing the ids to sort them with a comparator.
+     *
+     * @param ids the ids to sort
+     * @param words the words the ids refer to
+     */
+    private static void sortByWord(int[] ids, String[] words) {
+        for (int i = 1; i < ids.length; i++) {
+            int id = ids[i];
+            int j = i - 1;
+            while (j >= 0 && words[ids[j]].compareTo(words[id]) > 0) {
+                ids[j + 1] = ids[j];
+                j--;
+            }
+            ids[j + 1] = id;
+        }
+    }
+
+    /**
+     * Checks if letters make a normal puzzle: seven different lowercase
+     * letters. Only these puzzles have a puzzle id, so only these are cached.
+     *
+     * @param primaryLetter the required letter
+     * @param secondaryLetters the other letters
+     * @return true if the letters have a puzzle id
+     */
+    private static boolean isCanonicalLetters(
+        char primaryLetter,
+        char[] secondaryLetters
+    ) {
+        if (secondaryLetters.length != NUMBER_UNIQUE_LETTERS - 1) {
+            return false;
+        }
+
+        int mask = DictionaryIndex.letterBit(primaryLetter);
+        if (mask == 0) {
+            return false;
+        }
+        for (char c : secondaryLetters) {
+            int bit = DictionaryIndex.letterBit(c);
+            if (bit == 0 || (mask & bit) != 0) {
+                return false;
+            }
+            mask |= bit;
+        }
+        return true;
+    }
+
+    /**
+     * Sets the puzzle's words, taking each from the dictionary's pool if the
+     * dictionary has all of them, and otherwise keeping a pool of just these
+     * words. Repeated words are kept once.
+     *
+     * @param words the words of the puzzle, in any order
+     * @param index the loaded dictionary the words came from, or null
+     */
+    private void setWords(List<String> words, DictionaryIndex index) {
+        String[] sorted = words.toArray(new String[0]);
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (count == 0 || !sorted[count - 1].equals(sorted[i])) {
+                sorted[count++] = sorted[i];
+            }
+        }
+
+        int[] ids = new int[count];
+        for (int i = 0; i < count && index != null; i++) {
+            ids[i] = index.indexOf(sorted[i]);
+            if (ids[i] < 0) {
+                index = null;
+            }
+        }
+
+        if (index != null) {
+            this.wordPool = index.words();
+        } else {
+            this.wordPool = Arrays.copyOf(sorted, count);
+            for (int i = 0; i < count; i++) {
+                ids[i] = i;
+            }
+        }
+        this.validWordIds = ids;
+    }
+
+    /**
+     * Finds a word among the puzzle's valid words.
+     *
+     * @param word the word to look for
+     * @return the position of the word in validWordIds, or -1 if it is not
+     *         a valid word of the puzzle
+     */
+    private int validPosition(String word) {
+        int low = 0;
+        int high = validWordIds.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = wordPool[validWordIds[middle]].compareTo(word);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets a found word.
+     *
+     * @param index the index of the word among the found words
+     * @return the pool's instance of the word
+     */
+    private String foundWord(int index) {
+        return wordPool[validWordIds[foundWords[index]]];
+    }
+
+    /**
+     * Makes room for more found words.
+     *
+     * @param capacity the number of found words there must be room for
+     */
+    private void ensureFoundCapacity(int capacity) {
+        if (capacity > foundWords.length) {
+            int grown = Math.max(capacity, Math.max(8, foundWords.length * 2));
+            foundWords = Arrays.copyOf(
+                foundWords, Math.min(grown, validWordIds.length)
+            );
+        }
+    }
+
+    /**
+     * Gets the valid words of the puzzle. The list reads from the pool, so
+     * no words are copied.
+     *
+     * @return a read-only list of the valid words, sorted
+     */
+    private List<String> validWords() {
+        return new ValidWords();
+    }
+
+    /** A read-only view of the puzzle's valid words, read from the pool. */
+    private final class ValidWords extends AbstractList<String>
+        implements RandomAccess
+    {
+        @Override
+        public String get(int index) {
+            return wordPool[validWordIds[index]];
+        }
+
+        @Override
+        public int size() {
+            return validWordIds.length;
+        }
+    }
+
+    /**
+     * A read-only view of the puzzle's found words, read from the pool. It
+     * stays up to date as more words are found.
+     */
+    private final class FoundWords extends AbstractList<String>
+        implements RandomAccess
+    {
+        @Override
+        public String get(int index) {
+            Objects.checkIndex(index, numFound);
+            return foundWord(index);
+        }
+
+        @Override
+        public int size() {
+            return numFound;
+        }
     }
 
     /**
@@ -216,6 +744,65 @@ public class Puzzle {
         return instance;
     }
 
+    /**
+     * Replaces the global instance of the Puzzle Singleton. This is used to
+     * put back the previous puzzle when building or loading a new one is
+     * canceled, since creating a puzzle always makes it the global instance.
+     *
+     * @param puzzle The puzzle to make the global instance
+     */
+    public static void setInstance(Puzzle puzzle) {
+        replaceInstance(puzzle);
+    }
+
+    /**
+     * Makes a puzzle the global instance and tells the listeners, if it is
+     * not already the global instance. Constructors call this last, so
+     * listeners only ever see puzzles that are completely built.
+     *
+     * @param puzzle The puzzle to make the global instance
+     */
+    private static void replaceInstance(Puzzle puzzle) {
+        Puzzle previous = instance;
+        instance = puzzle;
+        if (previous != puzzle) {
+            for (PuzzleListener listener : listeners) {
+                listener.puzzleReplaced(previous, puzzle);
+            }
+        }
+    }
+
+    /**
+     * Adds a listener that is notified of events on every puzzle.
+     *
+     * @param listener The listener to add
+     */
+    public static synchronized void addListener(PuzzleListener listener) {
+        PuzzleListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a listener that was added with addListener. Nothing happens if
+     * the listener was never added.
+     *
+     * @param listener The listener to remove
+     */
+    public static synchronized void removeListener(PuzzleListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                PuzzleListener[] updated = new PuzzleListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(
+                    listeners, i + 1, updated, i, listeners.length - i - 1
+                );
+                listeners = updated.length == 0 ? NO_LISTENERS : updated;
+                return;
+            }
+        }
+    }
+
     /**
      * Saves the puzzle at the given file location.
      * 
@@ -224,44 +811,100 @@ public class Puzzle {
     public void save(File saveLocation, SaveMode saveMode) 
         throws IOException, IllegalArgumentException
     {
-        char[] baseWord
-            = Arrays.copyOf(secondaryLetters, secondaryLetters.length + 1);
+        long start = System.nanoTime();
+        PuzzleEvents.SaveEvent event = new PuzzleEvents.SaveEvent();
+        event.begin();
+        boolean saved = false;
+        try {
+            char[] baseWord
+                = Arrays.copyOf(secondaryLetters, secondaryLetters.length + 1);
         
-        baseWord[secondaryLetters.length] = primaryLetter;
-
-        PuzzleSave save = null;
-        if (saveMode == SaveMode.UNENCRYPTED) {
-            save = new UnencryptedPuzzleSave(
-                baseWord,
-                primaryLetter,
-                foundWords,
-                earnedPoints,
-                validWords,
-                totalPoints
-            );
-        } else if (saveMode == SaveMode.ENCRYPTED) {
-            save = EncryptedPuzzleSave.fromDefaults(
-                baseWord,
-                primaryLetter,
-                foundWords,
-                earnedPoints,
-                validWords,
-                totalPoints
+            baseWord[secondaryLetters.length] = primaryLetter;
+
+            PuzzleSave save = null;
+            if (saveMode == SaveMode.UNENCRYPTED) {
+                save = new UnencryptedPuzzleSave(
+                    baseWord,
+                    primaryLetter,
+                    getFoundWords(),
+                    earnedPoints,
+                    validWords(),
+                    totalPoints
+                );
+            } else if (saveMode == SaveMode.ENCRYPTED) {
+                save = EncryptedPuzzleSave.fromDefaults(
+                    baseWord,
+                    primaryLetter,
+                    getFoundWords(),
+                    earnedPoints,
+                    validWords(),
+                    totalPoints
+                );
+            } else {
+                throw new IllegalArgumentException(
+                    "saveMode must not be null"
+                );
+            }
+
+            if (save != null) {
+                save.setDictionaryVersion(dictionaryVersion);
+            }
+
+            // The save is written next to the file and then moved over it,
+            // so a failed or interrupted write never leaves it empty or
+            // half written
+            Path target = saveLocation.toPath().toAbsolutePath();
+            Path temp = Files.createTempFile(
+                target.getParent(), saveLocation.getName(), ".tmp"
             );
-        } else {
-            throw new IllegalArgumentException(
-                "saveMode must not be null"
+            try {
+                try(BufferedWriter writer = Files.newBufferedWriter(
+                        temp,
+                        StandardOpenOption.TRUNCATE_EXISTING
+                ))
+                {
+                    Gson gson = new GsonBuilder().setPrettyPrinting().create();
+                    gson.toJson(save, writer);
+                }
+                moveIntoPlace(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            saved = true;
+            SpellingBeeMetrics.get().recordSave(
+                saveLocation.length(), System.nanoTime() - start
             );
+        } finally {
+            if (event.shouldCommit()) {
+                event.puzzleId = PuzzleEvents.puzzleId(this);
+                event.path = saveLocation.getPath();
+                event.encrypted = saveMode == SaveMode.ENCRYPTED;
+                event.bytes = saved ? saveLocation.length() : 0;
+                event.result = saved ? PuzzleEvents.OK : PuzzleEvents.FAILED;
+                event.commit();
+            }
         }
+    }
 
-        try(BufferedWriter writer = Files.newBufferedWriter(
-                saveLocation.toPath(),
-                StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING
-        ))
-        {
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
-            gson.toJson(save, writer);
+    /**
+     * Moves a finished save over the save file in one step, so the file is
+     * always either the old save or the new one.
+     *
+     * @param temp the finished save
+     * @param target the save file
+     * @throws IOException if the save could not be moved
+     */
+    private static void moveIntoPlace(Path temp, Path target)
+        throws IOException
+    {
+        try {
+            Files.move(
+                temp, target,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
@@ -291,7 +934,7 @@ public class Puzzle {
      */
     public List<String> getFoundWords() {
         // returns a read-only view of foundWords
-        return Collections.unmodifiableList(this.foundWords);
+        return new FoundWords();
     }
 
     /**
@@ -318,8 +961,19 @@ public class Puzzle {
      * @return the current rank achived for the puzzle
      */
     public Rank getRank() {
+        return rankFor(earnedPoints, totalPoints);
+    }
+
+    /**
+     * Gets the rank achived by earning some of a puzzle's points.
+     * 
+     * @param earnedPoints The points earned
+     * @param totalPoints The total points of the puzzle
+     * @return the rank achived
+     */
+    static Rank rankFor(long earnedPoints, int totalPoints) {
         Rank currentRank = null;
-        for (Rank rank : Rank.values()) {
+        for (Rank rank : RANKS) {
             if (earnedPoints >= rank.getRequiredPoints(totalPoints)) {
                 currentRank = rank;
             }
@@ -338,24 +992,176 @@ public class Puzzle {
      *          the number of points earned if the word is a valid guess
      */
     public int guess(String word) {
-        if (!isValid(word) || !validWords.contains(word)) {
+        long start = System.nanoTime();
+        PuzzleEvents.GuessEvent event = new PuzzleEvents.GuessEvent();
+        event.begin();
+        int result = guessWord(word);
+        SpellingBeeMetrics.get().recordGuess(result, System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            event.puzzleId = PuzzleEvents.puzzleId(this);
+            event.result = result;
+            event.foundWords = numFound;
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Processes a guess, as guess does, without recording an event.
+     *
+     * @param word The word the user guessed
+     * @return the result of the guess, as guess gives it
+     */
+    private int guessWord(String word) {
+        int position = isValid(word) ? validPosition(word) : -1;
+        if (position < 0) {
             return 0;
         }
+        // Hand out the pool's instance of the word, not the guessed one
+        word = wordPool[validWordIds[position]];
+
+        // foundWords is sorted, so the search both checks if the word is
+        // already found and gives where to insert it.
+        int index = Arrays.binarySearch(foundWords, 0, numFound, position);
 
         // If the word is already found, return -1
-        if (foundWords.stream().anyMatch(word::equalsIgnoreCase)) {
+        if (index >= 0) {
             return -1;
         }
 
         int points = wordValue(word);
 
-        foundWords.add(word);
-        Collections.sort(foundWords);
+        // The rank is only needed to tell listeners if it changed
+        PuzzleListener[] current = listeners;
+        Rank previousRank = current.length == 0 ? null : getRank();
+
+        index = -(index + 1);
+        ensureFoundCapacity(numFound + 1);
+        System.arraycopy(
+            foundWords, index, foundWords, index + 1, numFound - index
+        );
+        foundWords[index] = position;
+        numFound++;
         earnedPoints += points;
+
+        for (PuzzleListener listener : current) {
+            listener.wordFound(this, word, index);
+        }
+        if (current.length != 0) {
+            fireRankChanged(current, previousRank, getRank());
+        }
         
         return points;
     }
 
+    /**
+     * Processes a batch of guesses. Every word is checked first, then the
+     * new words are merged into foundWords and their points added in one
+     * step, so the found words are sorted once for the whole batch. Words
+     * are reported to listeners in sorted order with their final indexes.
+     *
+     * @param words The words the user guessed, in order
+     * @return the result of each word, as guess would give it, with the
+     *         points earned and the change in rank
+     */
+    public GuessBatch guessAll(Collection<String> words) {
+        long start = System.nanoTime();
+        PuzzleEvents.GuessBatchEvent event = new PuzzleEvents.GuessBatchEvent();
+        event.begin();
+        Rank previousRank = getRank();
+
+        String[] guessed = words.toArray(new String[0]);
+        int[] results = new int[guessed.length];
+        BitSet accepted = new BitSet(validWordIds.length);
+        int points = 0;
+
+        for (int i = 0; i < guessed.length; i++) {
+            String word = guessed[i];
+            int position = isValid(word) ? validPosition(word) : -1;
+            if (position < 0) {
+                results[i] = 0;
+            } else if (accepted.get(position)
+                || Arrays.binarySearch(foundWords, 0, numFound, position) >= 0)
+            {
+                results[i] = -1;
+            } else {
+                results[i] = wordValue(word);
+                points += results[i];
+                accepted.set(position);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            // The set bits are the new positions in increasing order, which
+            // is sorted order. Merge them into the found words in place, from
+            // the back, and remember where each new word ends up.
+            int[] added = accepted.stream().toArray();
+            int[] indexes = new int[added.length];
+            ensureFoundCapacity(numFound + added.length);
+            int found = numFound - 1;
+            for (int i = added.length - 1, to = numFound + added.length - 1; i >= 0; to--) {
+                if (found >= 0 && foundWords[found] > added[i]) {
+                    foundWords[to] = foundWords[found--];
+                } else {
+                    indexes[i] = to;
+                    foundWords[to] = added[i--];
+                }
+            }
+            numFound += added.length;
+            earnedPoints += points;
+
+            PuzzleListener[] current = listeners;
+            for (int i = 0; i < added.length; i++) {
+                String word = wordPool[validWordIds[added[i]]];
+                for (PuzzleListener listener : current) {
+                    listener.wordFound(this, word, indexes[i]);
+                }
+            }
+            fireRankChanged(current, previousRank, getRank());
+        }
+
+        // Each guess is recorded with its share of the batch's time, so
+        // guesses from the CLI show up in the guess latency
+        SpellingBeeMetrics metrics = SpellingBeeMetrics.get();
+        long share = guessed.length == 0
+            ? 0
+            : (System.nanoTime() - start) / guessed.length;
+        for (int result : results) {
+            metrics.recordGuess(result, share);
+        }
+        if (event.shouldCommit()) {
+            event.puzzleId = PuzzleEvents.puzzleId(this);
+            event.guesses = guessed.length;
+            event.accepted = accepted.cardinality();
+            event.points = points;
+            event.foundWords = numFound;
+            event.commit();
+        }
+
+        return new GuessBatch(
+            Arrays.asList(guessed), results, points, previousRank, getRank()
+        );
+    }
+
+    /**
+     * Tells the listeners that the rank changed, if it did.
+     *
+     * @param current The listeners to tell
+     * @param previousRank The rank before the guess
+     * @param rank The rank after the guess
+     */
+    private void fireRankChanged(
+        PuzzleListener[] current,
+        Rank previousRank,
+        Rank rank
+    ) {
+        if (rank != previousRank) {
+            for (PuzzleListener listener : current) {
+                listener.rankChanged(this, previousRank, rank);
+            }
+        }
+    }
+
     /**
      * Gets the help data for the puzzle.
      * 
@@ -365,6 +1171,112 @@ public class Puzzle {
         return helpData;
     }
 
+    /**
+     * Gets the definition of the puzzle: its letters, words and hints, but
+     * none of the player's progress.
+     *
+     * @return the definition of the puzzle
+     */
+    public PuzzleDefinition getDefinition() {
+        return new PuzzleDefinition(
+            primaryLetter,
+            secondaryLetters,
+            validWords(),
+            helpData
+        );
+    }
+
+    /**
+     * Gets a copy of the puzzle as it is now, which later guesses do not
+     * change. The copy is not made the global instance, so it can be saved
+     * on another thread while the puzzle is still played.
+     *
+     * @return a copy of the puzzle with the words found so far
+     */
+    public Puzzle snapshot() {
+        return new Puzzle(this);
+    }
+
+    /**
+     * Gets a word graph of the puzzle's words, for prefix queries like
+     * checking if a guess can still become a word. The graph is built from
+     * the puzzle's own words, so it stays small and keeps the words the
+     * puzzle was built with if the dictionary is reloaded. It is created
+     * the first time it is needed.
+     *
+     * @return the word graph of the puzzle's words
+     */
+    public Dawg.View getWordGraph() {
+        Dawg.View graph = wordGraph;
+        if (graph == null) {
+            graph = Dawg.of(validWords().toArray(new String[0]))
+                .restrict(primaryLetter, secondaryLetters);
+            wordGraph = graph;
+        }
+        return graph;
+    }
+
+    /**
+     * Gets the version of the dictionary the puzzle's words came from. A
+     * puzzle keeps its words when the dictionary is reloaded, so this may be
+     * older than the dictionary's current version.
+     *
+     * @return the dictionary version, or null if it is not known, as for
+     *         puzzles from a calendar or from older saves
+     */
+    public String getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    /**
+     * Counts the found words that start with the given prefix. Found words
+     * are sorted, so the words with the prefix are next to each other and
+     * the first is found with a binary search.
+     *
+     * @param prefix the prefix to count
+     * @return the number of found words that start with the prefix
+     */
+    public int countFoundWithPrefix(CharSequence prefix) {
+        int low = 0;
+        int high = numFound;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (CharSequence.compare(foundWord(middle), prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        int count = 0;
+        for (int i = low; i < numFound; i++) {
+            if (!startsWith(foundWord(i), prefix)) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a word starts with a prefix, without copying either.
+     *
+     * @param word the word to check
+     * @param prefix the prefix to look for
+     * @return true if the word starts with the prefix
+     */
+    private static boolean startsWith(String word, CharSequence prefix) {
+        if (word.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (word.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Shuffles the secondary letters for the next display
      * 
@@ -380,6 +1292,10 @@ public class Puzzle {
             secondaryLetters[index] = secondaryLetters[i];
             secondaryLetters[i] = temp;
         }
+
+        for (PuzzleListener listener : listeners) {
+            listener.lettersShuffled(this);
+        }
     }
 
     /**
@@ -424,7 +1340,7 @@ public class Puzzle {
      * @param word The word to calculate the value of
      * @return The point value of the word assuming it is a valid guess
      */
-    private int wordValue(String word) {
+    int wordValue(String word) {
         int wordValue;
 
         if (word.length() == MINIMUM_WORD_LENGTH) {
@@ -460,39 +1376,58 @@ public class Puzzle {
         return true;
     }
 
-    private HelpData calculateHelpData() {
+    /**
+     * Works out the help data of the puzzle from its words. This is package
+     * private, rather than private, so the model's benchmarks can time it.
+     *
+     * @return the help data of the puzzle
+     */
+    HelpData calculateHelpData() {
+        List<String> validWords = validWords();
         int numWords = validWords.size();
 
-        long numPangrams = validWords.parallelStream()
-            .filter(this::isPangram)
-            .count();
+        // A puzzle's words are usually too few to be worth counting in
+        // parallel, so the policy only does so for very large puzzles.
+        long numPangrams = ExecutionPolicy.stream(
+            validWords,
+            words -> words.filter(this::isPangram).count()
+        );
         
-        long numPerfectPangrams = validWords.parallelStream()
-            .filter(this::isPangram)
-            .filter(s -> s.length() == 7)
-            .count();
+        long numPerfectPangrams = ExecutionPolicy.stream(
+            validWords,
+            words -> words
+                .filter(this::isPangram)
+                .filter(s -> s.length() == 7)
+                .count()
+        );
         
-        Map<Pair<Character, Integer>, Long> grid = validWords.parallelStream()
-            // maps each word to a pair (char, int) representing
-            // (first letter, word length)
-            .map(s -> new ImmutablePair<>(s.charAt(0), s.length()))
-            .collect(Collectors.groupingBy(
-                // Groups (collapses elements into groups) by the identity
-                // function. Each distinct pair is its own group.
-                Function.identity(),
-                // Maps each group to the number of elements in it.
-                // Here, the number of words with that starting letter and
-                // length.
-                Collectors.counting()
-            ));
+        Map<Pair<Character, Integer>, Long> grid = ExecutionPolicy.stream(
+            validWords,
+            words -> words
+                // maps each word to a pair (char, int) representing
+                // (first letter, word length)
+                .map(s -> new ImmutablePair<>(s.charAt(0), s.length()))
+                .collect(Collectors.groupingBy(
+                    // Groups (collapses elements into groups) by the identity
+                    // function. Each distinct pair is its own group.
+                    Function.identity(),
+                    // Maps each group to the number of elements in it.
+                    // Here, the number of words with that starting letter and
+                    // length.
+                    Collectors.counting()
+                ))
+        );
         
-        Map<String, Long> letterLists = validWords.parallelStream()
-            // Maps each word down to just its first two letters
-            .map(s -> s.substring(0, 2))
-            .collect(Collectors.groupingBy(
-                Function.identity(),
-                Collectors.counting()
-            ));
+        Map<String, Long> letterLists = ExecutionPolicy.stream(
+            validWords,
+            words -> words
+                // Maps each word down to just its first two letters
+                .map(s -> s.substring(0, 2))
+                .collect(Collectors.groupingBy(
+                    Function.identity(),
+                    Collectors.counting()
+                ))
+        );
 
         return new HelpData(
             numWords,
@@ -1,23 +1,19 @@
 package xterminators.spellingbee.model;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.random.RandomGenerator;
-import java.util.stream.Stream;
 
 /**
  * Puzzle builder for creating Puzzles from a single standard interface.
  */
 public class PuzzleBuilder {
-    private File fullDictionary;
-    private File rootsDictionary;
+    private DictionarySource fullDictionary;
+    private DictionarySource rootsDictionary;
 
     private String rootWord;
     private char requiredLetter;
@@ -31,17 +27,30 @@ public class PuzzleBuilder {
      */
     public PuzzleBuilder(File fullDictionary, File rootsDictionary)
         throws FileNotFoundException
+    {
+        this(DictionarySource.file(fullDictionary), DictionarySource.file(rootsDictionary));
+    }
+
+    /**
+     * Creates a new PuzzleBuilder object.
+     *
+     * @param fullDictionary the source of the full dictionary
+     * @param rootsDictionary the source of the root words dictionary
+     * @throws FileNotFoundException if either dictionary does not exist
+     */
+    public PuzzleBuilder(DictionarySource fullDictionary, DictionarySource rootsDictionary)
+        throws FileNotFoundException
     {
         if (!fullDictionary.exists()) {
             throw new FileNotFoundException(
-                "The full dictionary (" + fullDictionary.getAbsolutePath() + ") " +
+                "The full dictionary (" + fullDictionary.name() + ") " +
                 "does not exist."
             );
         }
 
         if (!rootsDictionary.exists()) {
             throw new FileNotFoundException(
-                "The root dictionary (" + rootsDictionary.getAbsolutePath() + ") " +
+                "The root dictionary (" + rootsDictionary.name() + ") " +
                 "does not exist."
             );
         }
@@ -68,14 +77,8 @@ public class PuzzleBuilder {
         }
 
         try {
-            FileReader rootsFileReader = new FileReader(rootsDictionary);
-            BufferedReader rootsReader = new BufferedReader(rootsFileReader);
-
-            boolean rootIsValid = rootsReader.lines()
-                .anyMatch(root::equals);
-
-            rootsReader.close();
-            rootsFileReader.close();
+            boolean rootIsValid = DictionaryIndex.of(rootsDictionary)
+                .contains(root);
 
             if (rootIsValid) {
                 this.rootWord = root;
@@ -137,15 +140,62 @@ public class PuzzleBuilder {
      * @throws IOException if there is an error reading the dictionary files.
      */
     public Puzzle build(RandomGenerator rng) throws IOException {
-        if (rootWord == null) {
-            long numRoots = 0;
-            try (Stream<String> words = Files.lines(rootsDictionary.toPath())) {
-                numRoots = words.count();
-            }
+        return build(rng, true);
+    }
 
-            try (Stream<String> words = Files.lines(rootsDictionary.toPath())) {
-                this.rootWord = words.skip(rng.nextLong(numRoots)).findFirst().get();
-            }
+    /**
+     * Builds the definition of a puzzle based on the current state of the
+     * puzzle builder, as build does, without changing the current puzzle.
+     * Listeners are not told of the puzzle and it is not cached, so this
+     * suits puzzles which may be thrown away.
+     *
+     * @param rng the random number generator to be used for making any random
+     *            choices
+     * @return the definition of the built puzzle
+     * @throws IOException if there is an error reading the dictionary files.
+     */
+    public PuzzleDefinition buildDefinition(RandomGenerator rng)
+        throws IOException
+    {
+        return build(rng, false).getDefinition();
+    }
+
+    /**
+     * Builds a Puzzle object based on the current state of the puzzle
+     * builder, as build does, without making it the current puzzle or caching
+     * it. This suits puzzles used away from the game, such as by workers on
+     * other threads, which must not replace the player's puzzle.
+     *
+     * @param rng the random number generator to be used for making any random
+     *            choices
+     * @return the built Puzzle object
+     * @throws IOException if there is an error reading the dictionary files.
+     */
+    public Puzzle buildDetached(RandomGenerator rng) throws IOException {
+        return build(rng, false);
+    }
+
+    /**
+     * Builds a Puzzle object based on the current state of the puzzle
+     * builder.
+     *
+     * @param rng the random number generator to be used for making any random
+     *            choices
+     * @param publish true to make the puzzle the current puzzle and cache it
+     * @return the built Puzzle object
+     * @throws IOException if there is an error reading the dictionary files.
+     */
+    private Puzzle build(RandomGenerator rng, boolean publish)
+        throws IOException
+    {
+        long start = System.nanoTime();
+        PuzzleEvents.BuildEvent event = new PuzzleEvents.BuildEvent();
+        event.begin();
+
+        if (rootWord == null) {
+            DictionaryIndex roots = DictionaryIndex.of(rootsDictionary);
+            long numRoots = roots.size();
+            this.rootWord = roots.word((int) rng.nextLong(numRoots));
         }
 
         List<Character> distinctLetters = new ArrayList<>();
@@ -166,7 +216,20 @@ public class PuzzleBuilder {
             }
         }
 
-        return new Puzzle(requiredLetter, secondaryLetters, fullDictionary);
+        Puzzle puzzle
+            = new Puzzle(
+                requiredLetter, secondaryLetters, fullDictionary, publish
+            );
+        SpellingBeeMetrics.get().recordBuild(System.nanoTime() - start);
+
+        if (event.shouldCommit()) {
+            event.puzzleId = PuzzleEvents.puzzleId(puzzle);
+            event.rootWord = rootWord;
+            event.wordCount = puzzle.getHelpData().numWords();
+            event.totalPoints = puzzle.getTotalPoints();
+            event.commit();
+        }
+        return puzzle;
     }
 }
 
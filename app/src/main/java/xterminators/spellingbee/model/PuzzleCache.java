@@ -0,0 +1,131 @@
+package xterminators.spellingbee.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least recently used cache of puzzle definitions, keyed by puzzle id.
+ * Building a puzzle's word list means scanning the whole dictionary, so a
+ * puzzle that was played recently is made from the cache instead. Each
+ * dictionary has its own cache, since the words of a puzzle depend on it.
+ *
+ * The cache is safe to use from several threads.
+ */
+public final class PuzzleCache {
+    /** The system property setting how many puzzles each cache holds. */
+    public static final String SIZE_PROPERTY = "spellingbee.puzzleCacheSize";
+    /** How many puzzles each cache holds if the property is not set. */
+    public static final int DEFAULT_SIZE = 64;
+
+    private final int maxSize;
+    private final Map<PuzzleId, PuzzleDefinition> definitions;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize the most puzzles the cache holds; 0 disables it
+     * @throws IllegalArgumentException if maxSize is negative
+     */
+    public PuzzleCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative");
+        }
+        this.maxSize = maxSize;
+        // An access ordered map moves each entry to the end when it is used,
+        // so the eldest entry is always the least recently used.
+        this.definitions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                Map.Entry<PuzzleId, PuzzleDefinition> eldest
+            ) {
+                return size() > PuzzleCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a cache with the size given by the spellingbee.puzzleCacheSize
+     * system property, or the default size.
+     *
+     * @return a new cache
+     */
+    public static PuzzleCache withDefaultSize() {
+        int size = Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE);
+        return new PuzzleCache(Math.max(0, size));
+    }
+
+    /**
+     * Gets a puzzle from the cache, counting a hit or a miss.
+     *
+     * @param id the id of the puzzle
+     * @return the puzzle's definition, or null if it is not cached
+     */
+    public synchronized PuzzleDefinition get(PuzzleId id) {
+        PuzzleDefinition definition = definitions.get(id);
+        if (definition == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return definition;
+    }
+
+    /**
+     * Adds a puzzle to the cache, removing the least recently used puzzle if
+     * the cache is full.
+     *
+     * @param id the id of the puzzle
+     * @param definition the puzzle's definition
+     */
+    public synchronized void put(PuzzleId id, PuzzleDefinition definition) {
+        if (maxSize > 0) {
+            definitions.put(id, definition);
+        }
+    }
+
+    /**
+     * Removes every puzzle from the cache. The counters are kept.
+     */
+    public synchronized void clear() {
+        definitions.clear();
+    }
+
+    /**
+     * Gets the most puzzles the cache holds.
+     *
+     * @return the size limit of the cache
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of puzzles in the cache.
+     *
+     * @return the number of cached puzzles
+     */
+    public synchronized int size() {
+        return definitions.size();
+    }
+
+    /**
+     * Gets the number of lookups that found their puzzle.
+     *
+     * @return the number of hits
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that did not find their puzzle.
+     *
+     * @return the number of misses
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+}
@@ -0,0 +1,292 @@
+package xterminators.spellingbee.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * A run of daily puzzles, precomputed and stored in one file so they can be
+ * served without reading the dictionary.
+ *
+ * The file is a gzipped stream of the first date, the difficulty, and each
+ * day's letters, words and hints. The words of each day are sorted and
+ * stored as the number of letters shared with the word before, followed by
+ * the rest of the word, which keeps a year of puzzles small.
+ */
+public final class PuzzleCalendar {
+    /** Identifies a calendar file. */
+    private static final int MAGIC = 0x53424341;
+    /** The version of the calendar file format. */
+    private static final int VERSION = 1;
+
+    private final LocalDate firstDay;
+    private final Difficulty difficulty;
+    private final PuzzleDefinition[] days;
+
+    /**
+     * Creates a calendar.
+     *
+     * @param firstDay the date of the first puzzle
+     * @param difficulty the difficulty of the puzzles
+     * @param days the puzzles, one per day from the first day on
+     */
+    public PuzzleCalendar(
+        LocalDate firstDay,
+        Difficulty difficulty,
+        List<PuzzleDefinition> days
+    ) {
+        this.firstDay = firstDay;
+        this.difficulty = difficulty;
+        this.days = days.toArray(new PuzzleDefinition[0]);
+    }
+
+    /**
+     * Computes the daily puzzles for a run of days.
+     *
+     * @param dailyPuzzle the daily puzzles to compute
+     * @param firstDay the first date to compute
+     * @param numDays the number of days to compute
+     * @return the calendar of the computed puzzles
+     * @throws IOException if the dictionaries could not be read
+     */
+    public static PuzzleCalendar generate(
+        DailyPuzzle dailyPuzzle,
+        LocalDate firstDay,
+        int numDays
+    ) throws IOException {
+        List<PuzzleDefinition> days = new ArrayList<>(numDays);
+        for (int i = 0; i < numDays; i++) {
+            days.add(dailyPuzzle.definitionFor(firstDay.plusDays(i)));
+        }
+        return new PuzzleCalendar(firstDay, dailyPuzzle.difficulty(), days);
+    }
+
+    /**
+     * Gets the date of the first puzzle.
+     *
+     * @return the first date of the calendar
+     */
+    public LocalDate firstDay() {
+        return firstDay;
+    }
+
+    /**
+     * Gets the number of days in the calendar.
+     *
+     * @return the number of days
+     */
+    public int size() {
+        return days.length;
+    }
+
+    /**
+     * Gets the difficulty of the puzzles.
+     *
+     * @return the difficulty of the puzzles
+     */
+    public Difficulty difficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Gets the puzzle of a date.
+     *
+     * @param date the date of the puzzle
+     * @return the puzzle of the date, or empty if the calendar does not
+     *         cover the date
+     */
+    public Optional<PuzzleDefinition> definitionFor(LocalDate date) {
+        long day = date.toEpochDay() - firstDay.toEpochDay();
+        if (day < 0 || day >= days.length) {
+            return Optional.empty();
+        }
+        return Optional.of(days[(int) day]);
+    }
+
+    /**
+     * Writes the calendar to a file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file could not be written
+     */
+    public void write(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+            new GZIPOutputStream(Files.newOutputStream(file.toPath()))
+        ))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(firstDay.toEpochDay());
+            out.writeUTF(difficulty.name());
+            out.writeInt(days.length);
+
+            for (PuzzleDefinition day : days) {
+                writeDefinition(out, day);
+            }
+        }
+    }
+
+    /**
+     * Reads a calendar from a file.
+     *
+     * @param file the file to read
+     * @return the calendar in the file
+     * @throws IOException if the file could not be read or is not a
+     *                     calendar
+     */
+    public static PuzzleCalendar read(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+            new GZIPInputStream(Files.newInputStream(file.toPath()))
+        ))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not a puzzle calendar.");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException(
+                    file + " has unsupported calendar version " + version + "."
+                );
+            }
+
+            LocalDate firstDay = LocalDate.ofEpochDay(in.readLong());
+            Difficulty difficulty;
+            try {
+                difficulty = Difficulty.valueOf(in.readUTF());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(file + " has an unknown difficulty.", e);
+            }
+
+            int numDays = in.readInt();
+            List<PuzzleDefinition> days = new ArrayList<>(numDays);
+            for (int i = 0; i < numDays; i++) {
+                days.add(readDefinition(in));
+            }
+            return new PuzzleCalendar(firstDay, difficulty, days);
+        }
+    }
+
+    /**
+     * Writes one day's puzzle.
+     *
+     * @param out the stream to write to
+     * @param definition the puzzle to write
+     * @throws IOException if the puzzle could not be written
+     */
+    private static void writeDefinition(
+        DataOutputStream out,
+        PuzzleDefinition definition
+    ) throws IOException {
+        out.writeChar(definition.requiredLetter());
+        char[] letters = definition.secondaryLetters();
+        out.writeByte(letters.length);
+        for (char c : letters) {
+            out.writeChar(c);
+        }
+
+        String[] words = definition.validWords().toArray(new String[0]);
+        Arrays.sort(words);
+        out.writeInt(words.length);
+        String previous = "";
+        for (String word : words) {
+            int shared = 0;
+            int max = Math.min(Math.min(previous.length(), word.length()), 255);
+            while (shared < max && previous.charAt(shared) == word.charAt(shared)) {
+                shared++;
+            }
+            out.writeByte(shared);
+            out.writeUTF(word.substring(shared));
+            previous = word;
+        }
+
+        HelpData help = definition.helpData();
+        out.writeInt(help.totalPoints());
+        out.writeLong(help.numPangrams());
+        out.writeLong(help.numPerfectPangrams());
+
+        out.writeInt(help.startingLetterGrid().size());
+        for (Map.Entry<Pair<Character, Integer>, Long> entry
+            : help.startingLetterGrid().entrySet())
+        {
+            out.writeChar(entry.getKey().getLeft());
+            out.writeInt(entry.getKey().getRight());
+            out.writeLong(entry.getValue());
+        }
+
+        out.writeInt(help.startingLetterPairs().size());
+        for (Map.Entry<String, Long> entry
+            : help.startingLetterPairs().entrySet())
+        {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    /**
+     * Reads one day's puzzle.
+     *
+     * @param in the stream to read from
+     * @return the puzzle that was read
+     * @throws IOException if the puzzle could not be read
+     */
+    private static PuzzleDefinition readDefinition(DataInputStream in)
+        throws IOException
+    {
+        char requiredLetter = in.readChar();
+        char[] letters = new char[in.readUnsignedByte()];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = in.readChar();
+        }
+
+        int numWords = in.readInt();
+        List<String> words = new ArrayList<>(numWords);
+        String previous = "";
+        for (int i = 0; i < numWords; i++) {
+            int shared = in.readUnsignedByte();
+            if (shared > previous.length()) {
+                throw new IOException("The calendar's word list is corrupt.");
+            }
+            String word = previous.substring(0, shared) + in.readUTF();
+            words.add(word);
+            previous = word;
+        }
+
+        int totalPoints = in.readInt();
+        long numPangrams = in.readLong();
+        long numPerfectPangrams = in.readLong();
+
+        int gridSize = in.readInt();
+        Map<Pair<Character, Integer>, Long> grid = new HashMap<>();
+        for (int i = 0; i < gridSize; i++) {
+            char letter = in.readChar();
+            int length = in.readInt();
+            grid.put(new ImmutablePair<>(letter, length), in.readLong());
+        }
+
+        int pairsSize = in.readInt();
+        Map<String, Long> pairs = new HashMap<>();
+        for (int i = 0; i < pairsSize; i++) {
+            String pair = in.readUTF();
+            pairs.put(pair, in.readLong());
+        }
+
+        HelpData helpData = new HelpData(
+            numWords, totalPoints, numPangrams, numPerfectPangrams, grid, pairs
+        );
+        return new PuzzleDefinition(requiredLetter, letters, words, helpData);
+    }
+}
@@ -0,0 +1,74 @@
+package xterminators.spellingbee.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything that defines a puzzle before anyone has played it: its letters,
+ * its words and its hints. A puzzle can be made from a definition without
+ * reading the dictionary, so definitions are what get stored and shared.
+ *
+ * @param requiredLetter the required letter of the puzzle
+ * @param secondaryLetters the six other letters of the puzzle
+ * @param validWords every word of the puzzle
+ * @param helpData the hints for the puzzle
+ */
+public record PuzzleDefinition(
+    char requiredLetter,
+    char[] secondaryLetters,
+    List<String> validWords,
+    HelpData helpData
+) {
+    /**
+     * Creates a definition, copying the letters and words so the definition
+     * can never change.
+     */
+    public PuzzleDefinition {
+        secondaryLetters = Arrays.copyOf(secondaryLetters, secondaryLetters.length);
+        validWords = List.copyOf(validWords);
+    }
+
+    /**
+     * Returns a copy of the six other letters of the puzzle.
+     *
+     * @return the secondary letters of the puzzle
+     */
+    @Override
+    public char[] secondaryLetters() {
+        return Arrays.copyOf(secondaryLetters, secondaryLetters.length);
+    }
+
+    /**
+     * Returns the total number of points that can be earned in the puzzle.
+     *
+     * @return the total points of the puzzle
+     */
+    public int totalPoints() {
+        return helpData.totalPoints();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PuzzleDefinition definition
+            && requiredLetter == definition.requiredLetter
+            && Arrays.equals(secondaryLetters, definition.secondaryLetters)
+            && validWords.equals(definition.validWords)
+            && helpData.equals(definition.helpData);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Character.hashCode(requiredLetter);
+        hash = 31 * hash + Arrays.hashCode(secondaryLetters);
+        hash = 31 * hash + validWords.hashCode();
+        return 31 * hash + helpData.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PuzzleDefinition[requiredLetter=" + requiredLetter
+            + ", secondaryLetters=" + new String(secondaryLetters)
+            + ", words=" + validWords.size()
+            + ", totalPoints=" + totalPoints() + "]";
+    }
+}
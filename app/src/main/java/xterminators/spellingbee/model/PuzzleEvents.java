@@ -0,0 +1,202 @@
+package xterminators.spellingbee.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Flight Recorder events of the game, so the time spent building,
+ * guessing, hinting, saving and loading can be seen in JDK Mission Control
+ * without attaching a profiler. Events cost next to nothing unless a
+ * recording is running, as started by the app's --profile flag or with
+ * jcmd JFR.start.
+ *
+ * Each event is begun before the work and committed after it, with its
+ * fields only filled in if the event will be recorded.
+ */
+public final class PuzzleEvents {
+    /** The category all of the game's events are shown under. */
+    public static final String CATEGORY = "Spelling Bee";
+
+    /** The result code of an operation which succeeded. */
+    public static final int OK = 0;
+    /** The result code of an operation which failed. */
+    public static final int FAILED = 1;
+
+    private PuzzleEvents() {}
+
+    /**
+     * Gets the id of a puzzle to record in an event.
+     *
+     * @param puzzle the puzzle
+     * @return the puzzle's id, or its letters if they do not make a valid
+     *         id, as in a hand edited save
+     */
+    public static String puzzleId(Puzzle puzzle) {
+        try {
+            return PuzzleId.of(puzzle).toString();
+        } catch (IllegalArgumentException e) {
+            return puzzle.getPrimaryLetter()
+                + new String(puzzle.getSecondaryLetters());
+        }
+    }
+
+    /** A puzzle was built, either from the dictionary or the cache. */
+    @Name("xterminators.spellingbee.Build")
+    @Label("Puzzle Build")
+    @Category(CATEGORY)
+    @Description("A new puzzle was built from the dictionaries.")
+    @StackTrace(false)
+    public static final class BuildEvent extends Event {
+        @Label("Puzzle Id")
+        public String puzzleId;
+
+        @Label("Root Word")
+        public String rootWord;
+
+        @Label("Word Count")
+        public int wordCount;
+
+        @Label("Total Points")
+        public int totalPoints;
+    }
+
+    /** A word was guessed. */
+    @Name("xterminators.spellingbee.Guess")
+    @Label("Guess")
+    @Category(CATEGORY)
+    @Description("A word was guessed in a puzzle.")
+    @StackTrace(false)
+    public static final class GuessEvent extends Event {
+        @Label("Puzzle Id")
+        public String puzzleId;
+
+        @Label("Result")
+        @Description("The points earned, 0 if the word is not valid, or -1 if it was already found.")
+        public int result;
+
+        @Label("Found Words")
+        public int foundWords;
+    }
+
+    /** Several words were guessed at once, as from one line of the CLI. */
+    @Name("xterminators.spellingbee.GuessBatch")
+    @Label("Guess Batch")
+    @Category(CATEGORY)
+    @Description("Several words were guessed in a puzzle at once.")
+    @StackTrace(false)
+    public static final class GuessBatchEvent extends Event {
+        @Label("Puzzle Id")
+        public String puzzleId;
+
+        @Label("Guesses")
+        @Description("The number of words guessed.")
+        public int guesses;
+
+        @Label("Accepted")
+        @Description("The number of guesses which were new words.")
+        public int accepted;
+
+        @Label("Points")
+        @Description("The points earned by the batch.")
+        public int points;
+
+        @Label("Found Words")
+        public int foundWords;
+    }
+
+    /** Hints were rendered for a puzzle. */
+    @Name("xterminators.spellingbee.Hint")
+    @Label("Hint")
+    @Category(CATEGORY)
+    @Description("The hints of a puzzle were rendered.")
+    @StackTrace(false)
+    public static final class HintEvent extends Event {
+        @Label("Puzzle Id")
+        public String puzzleId;
+
+        @Label("Style")
+        public String style;
+
+        @Label("Cached")
+        @Description("If the hints were the same as the last ones rendered.")
+        public boolean cached;
+
+        @Label("Length")
+        @Description("The number of characters rendered.")
+        public int length;
+    }
+
+    /** A puzzle was saved. */
+    @Name("xterminators.spellingbee.Save")
+    @Label("Puzzle Save")
+    @Category(CATEGORY)
+    @Description("A puzzle was saved to a file.")
+    @StackTrace(false)
+    public static final class SaveEvent extends Event {
+        @Label("Puzzle Id")
+        public String puzzleId;
+
+        @Label("Path")
+        public String path;
+
+        @Label("Encrypted")
+        public boolean encrypted;
+
+        @Label("Bytes Written")
+        @DataAmount
+        public long bytes;
+
+        @Label("Result")
+        public int result;
+    }
+
+    /** A puzzle was loaded. */
+    @Name("xterminators.spellingbee.Load")
+    @Label("Puzzle Load")
+    @Category(CATEGORY)
+    @Description("A saved puzzle was loaded from a file.")
+    @StackTrace(false)
+    public static final class LoadEvent extends Event {
+        @Label("Puzzle Id")
+        public String puzzleId;
+
+        @Label("Path")
+        public String path;
+
+        @Label("Encrypted")
+        public boolean encrypted;
+
+        @Label("Bytes Read")
+        @DataAmount
+        public long bytes;
+
+        @Label("Word Count")
+        public int wordCount;
+
+        @Label("Result")
+        public int result;
+    }
+
+    /** The high scores were written. */
+    @Name("xterminators.spellingbee.HighScoresSave")
+    @Label("High Scores Save")
+    @Category(CATEGORY)
+    @Description("The high scores were written to their file.")
+    @StackTrace(false)
+    public static final class HighScoresSaveEvent extends Event {
+        @Label("Scores")
+        public int scores;
+
+        @Label("Bytes Written")
+        @DataAmount
+        public long bytes;
+
+        @Label("Result")
+        public int result;
+    }
+}
@@ -0,0 +1,116 @@
+package xterminators.spellingbee.model;
+
+/**
+ * A canonical 32-bit id for a puzzle's letters. The low 26 bits are the mask
+ * of all seven letters, and the next 5 bits are the index of the required
+ * letter in the alphabet. Two puzzles have the same id exactly when they
+ * have the same letters and the same required letter, no matter what order
+ * their letters are shown in.
+ *
+ * @param value the id as an int
+ */
+public record PuzzleId(int value) {
+    /** The bits of the id holding the letter mask. */
+    private static final int LETTERS_MASK = (1 << 26) - 1;
+    /** Where the index of the required letter starts. */
+    private static final int REQUIRED_SHIFT = 26;
+
+    /**
+     * Checks that the value is a valid id.
+     *
+     * @throws IllegalArgumentException if the value is not a valid id
+     */
+    public PuzzleId {
+        int required = value >>> REQUIRED_SHIFT;
+        if (required >= 26 || ((value & LETTERS_MASK) & (1 << required)) == 0) {
+            throw new IllegalArgumentException(
+                "Not a valid puzzle id: " + Integer.toHexString(value)
+            );
+        }
+    }
+
+    /**
+     * Gets the id of a puzzle's letters.
+     *
+     * @param requiredLetter the required letter of the puzzle
+     * @param secondaryLetters the other letters of the puzzle, in any order
+     * @return the id of the letters
+     * @throws IllegalArgumentException if a letter is not a lowercase letter
+     */
+    public static PuzzleId of(char requiredLetter, char[] secondaryLetters) {
+        int requiredBit = DictionaryIndex.letterBit(requiredLetter);
+        int letters = requiredBit;
+        for (char c : secondaryLetters) {
+            int bit = DictionaryIndex.letterBit(c);
+            if (bit == 0) {
+                throw new IllegalArgumentException(
+                    "Not a lowercase letter: " + c
+                );
+            }
+            letters |= bit;
+        }
+        if (requiredBit == 0) {
+            throw new IllegalArgumentException(
+                "Not a lowercase letter: " + requiredLetter
+            );
+        }
+
+        return new PuzzleId(
+            letters | ((requiredLetter - 'a') << REQUIRED_SHIFT)
+        );
+    }
+
+    /**
+     * Gets the id of a puzzle.
+     *
+     * @param puzzle the puzzle
+     * @return the id of the puzzle's letters
+     */
+    public static PuzzleId of(Puzzle puzzle) {
+        return of(puzzle.getPrimaryLetter(), puzzle.getSecondaryLetters());
+    }
+
+    /**
+     * Gets the required letter of the puzzle.
+     *
+     * @return the required letter
+     */
+    public char requiredLetter() {
+        return (char) ('a' + (value >>> REQUIRED_SHIFT));
+    }
+
+    /**
+     * Gets the mask of all of the puzzle's letters.
+     *
+     * @return the letter mask, in the form of {@link DictionaryIndex#mask}
+     */
+    public int letterMask() {
+        return value & LETTERS_MASK;
+    }
+
+    /**
+     * Gets the other letters of the puzzle in alphabetical order.
+     *
+     * @return the letters other than the required letter
+     */
+    public char[] secondaryLetters() {
+        int others = letterMask() & ~DictionaryIndex.letterBit(requiredLetter());
+        char[] letters = new char[Integer.bitCount(others)];
+        for (int i = 0; others != 0; i++) {
+            letters[i] = (char) ('a' + Integer.numberOfTrailingZeros(others));
+            others &= others - 1;
+        }
+        return letters;
+    }
+
+    /**
+     * Gives the id as its required letter followed by its other letters, for
+     * example "a:dginru".
+     *
+     * @return the id as text
+     */
+    @Override
+    public String toString() {
+        return requiredLetter() + ":" + new String(secondaryLetters());
+    }
+}
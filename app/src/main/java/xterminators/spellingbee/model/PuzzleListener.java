@@ -0,0 +1,48 @@
+package xterminators.spellingbee.model;
+
+/**
+ * Receives events as puzzles are played. Every method has an empty default,
+ * so listeners only override the events they care about.
+ *
+ * Events are delivered on the thread that changed the puzzle, right after
+ * the change is made. Puzzles are built on background threads, so a listener
+ * that updates a view must hand the event over to the view's thread. When no
+ * listeners are added, sending an event costs nothing.
+ */
+public interface PuzzleListener {
+    /**
+     * Called when a new word is found in a puzzle.
+     *
+     * @param puzzle the puzzle the word was found in
+     * @param word the word that was found
+     * @param index the index the word was inserted at in the puzzle's sorted
+     *              list of found words
+     */
+    default void wordFound(Puzzle puzzle, String word, int index) {}
+
+    /**
+     * Called when a guess moves a puzzle to a different rank. This comes
+     * after the wordFound events of the guess.
+     *
+     * @param puzzle the puzzle whose rank changed
+     * @param previousRank the rank before the guess
+     * @param rank the rank after the guess
+     */
+    default void rankChanged(Puzzle puzzle, Rank previousRank, Rank rank) {}
+
+    /**
+     * Called when the secondary letters of a puzzle are shuffled.
+     *
+     * @param puzzle the puzzle whose letters were shuffled
+     */
+    default void lettersShuffled(Puzzle puzzle) {}
+
+    /**
+     * Called when the global puzzle is replaced, either by building or
+     * loading a new puzzle, or by putting back an earlier one.
+     *
+     * @param previous the puzzle that was replaced, or null if there was none
+     * @param puzzle the new global puzzle, or null if there is none
+     */
+    default void puzzleReplaced(Puzzle previous, Puzzle puzzle) {}
+}
@@ -14,6 +14,8 @@ sealed public abstract class PuzzleSave
     private int playerPoints;
     private int maxPoints;
     private final String author = "Xterminators";
+    /** The version of the dictionary the puzzle was built from, if known. */
+    private String dictionaryVersion;
 
     public PuzzleSave(char[] baseWord, char requiredLetter, List<String> foundWords, int playerPoints, int maxPoints) {
         this.baseWord = baseWord;
@@ -68,6 +70,25 @@ sealed public abstract class PuzzleSave
         return maxPoints;
     }
 
+    /**
+     * Returns the version of the dictionary the puzzle was built from.
+     *
+     * @return the dictionary version, or null if it is not known, as in saves
+     *         made before versions were recorded
+     */
+    public String dictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    /**
+     * Sets the version of the dictionary the puzzle was built from.
+     *
+     * @param dictionaryVersion the dictionary version, or null if not known
+     */
+    void setDictionaryVersion(String dictionaryVersion) {
+        this.dictionaryVersion = dictionaryVersion;
+    }
+
     /**
      * Returns the list of valid words of the save.
      *
@@ -0,0 +1,376 @@
+package xterminators.spellingbee.model;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counts what the game does and how long it takes: puzzles built, guesses
+ * by result, hints served, saves and loads with their sizes, and high score
+ * writes. The metrics are shared by the whole app and registered as an
+ * MXBean, so they can be read from jconsole or any other JMX client while
+ * the game runs.
+ *
+ * Recording is safe from any thread, and allocates nothing once a counter
+ * has made the cells it needs. Counters are LongAdders, which spread
+ * updates from different threads over separate cells, and latencies are
+ * counted into a fixed set of buckets.
+ */
+public final class SpellingBeeMetrics implements SpellingBeeMetricsMXBean {
+    /** The name the metrics are registered under. */
+    public static final String OBJECT_NAME
+        = "xterminators.spellingbee:type=SpellingBeeMetrics";
+
+    /** The metrics of the app. */
+    private static final SpellingBeeMetrics INSTANCE = new SpellingBeeMetrics();
+
+    private final LongAdder guessesAccepted = new LongAdder();
+    private final LongAdder guessesDuplicate = new LongAdder();
+    private final LongAdder guessesInvalid = new LongAdder();
+    private final LongAdder saveBytes = new LongAdder();
+    private final LongAdder loadBytes = new LongAdder();
+
+    private final Latency builds = new Latency();
+    private final Latency guesses = new Latency();
+    private final Latency hints = new Latency();
+    private final Latency saves = new Latency();
+    private final Latency loads = new Latency();
+    private final Latency highScoreWrites = new Latency();
+
+    /** Creates metrics which are not registered, for tests. */
+    SpellingBeeMetrics() {}
+
+    /**
+     * Gets the metrics of the app.
+     *
+     * @return the shared metrics
+     */
+    public static SpellingBeeMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the metrics of the app with the platform MBean server, if
+     * they are not already.
+     *
+     * @return true if the metrics are registered
+     */
+    public static boolean register() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+            return true;
+        } catch (JMException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records a puzzle being built.
+     *
+     * @param nanos how long it took
+     */
+    public void recordBuild(long nanos) {
+        builds.record(nanos);
+    }
+
+    /**
+     * Records a guess.
+     *
+     * @param result the result of the guess, as Puzzle.guess gives it
+     * @param nanos how long it took
+     */
+    public void recordGuess(int result, long nanos) {
+        countGuess(result);
+        guesses.record(nanos);
+    }
+
+    /**
+     * Counts a guess without its latency.
+     *
+     * @param result the result of the guess, as Puzzle.guess gives it
+     */
+    public void countGuess(int result) {
+        if (result > 0) {
+            guessesAccepted.increment();
+        } else if (result < 0) {
+            guessesDuplicate.increment();
+        } else {
+            guessesInvalid.increment();
+        }
+    }
+
+    /**
+     * Records hints being shown.
+     *
+     * @param nanos how long rendering them took
+     */
+    public void recordHint(long nanos) {
+        hints.record(nanos);
+    }
+
+    /**
+     * Records a puzzle being saved.
+     *
+     * @param bytes the size of the save
+     * @param nanos how long it took
+     */
+    public void recordSave(long bytes, long nanos) {
+        saveBytes.add(bytes);
+        saves.record(nanos);
+    }
+
+    /**
+     * Records a puzzle being loaded.
+     *
+     * @param bytes the size of the save
+     * @param nanos how long it took
+     */
+    public void recordLoad(long bytes, long nanos) {
+        loadBytes.add(bytes);
+        loads.record(nanos);
+    }
+
+    /**
+     * Records the high scores being written.
+     *
+     * @param nanos how long it took
+     */
+    public void recordHighScoreWrite(long nanos) {
+        highScoreWrites.record(nanos);
+    }
+
+    @Override
+    public long getPuzzlesBuilt() {
+        return builds.count.sum();
+    }
+
+    @Override
+    public long getGuessesAccepted() {
+        return guessesAccepted.sum();
+    }
+
+    @Override
+    public long getGuessesDuplicate() {
+        return guessesDuplicate.sum();
+    }
+
+    @Override
+    public long getGuessesInvalid() {
+        return guessesInvalid.sum();
+    }
+
+    @Override
+    public long getHintsServed() {
+        return hints.count.sum();
+    }
+
+    @Override
+    public long getSaves() {
+        return saves.count.sum();
+    }
+
+    @Override
+    public long getSaveBytes() {
+        return saveBytes.sum();
+    }
+
+    @Override
+    public long getLoads() {
+        return loads.count.sum();
+    }
+
+    @Override
+    public long getLoadBytes() {
+        return loadBytes.sum();
+    }
+
+    @Override
+    public long getHighScoreWrites() {
+        return highScoreWrites.count.sum();
+    }
+
+    @Override
+    public LatencySummary getBuildLatency() {
+        return builds.summary();
+    }
+
+    @Override
+    public LatencySummary getGuessLatency() {
+        return guesses.summary();
+    }
+
+    @Override
+    public LatencySummary getHintLatency() {
+        return hints.summary();
+    }
+
+    @Override
+    public LatencySummary getSaveLatency() {
+        return saves.summary();
+    }
+
+    @Override
+    public LatencySummary getLoadLatency() {
+        return loads.summary();
+    }
+
+    @Override
+    public LatencySummary getHighScoreWriteLatency() {
+        return highScoreWrites.summary();
+    }
+
+    @Override
+    public void reset() {
+        guessesAccepted.reset();
+        guessesDuplicate.reset();
+        guessesInvalid.reset();
+        saveBytes.reset();
+        loadBytes.reset();
+        for (Latency latency : new Latency[] {
+            builds, guesses, hints, saves, loads, highScoreWrites
+        }) {
+            latency.reset();
+        }
+    }
+
+    /**
+     * A histogram of latencies with fixed buckets. Each power of two of
+     * nanoseconds is split into four buckets, so a latency is known to
+     * within a quarter of its value, from a nanosecond to centuries.
+     */
+    static final class Latency {
+        /** The number of bits after the leading one each bucket keeps. */
+        private static final int SUB_BUCKET_BITS = 2;
+        /** The number of buckets, enough for every non-negative long. */
+        private static final int BUCKET_COUNT = (Long.SIZE + 1) << SUB_BUCKET_BITS;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Latency() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Records a latency.
+         *
+         * @param nanos the latency, in nanoseconds; negative values are
+         *              counted as zero
+         */
+        void record(long nanos) {
+            nanos = Math.max(0, nanos);
+            buckets[indexOf(nanos)].increment();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        /**
+         * Gets the bucket a latency is counted in.
+         *
+         * @param nanos a non-negative latency
+         * @return the index of the latency's bucket
+         */
+        static int indexOf(long nanos) {
+            if (nanos < (1 << SUB_BUCKET_BITS)) {
+                return (int) nanos;
+            }
+            int bits = Long.SIZE - Long.numberOfLeadingZeros(nanos);
+            int shift = bits - 1 - SUB_BUCKET_BITS;
+            // The leading one is dropped, leaving the bits after it
+            int sub = (int) (nanos >>> shift) & ((1 << SUB_BUCKET_BITS) - 1);
+            return ((bits - SUB_BUCKET_BITS) << SUB_BUCKET_BITS) + sub;
+        }
+
+        /**
+         * Gets the highest latency counted in a bucket.
+         *
+         * @param index the index of the bucket
+         * @return the highest latency of the bucket, in nanoseconds
+         */
+        static long highestValueAt(int index) {
+            if (index < (1 << SUB_BUCKET_BITS)) {
+                return index;
+            }
+            int bits = (index >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS;
+            int shift = bits - 1 - SUB_BUCKET_BITS;
+            long top = (1L << SUB_BUCKET_BITS) | (index & ((1 << SUB_BUCKET_BITS) - 1));
+            // Wraps around to Long.MAX_VALUE for the last bucket
+            return ((top + 1) << shift) - 1;
+        }
+
+        /**
+         * Sums up the recorded latencies. Latencies recorded while this
+         * runs may or may not be counted.
+         *
+         * @return the summary
+         */
+        LatencySummary summary() {
+            long[] counts = new long[BUCKET_COUNT];
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+            }
+            long max = maxNanos.get();
+            return new LatencySummary(
+                total,
+                total == 0 ? 0 : totalNanos.sum() / 1e3 / total,
+                percentile(counts, total, 50, max) / 1e3,
+                percentile(counts, total, 99, max) / 1e3,
+                max / 1e3
+            );
+        }
+
+        /** Sets the histogram back to empty. */
+        void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+
+        /**
+         * Finds a percentile of some bucket counts.
+         *
+         * @param counts the count of each bucket
+         * @param total the sum of the counts
+         * @param percentile the percentile, from 0 to 100
+         * @param max the largest latency, which no percentile is above
+         * @return the highest latency of the percentile's bucket
+         */
+        private static long percentile(
+            long[] counts,
+            long total,
+            double percentile,
+            long max
+        ) {
+            if (total == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return Math.min(highestValueAt(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
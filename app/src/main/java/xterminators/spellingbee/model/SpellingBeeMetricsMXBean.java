@@ -0,0 +1,58 @@
+package xterminators.spellingbee.model;
+
+/**
+ * The game's counters and latencies, as shown over JMX in jconsole or any
+ * other JMX client, under the name in SpellingBeeMetrics.OBJECT_NAME.
+ */
+public interface SpellingBeeMetricsMXBean {
+    /** @return the number of puzzles built */
+    long getPuzzlesBuilt();
+
+    /** @return the number of guesses which found a new word */
+    long getGuessesAccepted();
+
+    /** @return the number of guesses of words which were already found */
+    long getGuessesDuplicate();
+
+    /** @return the number of guesses which were not words of the puzzle */
+    long getGuessesInvalid();
+
+    /** @return the number of times hints were shown */
+    long getHintsServed();
+
+    /** @return the number of puzzles saved */
+    long getSaves();
+
+    /** @return the number of bytes written by saves */
+    long getSaveBytes();
+
+    /** @return the number of puzzles loaded */
+    long getLoads();
+
+    /** @return the number of bytes read by loads */
+    long getLoadBytes();
+
+    /** @return the number of times the high scores were written */
+    long getHighScoreWrites();
+
+    /** @return the latency of building a puzzle */
+    LatencySummary getBuildLatency();
+
+    /** @return the latency of a guess */
+    LatencySummary getGuessLatency();
+
+    /** @return the latency of showing hints */
+    LatencySummary getHintLatency();
+
+    /** @return the latency of saving a puzzle */
+    LatencySummary getSaveLatency();
+
+    /** @return the latency of loading a puzzle */
+    LatencySummary getLoadLatency();
+
+    /** @return the latency of writing the high scores */
+    LatencySummary getHighScoreWriteLatency();
+
+    /** Sets every counter and latency back to zero. */
+    void reset();
+}
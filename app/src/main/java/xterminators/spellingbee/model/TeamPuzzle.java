@@ -0,0 +1,275 @@
+package xterminators.spellingbee.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A puzzle solved by a team of players at once. Any number of threads can
+ * guess words at the same time without taking a lock.
+ *
+ * Every word of the puzzle has an index, and the found words are kept as a
+ * bitset over those indexes. A word is claimed by setting its bit with a
+ * compare and set, so exactly one player finds each word, no matter how
+ * many guess it at once. The points of the team and of each player are kept
+ * in striped counters, so players adding points do not slow each other down.
+ *
+ * Guesses give the same results as Puzzle.guess: -1 if the word was already
+ * found by anyone on the team, 0 if it is not a word of the puzzle, and
+ * otherwise the points it earned. Totals read while players are guessing
+ * may not include guesses that are still being made.
+ */
+public class TeamPuzzle {
+    /**
+     * A player on the team. A player can guess from any number of threads.
+     */
+    public static final class Player {
+        private final TeamPuzzle team;
+        private final String name;
+        private final LongAdder points = new LongAdder();
+        private final LongAdder wordsFound = new LongAdder();
+
+        /**
+         * Creates a player on a team.
+         *
+         * @param team the team the player is on
+         * @param name the name of the player
+         */
+        private Player(TeamPuzzle team, String name) {
+            this.team = team;
+            this.name = name;
+        }
+
+        /**
+         * Guesses a word for the team.
+         *
+         * @param word the word guessed
+         * @return -1 if the word was already found by the team,
+         *          0 if the word is not a word of the puzzle,
+         *          the number of points earned otherwise
+         */
+        public int guess(String word) {
+            return team.guess(this, word);
+        }
+
+        /**
+         * Gets the name of the player.
+         *
+         * @return the name of the player
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the points this player has earned for the team.
+         *
+         * @return the player's points
+         */
+        public int getPoints() {
+            return (int) points.sum();
+        }
+
+        /**
+         * Gets the number of words this player found first.
+         *
+         * @return the number of words the player found
+         */
+        public int getNumFound() {
+            return (int) wordsFound.sum();
+        }
+    }
+
+    private final char primaryLetter;
+    private final char[] secondaryLetters;
+    /** The words of the puzzle, sorted. A word's index is its position. */
+    private final String[] words;
+    /** The index of each word. Never changed after construction. */
+    private final Map<String, Integer> indexes;
+    /** The points of each word, by index. */
+    private final int[] wordPoints;
+    private final int totalPoints;
+
+    /** One bit per word, set once the word is found. */
+    private final AtomicLongArray found;
+    private final LongAdder earnedPoints = new LongAdder();
+    private final LongAdder numFound = new LongAdder();
+    private final ConcurrentHashMap<String, Player> players
+        = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a team puzzle with the same letters and words as a puzzle.
+     * Nothing has been found yet, whatever was found in the given puzzle.
+     *
+     * @param puzzle the puzzle to solve as a team
+     */
+    public TeamPuzzle(Puzzle puzzle) {
+        PuzzleDefinition definition = puzzle.getDefinition();
+        this.primaryLetter = definition.requiredLetter();
+        this.secondaryLetters = definition.secondaryLetters();
+
+        this.words = definition.validWords().toArray(new String[0]);
+        Arrays.sort(words);
+
+        this.indexes = new HashMap<>(words.length * 2);
+        this.wordPoints = new int[words.length];
+        int total = 0;
+        for (int i = 0; i < words.length; i++) {
+            indexes.put(words[i], i);
+            wordPoints[i] = puzzle.wordValue(words[i]);
+            total += wordPoints[i];
+        }
+        this.totalPoints = total;
+
+        this.found = new AtomicLongArray((words.length + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * Gets the player with the given name, adding them to the team if they
+     * have not joined yet.
+     *
+     * @param name the name of the player
+     * @return the player
+     */
+    public Player join(String name) {
+        return players.computeIfAbsent(name, n -> new Player(this, n));
+    }
+
+    /**
+     * Gets the players on the team.
+     *
+     * @return the players, in no particular order
+     */
+    public List<Player> getPlayers() {
+        return new ArrayList<>(players.values());
+    }
+
+    /**
+     * Guesses a word for a player.
+     *
+     * @param player the player guessing
+     * @param word the word guessed
+     * @return -1 if the word was already found, 0 if it is not a word of the
+     *         puzzle, the number of points earned otherwise
+     */
+    private int guess(Player player, String word) {
+        Integer index = indexes.get(word);
+        if (index == null) {
+            return 0;
+        }
+
+        int slot = index >>> 6;
+        long bit = 1L << index;
+        long bits;
+        do {
+            bits = found.get(slot);
+            if ((bits & bit) != 0) {
+                return -1;
+            }
+        } while (!found.compareAndSet(slot, bits, bits | bit));
+
+        int points = wordPoints[index];
+        earnedPoints.add(points);
+        numFound.increment();
+        player.points.add(points);
+        player.wordsFound.increment();
+        return points;
+    }
+
+    /**
+     * Checks if the team has found a word.
+     *
+     * @param word the word to check
+     * @return true if the word is a word of the puzzle and has been found
+     */
+    public boolean isFound(String word) {
+        Integer index = indexes.get(word);
+        return index != null
+            && (found.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets the words the team has found.
+     *
+     * @return the found words, sorted
+     */
+    public List<String> getFoundWords() {
+        List<String> foundWords = new ArrayList<>();
+        for (int slot = 0; slot < found.length(); slot++) {
+            long bits = found.get(slot);
+            while (bits != 0) {
+                foundWords.add(words[slot * Long.SIZE + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        return foundWords;
+    }
+
+    /**
+     * Gets the number of words the team has found.
+     *
+     * @return the number of found words
+     */
+    public int getNumFound() {
+        return (int) numFound.sum();
+    }
+
+    /**
+     * Gets the points the team has earned.
+     *
+     * @return the team's points
+     */
+    public int getEarnedPoints() {
+        return (int) earnedPoints.sum();
+    }
+
+    /**
+     * Gets the total number of points that can be earned.
+     *
+     * @return the total points of the puzzle
+     */
+    public int getTotalPoints() {
+        return totalPoints;
+    }
+
+    /**
+     * Gets the rank the team has reached.
+     *
+     * @return the team's rank
+     */
+    public Rank getRank() {
+        return Puzzle.rankFor(earnedPoints.sum(), totalPoints);
+    }
+
+    /**
+     * Gets the required letter of the puzzle.
+     *
+     * @return the required letter
+     */
+    public char getPrimaryLetter() {
+        return primaryLetter;
+    }
+
+    /**
+     * Gets the other letters of the puzzle.
+     *
+     * @return a copy of the other letters
+     */
+    public char[] getSecondaryLetters() {
+        return secondaryLetters.clone();
+    }
+
+    /**
+     * Gets the words of the puzzle.
+     *
+     * @return the words, sorted
+     */
+    public List<String> getWords() {
+        return List.of(words);
+    }
+}
@@ -0,0 +1,75 @@
+package xterminators.spellingbee.tools;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.DailyPuzzle;
+import xterminators.spellingbee.model.Difficulty;
+import xterminators.spellingbee.model.PuzzleCalendar;
+
+/**
+ * Precomputes the daily puzzles for a run of days, with their words and
+ * hints, into one calendar file. Point the app at the file with the
+ * spellingbee.calendar system property to serve daily puzzles from it.
+ *
+ * Usage:
+ * <pre>
+ * CalendarGenerator --out &lt;file&gt; [--start YYYY-MM-DD] [--days N] [--difficulty easy|medium|hard|any]
+ * </pre>
+ */
+public class CalendarGenerator {
+    public static void main(String[] args) throws Exception {
+        File output = null;
+        LocalDate start = LocalDate.now();
+        int days = 365;
+        Difficulty difficulty = Difficulty.MEDIUM;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--out" -> output = new File(args[++i]);
+                    case "--start" -> start = LocalDate.parse(args[++i]);
+                    case "--days" -> days = Integer.parseInt(args[++i]);
+                    case "--difficulty" -> difficulty
+                        = Difficulty.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                    default -> throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            output = null;
+        }
+
+        if (output == null || days < 1) {
+            System.err.println(
+                "Usage: CalendarGenerator --out <file> [--start YYYY-MM-DD] " +
+                "[--days N] [--difficulty easy|medium|hard|any]"
+            );
+            System.exit(1);
+        }
+
+        DailyPuzzle dailyPuzzle = new DailyPuzzle(
+            Resources.dictionary(Resources.DICTIONARY),
+            Resources.dictionary(Resources.ROOTS_DICTIONARY),
+            difficulty,
+            null
+        );
+
+        long begin = System.nanoTime();
+        PuzzleCalendar calendar = PuzzleCalendar.generate(dailyPuzzle, start, days);
+        calendar.write(output);
+        long elapsed = System.nanoTime() - begin;
+
+        System.out.println(String.format(
+            Locale.ROOT,
+            "Wrote %d %s puzzles from %s to %s (%d bytes) in %.1f s",
+            calendar.size(),
+            difficulty.name().toLowerCase(Locale.ROOT),
+            start,
+            output,
+            output.length(),
+            elapsed / 1e9
+        ));
+    }
+}
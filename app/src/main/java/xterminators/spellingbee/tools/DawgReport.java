@@ -0,0 +1,244 @@
+package xterminators.spellingbee.tools;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.Dawg;
+import xterminators.spellingbee.model.DictionaryIndex;
+import xterminators.spellingbee.model.DictionarySource;
+
+/**
+ * Compares the word graph of the dictionary with a HashSet of the same
+ * words: how much memory each takes, and how long lookups take.
+ *
+ * Memory is measured as the growth of the used heap after building each
+ * structure, with garbage collection requested before each measurement, so
+ * the numbers are approximate. The graph's own estimate of its arrays is
+ * shown as well.
+ *
+ * Usage:
+ * <pre>
+ * DawgReport [--lookups N] [--seed S] [dictionary.txt]
+ * </pre>
+ */
+public class DawgReport {
+    /** The puzzle used to time the puzzle view. */
+    private static final char VIEW_PRIMARY_LETTER = 'o';
+    private static final char[] VIEW_SECONDARY_LETTERS
+        = { 'f', 'h', 'a', 'n', 'd', 'e' };
+
+    /** Keeps the measured structures reachable while the heap is measured. */
+    private static Object retained;
+
+    public static void main(String[] args) throws Exception {
+        int lookups = 1_000_000;
+        long seed = 42;
+        File dictionaryFile = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--lookups" -> lookups = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    default -> dictionaryFile = new File(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            System.err.println(
+                "Usage: DawgReport [--lookups N] [--seed S] [dictionary.txt]"
+            );
+            System.exit(1);
+        }
+
+        DictionaryIndex dictionary = DictionaryIndex.of(
+            dictionaryFile == null
+            ? Resources.dictionary(Resources.DICTIONARY)
+            : DictionarySource.file(dictionaryFile)
+        );
+
+        long before = usedHeap();
+        long buildStart = System.nanoTime();
+        Dawg dawg = Dawg.of(dictionary);
+        long buildNanos = System.nanoTime() - buildStart;
+        retained = dawg;
+        long dawgHeap = usedHeap() - before;
+
+        // Copy the strings, so the set's memory includes its own words
+        // rather than sharing them with the dictionary.
+        before = usedHeap();
+        Set<String> set = new HashSet<>();
+        for (int i = 0; i < dictionary.size(); i++) {
+            set.add(new String(dictionary.word(i).toCharArray()));
+        }
+        retained = set;
+        long setHeap = usedHeap() - before;
+        retained = null;
+
+        System.out.println(String.format(
+            Locale.ROOT,
+            "%d words, %d nodes, %d edges, built in %.0f ms",
+            dawg.wordCount(),
+            dawg.nodeCount(),
+            dawg.edgeCount(),
+            buildNanos / 1e6
+        ));
+        System.out.println(String.format(
+            Locale.ROOT,
+            "Memory: DAWG %.2f MB (arrays %.2f MB), HashSet<String> %.2f MB",
+            dawgHeap / 1e6,
+            dawg.memoryBytes() / 1e6,
+            setHeap / 1e6
+        ));
+
+        // Half of the lookups are words, and half are words with their last
+        // letter changed, which are mostly not.
+        Random rng = new Random(seed);
+        String[] queries = new String[4096];
+        for (int i = 0; i < queries.length; i++) {
+            String word = dictionary.word(rng.nextInt(dictionary.size()));
+            if (i % 2 == 1) {
+                char last = (char) ('a' + rng.nextInt(26));
+                word = word.substring(0, word.length() - 1) + last;
+            }
+            queries[i] = word;
+        }
+        String[] prefixes = new String[queries.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            String word = queries[i];
+            prefixes[i] = word.substring(0, 1 + rng.nextInt(word.length()));
+        }
+
+        // Warm up, then time each kind of lookup
+        for (int round = 0; round < 2; round++) {
+            boolean report = round == 1;
+            time("HashSet.contains", lookups, queries, report, set::contains);
+            time("Dawg.contains", lookups, queries, report, dawg::contains);
+            time("Dawg.isPrefix", lookups, prefixes, report, dawg::isPrefix);
+            time(
+                "Dawg.countWithPrefix",
+                lookups,
+                prefixes,
+                report,
+                prefix -> dawg.countWithPrefix(prefix) > 0
+            );
+        }
+
+        long viewStart = System.nanoTime();
+        Dawg.View view = dawg.restrict(VIEW_PRIMARY_LETTER, VIEW_SECONDARY_LETTERS);
+        long viewNanos = System.nanoTime() - viewStart;
+        System.out.println(String.format(
+            Locale.ROOT,
+            "Puzzle view (%c, %s): %d words, created in %.2f ms, %.2f MB",
+            VIEW_PRIMARY_LETTER,
+            new String(VIEW_SECONDARY_LETTERS),
+            view.wordCount(),
+            viewNanos / 1e6,
+            view.memoryBytes() / 1e6
+        ));
+
+        // A puzzle keeps a graph of only its own words
+        String[] puzzleWords = puzzleWords(dictionary);
+        long puzzleStart = System.nanoTime();
+        Dawg.View puzzleView = Dawg.of(puzzleWords)
+            .restrict(VIEW_PRIMARY_LETTER, VIEW_SECONDARY_LETTERS);
+        long puzzleNanos = System.nanoTime() - puzzleStart;
+        System.out.println(String.format(
+            Locale.ROOT,
+            "Puzzle graph (%c, %s): %d words, created in %.2f ms, %.1f KB",
+            VIEW_PRIMARY_LETTER,
+            new String(VIEW_SECONDARY_LETTERS),
+            puzzleView.wordCount(),
+            puzzleNanos / 1e6,
+            puzzleView.memoryBytes() / 1e3
+        ));
+        for (int round = 0; round < 2; round++) {
+            time("View.isPrefix", lookups, prefixes, round == 1, view::isPrefix);
+        }
+    }
+
+    /**
+     * Finds the words of the report's puzzle.
+     *
+     * @param dictionary the dictionary
+     * @return the words that use only the puzzle's letters and include its
+     *         required letter
+     */
+    private static String[] puzzleWords(DictionaryIndex dictionary) {
+        int mask = DictionaryIndex.letterBit(VIEW_PRIMARY_LETTER);
+        for (char c : VIEW_SECONDARY_LETTERS) {
+            mask |= DictionaryIndex.letterBit(c);
+        }
+        int required = DictionaryIndex.letterBit(VIEW_PRIMARY_LETTER);
+
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < dictionary.size(); i++) {
+            int wordMask = dictionary.mask(i);
+            if ((wordMask & ~mask) == 0 && (wordMask & required) != 0) {
+                words.add(dictionary.word(i));
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /** A lookup being timed. */
+    private interface Lookup {
+        boolean test(String query);
+    }
+
+    /**
+     * Times a lookup and prints the average time per call.
+     *
+     * @param name the name of the lookup
+     * @param lookups the number of calls to time
+     * @param queries the queries, used in turn
+     * @param report whether to print the result
+     * @param lookup the lookup to time
+     */
+    private static void time(
+        String name,
+        int lookups,
+        String[] queries,
+        boolean report,
+        Lookup lookup
+    ) {
+        int found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            if (lookup.test(queries[i & (queries.length - 1)])) {
+                found++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (report) {
+            System.out.println(String.format(
+                Locale.ROOT,
+                "%-22s %7.1f ns/lookup (%d of %d matched)",
+                name,
+                (double) elapsed / lookups,
+                found,
+                lookups
+            ));
+        }
+    }
+
+    /**
+     * Measures the used heap after asking for garbage collection.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,129 @@
+package xterminators.spellingbee.tools;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.DictionaryIndex;
+import xterminators.spellingbee.model.DictionarySource;
+
+/**
+ * Measures how long the full dictionary takes to read into an index from
+ * each kind of source: a plain file, a classpath resource, and a gzipped
+ * file and classpath resource. Every read goes around the index cache, so
+ * each run reads and decompresses the whole dictionary.
+ *
+ * The gzipped resource is only timed if the compressed dictionaries are on
+ * the classpath, as they are in the jar and in the dictionaryLoadBenchmark
+ * Gradle task.
+ *
+ * Usage:
+ * <pre>
+ * DictionaryLoadBenchmark [--runs N] [--warmup N]
+ * </pre>
+ */
+public class DictionaryLoadBenchmark {
+    public static void main(String[] args) throws Exception {
+        int runs = 10;
+        int warmup = 3;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--runs" -> runs = Integer.parseInt(args[++i]);
+                    case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                    default -> throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            runs = 0;
+        }
+
+        if (runs < 1 || warmup < 0) {
+            System.err.println("Usage: DictionaryLoadBenchmark [--runs N] [--warmup N]");
+            System.exit(1);
+        }
+
+        // The bundled dictionary may only be in the jar, and compressed, so
+        // the plain and gzipped files are written out from it
+        DictionarySource bundled = Resources.dictionary(Resources.DICTIONARY);
+        File dictionaryFile = File.createTempFile("dictionary", ".txt");
+        dictionaryFile.deleteOnExit();
+        try (InputStream in = bundled.open()) {
+            Files.copy(in, dictionaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        File compressedFile = File.createTempFile("dictionary", ".txt.gz");
+        compressedFile.deleteOnExit();
+        try (
+            InputStream in = Files.newInputStream(dictionaryFile.toPath());
+            OutputStream out = new GZIPOutputStream(
+                Files.newOutputStream(compressedFile.toPath())
+            )
+        ) {
+            in.transferTo(out);
+        }
+
+        Map<String, DictionarySource> sources = new LinkedHashMap<>();
+        sources.put("file", DictionarySource.file(dictionaryFile));
+        sources.put("classpath", DictionarySource.classpath(Resources.DICTIONARY));
+        sources.put(
+            "gzip file",
+            DictionarySource.gzip(DictionarySource.file(compressedFile))
+        );
+        DictionarySource compressedResource
+            = DictionarySource.classpath(Resources.DICTIONARY + ".gz");
+        if (compressedResource.exists()) {
+            sources.put("gzip classpath", DictionarySource.gzip(compressedResource));
+        }
+
+        System.out.println(String.format(
+            Locale.ROOT,
+            "Dictionary: %d bytes, %d bytes gzipped",
+            dictionaryFile.length(),
+            compressedFile.length()
+        ));
+
+        for (Map.Entry<String, DictionarySource> entry : sources.entrySet()) {
+            DictionarySource source = entry.getValue();
+            if (!source.exists()) {
+                System.out.println(entry.getKey() + ": not found, skipped");
+                continue;
+            }
+
+            int words = 0;
+            for (int i = 0; i < warmup; i++) {
+                words = DictionaryIndex.read(source).size();
+            }
+
+            List<Double> millis = new ArrayList<>(runs);
+            for (int i = 0; i < runs; i++) {
+                long start = System.nanoTime();
+                words = DictionaryIndex.read(source).size();
+                millis.add((System.nanoTime() - start) / 1e6);
+            }
+
+            double[] sorted = millis.stream().mapToDouble(Double::doubleValue).toArray();
+            Arrays.sort(sorted);
+            System.out.println(String.format(
+                Locale.ROOT,
+                "%-15s %d words, min %.1f ms, median %.1f ms, max %.1f ms",
+                entry.getKey() + ":",
+                words,
+                sorted[0],
+                sorted[sorted.length / 2],
+                sorted[sorted.length - 1]
+            ));
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package xterminators.spellingbee.tools;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.DictionarySource;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleBuilder;
+import xterminators.spellingbee.ui.PuzzleImageRenderer;
+
+/**
+ * Renders PNG share images for many puzzles at once, without a display.
+ * Puzzles come from save files, or are generated at random.
+ *
+ * Images are rendered in parallel. Each worker thread keeps its own image
+ * and PNG writer and reuses them for every puzzle it renders, and all of the
+ * threads share one renderer.
+ *
+ * Usage:
+ * <pre>
+ * ImageExport --out &lt;dir&gt; [--threads N] [--random N] [--seed S] [save.json ...]
+ * </pre>
+ */
+public class ImageExport {
+    /** The image and writer reused by one worker thread. */
+    private static final class WorkerState {
+        final BufferedImage image = new BufferedImage(
+            PuzzleImageRenderer.WIDTH,
+            PuzzleImageRenderer.HEIGHT,
+            BufferedImage.TYPE_INT_RGB
+        );
+        final ImageWriter writer = createPngWriter();
+    }
+
+    /**
+     * The result of an export.
+     *
+     * @param images the number of images written
+     * @param failures the number of puzzles that could not be exported
+     * @param elapsedNanos how long the export took
+     */
+    public record Result(int images, int failures, long elapsedNanos) {
+        /**
+         * Gets the number of images written per second.
+         *
+         * @return the images written per second
+         */
+        public double imagesPerSecond() {
+            return elapsedNanos == 0 ? 0 : images / (elapsedNanos / 1e9);
+        }
+    }
+
+    private final DictionarySource dictionary;
+    private final DictionarySource rootsDictionary;
+    private final File outputDirectory;
+    private final int threads;
+
+    private final PuzzleImageRenderer renderer;
+    private final ThreadLocal<WorkerState> workerState
+        = ThreadLocal.withInitial(WorkerState::new);
+
+    /**
+     * Creates an exporter.
+     *
+     * @param dictionaryFile the full dictionary puzzles are built from
+     * @param rootsDictionaryFile the dictionary random root words come from
+     * @param outputDirectory the directory images are written to
+     * @param threads the number of images to render at once
+     */
+    public ImageExport(
+        File dictionaryFile,
+        File rootsDictionaryFile,
+        File outputDirectory,
+        int threads
+    ) {
+        this(
+            DictionarySource.file(dictionaryFile),
+            DictionarySource.file(rootsDictionaryFile),
+            outputDirectory,
+            threads
+        );
+    }
+
+    /**
+     * Creates an exporter.
+     *
+     * @param dictionary the full dictionary puzzles are built from
+     * @param rootsDictionary the dictionary random root words come from
+     * @param outputDirectory the directory images are written to
+     * @param threads the number of images to render at once
+     */
+    public ImageExport(
+        DictionarySource dictionary,
+        DictionarySource rootsDictionary,
+        File outputDirectory,
+        int threads
+    ) {
+        this.dictionary = dictionary;
+        this.rootsDictionary = rootsDictionary;
+        this.outputDirectory = outputDirectory;
+        this.threads = Math.max(1, threads);
+        this.renderer = new PuzzleImageRenderer();
+    }
+
+    /**
+     * Exports an image for each save file and for the given number of random
+     * puzzles. Puzzles that cannot be exported are reported on standard error
+     * and counted as failures.
+     *
+     * @param saveFiles the saved puzzles to export
+     * @param randomPuzzles the number of random puzzles to export
+     * @param seed the seed for the random puzzles, so the same seed always
+     *             gives the same puzzles
+     * @return the result of the export
+     * @throws IOException if the output directory could not be created
+     * @throws InterruptedException if interrupted while waiting for workers
+     */
+    public Result export(List<File> saveFiles, int randomPuzzles, long seed)
+        throws IOException, InterruptedException
+    {
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            throw new IOException(
+                "The output directory " + outputDirectory + " could not be created."
+            );
+        }
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (File saveFile : saveFiles) {
+                String name = saveFile.getName().replaceFirst("\\.[^.]*$", "");
+                futures.add(executor.submit(() -> {
+                    write(Puzzle.loadPuzzleDetached(saveFile, dictionary), name);
+                    return null;
+                }));
+            }
+
+            for (int i = 0; i < randomPuzzles; i++) {
+                // Each puzzle gets its own generator, so the puzzles do not
+                // depend on which thread builds them or in what order.
+                Random rng = new Random(seed + i);
+                String name = "random-" + i;
+                futures.add(executor.submit(() -> {
+                    // Built without replacing the player's puzzle, which
+                    // belongs to the game's thread
+                    PuzzleBuilder builder
+                        = new PuzzleBuilder(dictionary, rootsDictionary);
+                    write(builder.buildDetached(rng), name);
+                    return null;
+                }));
+            }
+
+            int images = 0;
+            int failures = 0;
+            Iterator<Future<?>> results = futures.iterator();
+            while (results.hasNext()) {
+                try {
+                    results.next().get();
+                    images++;
+                } catch (ExecutionException e) {
+                    failures++;
+                    System.err.println(
+                        "A puzzle could not be exported: " + e.getCause()
+                    );
+                }
+            }
+
+            return new Result(images, failures, System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Renders a puzzle and writes it as a PNG, using the calling worker
+     * thread's image and writer.
+     *
+     * @param puzzle the puzzle to render
+     * @param name the name of the image, without the extension
+     * @throws IOException if the image could not be written
+     */
+    private void write(Puzzle puzzle, String name) throws IOException {
+        WorkerState state = workerState.get();
+        renderer.render(puzzle, state.image);
+
+        File output = new File(outputDirectory, name + ".png");
+        // Delete first, since the stream only overwrites what it writes
+        output.delete();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            state.writer.setOutput(stream);
+            state.writer.write(state.image);
+        } finally {
+            state.writer.reset();
+        }
+    }
+
+    /**
+     * Creates a writer for PNG images.
+     *
+     * @return a new PNG writer
+     */
+    private static ImageWriter createPngWriter() {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("png");
+        if (!writers.hasNext()) {
+            throw new IllegalStateException("No PNG image writer is available.");
+        }
+        return writers.next();
+    }
+
+    public static void main(String[] args) throws Exception {
+        File outputDirectory = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int randomPuzzles = 0;
+        long seed = System.nanoTime();
+        List<File> saveFiles = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--out" -> outputDirectory = new File(args[++i]);
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    case "--random" -> randomPuzzles = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    default -> saveFiles.add(new File(args[i]));
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            outputDirectory = null;
+        }
+
+        if (outputDirectory == null) {
+            System.err.println(
+                "Usage: ImageExport --out <dir> [--threads N] [--random N] " +
+                "[--seed S] [save.json ...]"
+            );
+            System.exit(1);
+        }
+
+        ImageExport export = new ImageExport(
+            Resources.dictionary(Resources.DICTIONARY),
+            Resources.dictionary(Resources.ROOTS_DICTIONARY),
+            outputDirectory,
+            threads
+        );
+        Result result = export.export(saveFiles, randomPuzzles, seed);
+
+        System.out.println(String.format(
+            Locale.ROOT,
+            "Exported %d images (%d failed) in %.3f s on %d threads: %.1f images/sec",
+            result.images(),
+            result.failures(),
+            result.elapsedNanos() / 1e9,
+            Math.max(1, threads),
+            result.imagesPerSecond()
+        ));
+    }
+}
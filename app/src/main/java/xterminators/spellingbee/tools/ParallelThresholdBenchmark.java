@@ -0,0 +1,204 @@
+package xterminators.spellingbee.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.DictionaryIndex;
+import xterminators.spellingbee.model.ExecutionPolicy;
+
+/**
+ * Measures where running the model's bulk work in parallel starts to pay
+ * off, to choose the thresholds of ExecutionPolicy. Two kinds of work are
+ * timed over word lists of growing size, taken at random from the
+ * dictionary:
+ * <ul>
+ *   <li>stream: the counting done for a puzzle's help data, on one thread
+ *   and as a parallel stream on the model's pool</li>
+ *   <li>sort: sorting word ids by word, as the dictionary does for lookups,
+ *   with Arrays.sort and with Arrays.parallelSort on the model's pool</li>
+ * </ul>
+ *
+ * Arrays.parallelSort only splits the work if the common pool has more
+ * than one thread, so on a single processor both sorts take the same time.
+ *
+ * For each size the best time of the runs is kept. The threshold shown is
+ * the smallest size from which parallel is faster at every larger size.
+ *
+ * Usage:
+ * <pre>
+ * ParallelThresholdBenchmark [--runs N] [--max-size N]
+ * </pre>
+ */
+public class ParallelThresholdBenchmark {
+    public static void main(String[] args) throws Exception {
+        int runs = 20;
+        int maxSize = 262_144;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--runs" -> runs = Integer.parseInt(args[++i]);
+                    case "--max-size" -> maxSize = Integer.parseInt(args[++i]);
+                    default -> throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            runs = 0;
+        }
+
+        if (runs < 1 || maxSize < 16) {
+            System.err.println(
+                "Usage: ParallelThresholdBenchmark [--runs N] [--max-size N]"
+            );
+            System.exit(1);
+        }
+
+        DictionaryIndex index = DictionaryIndex.of(
+            Resources.dictionary(Resources.DICTIONARY)
+        );
+        List<String> all = new ArrayList<>(index.size());
+        for (int i = 0; i < index.size(); i++) {
+            all.add(index.word(i));
+        }
+        Collections.shuffle(all, new Random(42));
+
+        System.out.println(String.format(
+            Locale.ROOT,
+            "%d model threads, best of %d runs",
+            ExecutionPolicy.pool().getParallelism(),
+            runs
+        ));
+        System.out.println(String.format(
+            Locale.ROOT,
+            "%8s %12s %12s %8s %12s %12s %8s",
+            "words", "stream us", "parallel us", "ratio",
+            "sort us", "parallel us", "ratio"
+        ));
+
+        List<Integer> sizes = sizes(Math.min(maxSize, all.size()));
+        double[] streamRatios = new double[sizes.size()];
+        double[] sortRatios = new double[sizes.size()];
+        for (int s = 0; s < sizes.size(); s++) {
+            List<String> words = all.subList(0, sizes.get(s));
+            String[] pool = words.toArray(new String[0]);
+
+            long stream = best(runs, () -> helpCounts(words.stream()));
+            long parallelStream = best(runs, () -> ExecutionPolicy.pool()
+                .submit(() -> helpCounts(words.parallelStream()))
+                .join());
+            long sort = best(runs, () -> sortIds(pool, false));
+            long parallelSort = best(runs, () -> ExecutionPolicy.pool()
+                .submit(() -> sortIds(pool, true))
+                .join());
+
+            streamRatios[s] = (double) stream / parallelStream;
+            sortRatios[s] = (double) sort / parallelSort;
+            System.out.println(String.format(
+                Locale.ROOT,
+                "%8d %12.1f %12.1f %7.2fx %12.1f %12.1f %7.2fx",
+                words.size(),
+                stream / 1e3, parallelStream / 1e3, streamRatios[s],
+                sort / 1e3, parallelSort / 1e3, sortRatios[s]
+            ));
+        }
+
+        System.out.println("stream threshold: " + threshold(sizes, streamRatios));
+        System.out.println("sort threshold: " + threshold(sizes, sortRatios));
+    }
+
+    /**
+     * Gets the sizes to measure: powers of four from 16 up to the largest.
+     *
+     * @param largest the largest size
+     * @return the sizes, increasing
+     */
+    static List<Integer> sizes(int largest) {
+        List<Integer> sizes = new ArrayList<>();
+        for (int size = 16; size < largest; size *= 4) {
+            sizes.add(size);
+        }
+        sizes.add(largest);
+        return sizes;
+    }
+
+    /**
+     * Finds the smallest size from which parallel work was faster at that
+     * size and every larger one.
+     *
+     * @param sizes the sizes measured, increasing
+     * @param ratios the sequential time over the parallel time, by size
+     * @return the threshold, or "none" if parallel was never faster at the
+     *         largest size
+     */
+    static String threshold(List<Integer> sizes, double[] ratios) {
+        int first = sizes.size();
+        while (first > 0 && ratios[first - 1] > 1) {
+            first--;
+        }
+        return first == sizes.size() ? "none" : Integer.toString(sizes.get(first));
+    }
+
+    /**
+     * Does the counting of a puzzle's help data over some words.
+     *
+     * @param words the words, as a sequential or parallel stream
+     * @return the number of words by first letter and length, so the work
+     *         is not optimized away
+     */
+    private static Map<String, Long> helpCounts(Stream<String> words) {
+        return words
+            .filter(s -> s.length() >= 4)
+            .map(s -> s.charAt(0) + ":" + s.length())
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    /**
+     * Sorts the ids of some words by word.
+     *
+     * @param words the words
+     * @param parallel true to use Arrays.parallelSort
+     * @return the sorted ids
+     */
+    private static Integer[] sortIds(String[] words, boolean parallel) {
+        Integer[] order = new Integer[words.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Comparator<Integer> byWord = (a, b) -> words[a].compareTo(words[b]);
+        if (parallel) {
+            Arrays.parallelSort(order, byWord);
+        } else {
+            Arrays.sort(order, byWord);
+        }
+        return order;
+    }
+
+    /**
+     * Times some work, after running it once to warm it up.
+     *
+     * @param runs the number of times to run it
+     * @param work the work
+     * @return the best time, in nanoseconds
+     */
+    private static long best(int runs, Supplier<?> work) {
+        work.get();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            work.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
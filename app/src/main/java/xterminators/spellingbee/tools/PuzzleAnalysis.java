@@ -0,0 +1,454 @@
+package xterminators.spellingbee.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.DictionaryIndex;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleId;
+
+/**
+ * Analyzes every puzzle that can be made from the roots dictionary: each
+ * root with each of its seven letters as the required letter. Roots with
+ * the same letters make the same puzzles, so each puzzle is analyzed once.
+ * For every puzzle the report has its number of words, its total points,
+ * and its pangrams and perfect pangrams, which makes it a dataset for
+ * choosing puzzles by difficulty.
+ *
+ * The dictionary is first grouped by the letter mask of each word, keeping
+ * the number of words and points of each mask. A puzzle's words are then
+ * the words of the masks that are subsets of its letters and include its
+ * required letter, which is 64 lookups per puzzle instead of a scan of the
+ * dictionary. The puzzles are split between the threads of a fork-join
+ * pool, and the scaling from one thread to all of them can be measured.
+ *
+ * Usage:
+ * <pre>
+ * PuzzleAnalysis [--out FILE] [--format csv|binary] [--threads N] [--scaling] [--runs N]
+ * </pre>
+ */
+public class PuzzleAnalysis {
+    /** Identifies a binary report. */
+    public static final int MAGIC = 0x53425041;
+    /** The version of the binary report format. */
+    public static final int VERSION = 1;
+
+    /** The number of puzzles below which a task is not split further. */
+    private static final int SPLIT_THRESHOLD = 1024;
+
+    /**
+     * The analysis of every puzzle. Entry i of each array is for puzzle i.
+     *
+     * @param ids the ids of the puzzles, in increasing order
+     * @param words the number of words of each puzzle
+     * @param points the total points of each puzzle
+     * @param pangrams the number of pangrams of each puzzle
+     * @param perfectPangrams the number of seven letter pangrams of each
+     *                        puzzle
+     */
+    public record Report(
+        int[] ids,
+        int[] words,
+        int[] points,
+        int[] pangrams,
+        int[] perfectPangrams
+    ) {
+        /**
+         * Gets the number of puzzles.
+         *
+         * @return the number of puzzles
+         */
+        public int size() {
+            return ids.length;
+        }
+
+        /**
+         * Finds a puzzle in the report.
+         *
+         * @param id the id of the puzzle
+         * @return the index of the puzzle, or -1 if it is not in the report
+         */
+        public int indexOf(PuzzleId id) {
+            int index = Arrays.binarySearch(ids, id.value());
+            return index < 0 ? -1 : index;
+        }
+
+        /**
+         * Writes the report as CSV, one line per puzzle after a header.
+         *
+         * @param file the file to write
+         * @throws IOException if the file could not be written
+         */
+        public void writeCsv(File file) throws IOException {
+            try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                out.write("required,letters,words,points,pangrams,perfect_pangrams\n");
+                StringBuilder line = new StringBuilder(64);
+                for (int i = 0; i < ids.length; i++) {
+                    PuzzleId id = new PuzzleId(ids[i]);
+                    line.setLength(0);
+                    line.append(id.requiredLetter()).append(',')
+                        .append(id.secondaryLetters()).append(',')
+                        .append(words[i]).append(',')
+                        .append(points[i]).append(',')
+                        .append(pangrams[i]).append(',')
+                        .append(perfectPangrams[i]).append('\n');
+                    out.append(line);
+                }
+            }
+        }
+
+        /**
+         * Writes the report in binary: the magic number, the version and the
+         * number of puzzles, then each puzzle's id, words, points, pangrams
+         * and perfect pangrams as ints.
+         *
+         * @param file the file to write
+         * @throws IOException if the file could not be written
+         */
+        public void writeBinary(File file) throws IOException {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file.toPath())
+            ))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(ids.length);
+                for (int i = 0; i < ids.length; i++) {
+                    out.writeInt(ids[i]);
+                    out.writeInt(words[i]);
+                    out.writeInt(points[i]);
+                    out.writeInt(pangrams[i]);
+                    out.writeInt(perfectPangrams[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * The words of the dictionary grouped by their letter mask, in an open
+     * addressing hash table. Only words that could be in a puzzle are kept.
+     */
+    private static final class MaskTable {
+        private final int[] masks;
+        private final int[] words;
+        private final int[] points;
+        private final int[] perfectPangrams;
+        private final int slotMask;
+
+        MaskTable(DictionaryIndex dictionary) {
+            // Size the table for the number of different masks, so it is
+            // at most half full.
+            int[] kept = new int[dictionary.size()];
+            int numKept = 0;
+            for (int i = 0; i < dictionary.size(); i++) {
+                if (isPossible(dictionary, i)) {
+                    kept[numKept++] = dictionary.mask(i);
+                }
+            }
+            int distinct = (int) Arrays.stream(kept, 0, numKept).distinct().count();
+            int capacity = Integer.highestOneBit(Math.max(8, distinct)) << 2;
+
+            this.masks = new int[capacity];
+            this.words = new int[capacity];
+            this.points = new int[capacity];
+            this.perfectPangrams = new int[capacity];
+            this.slotMask = capacity - 1;
+
+            for (int i = 0; i < dictionary.size(); i++) {
+                if (!isPossible(dictionary, i)) {
+                    continue;
+                }
+
+                int mask = dictionary.mask(i);
+                int length = dictionary.word(i).length();
+                int slot = find(masks, slotMask, mask);
+                masks[slot] = mask;
+                words[slot]++;
+                points[slot] += length == Puzzle.MINIMUM_WORD_LENGTH ? 1 : length;
+                if (length == Puzzle.NUMBER_UNIQUE_LETTERS
+                    && Integer.bitCount(mask) == Puzzle.NUMBER_UNIQUE_LETTERS)
+                {
+                    perfectPangrams[slot]++;
+                }
+            }
+        }
+
+        /**
+         * Checks if a word could be in a puzzle: it is long enough, and has
+         * at most seven letters and nothing that is not a letter.
+         */
+        private static boolean isPossible(DictionaryIndex dictionary, int i) {
+            return dictionary.word(i).length() >= Puzzle.MINIMUM_WORD_LENGTH
+                && Integer.bitCount(dictionary.mask(i)) <= Puzzle.NUMBER_UNIQUE_LETTERS;
+        }
+
+        /**
+         * Finds the slot of a mask, or the empty slot where it belongs.
+         */
+        private static int find(int[] masks, int slotMask, int mask) {
+            int slot = (mask * 0x9E3779B9) >>> 7 & slotMask;
+            while (masks[slot] != 0 && masks[slot] != mask) {
+                slot = (slot + 1) & slotMask;
+            }
+            return slot;
+        }
+
+        /**
+         * Analyzes one puzzle into entry i of the report.
+         */
+        void analyze(int id, int i, Report report) {
+            int letters = id & ((1 << 26) - 1);
+            int required = 1 << (id >>> 26);
+
+            int totalWords = 0;
+            int totalPoints = 0;
+            int pangrams = 0;
+            int perfect = 0;
+
+            // Every subset of the letters that has the required letter
+            for (int subset = letters; subset != 0; subset = (subset - 1) & letters) {
+                if ((subset & required) == 0) {
+                    continue;
+                }
+                int slot = find(masks, slotMask, subset);
+                if (masks[slot] == 0) {
+                    continue;
+                }
+
+                totalWords += words[slot];
+                totalPoints += points[slot];
+                if (subset == letters) {
+                    pangrams += words[slot];
+                    perfect += perfectPangrams[slot];
+                    totalPoints += Puzzle.PANGRAM_BONUS * words[slot];
+                }
+            }
+
+            report.words()[i] = totalWords;
+            report.points()[i] = totalPoints;
+            report.pangrams()[i] = pangrams;
+            report.perfectPangrams()[i] = perfect;
+        }
+    }
+
+    /** Analyzes a range of the puzzles, splitting it between threads. */
+    private static final class AnalyzeTask extends RecursiveAction {
+        private final MaskTable table;
+        private final Report report;
+        private final int from;
+        private final int to;
+
+        AnalyzeTask(MaskTable table, Report report, int from, int to) {
+            this.table = table;
+            this.report = report;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                int[] ids = report.ids();
+                for (int i = from; i < to; i++) {
+                    table.analyze(ids[i], i, report);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                new AnalyzeTask(table, report, from, middle),
+                new AnalyzeTask(table, report, middle, to)
+            );
+        }
+    }
+
+    private final MaskTable table;
+    private final int[] ids;
+    private final int numPairs;
+
+    /**
+     * Prepares to analyze every puzzle of the roots dictionary.
+     *
+     * @param dictionary the dictionary the puzzles' words come from
+     * @param roots the dictionary of root words
+     */
+    public PuzzleAnalysis(DictionaryIndex dictionary, DictionaryIndex roots) {
+        this.table = new MaskTable(dictionary);
+
+        int[] ids = new int[roots.size() * Puzzle.NUMBER_UNIQUE_LETTERS];
+        int pairs = 0;
+        for (int i = 0; i < roots.size(); i++) {
+            int letters = roots.mask(i);
+            if (Integer.bitCount(letters) != Puzzle.NUMBER_UNIQUE_LETTERS) {
+                continue;
+            }
+            for (int rest = letters; rest != 0; rest &= rest - 1) {
+                int letter = Integer.numberOfTrailingZeros(rest);
+                ids[pairs++] = letters | (letter << 26);
+            }
+        }
+        this.numPairs = pairs;
+
+        // Roots with the same letters make the same puzzles
+        Arrays.sort(ids, 0, pairs);
+        int distinct = 0;
+        for (int i = 0; i < pairs; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        this.ids = Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * Gets the number of root and required letter pairs, counting puzzles
+     * made by more than one root once for each root.
+     *
+     * @return the number of pairs
+     */
+    public int numPairs() {
+        return numPairs;
+    }
+
+    /**
+     * Gets the number of different puzzles.
+     *
+     * @return the number of puzzles analyzed
+     */
+    public int numPuzzles() {
+        return ids.length;
+    }
+
+    /**
+     * Analyzes every puzzle.
+     *
+     * @param pool the pool whose threads analyze the puzzles
+     * @return the report of every puzzle
+     */
+    public Report analyze(ForkJoinPool pool) {
+        int n = ids.length;
+        Report report = new Report(
+            ids.clone(), new int[n], new int[n], new int[n], new int[n]
+        );
+        pool.invoke(new AnalyzeTask(table, report, 0, n));
+        return report;
+    }
+
+    public static void main(String[] args) throws Exception {
+        File output = null;
+        boolean binary = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean scaling = false;
+        int runs = 5;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--out" -> output = new File(args[++i]);
+                    case "--format" -> {
+                        String format = args[++i].toLowerCase(Locale.ROOT);
+                        if (!format.equals("csv") && !format.equals("binary")) {
+                            throw new IllegalArgumentException(format);
+                        }
+                        binary = format.equals("binary");
+                    }
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    case "--scaling" -> scaling = true;
+                    case "--runs" -> runs = Integer.parseInt(args[++i]);
+                    default -> throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            threads = 0;
+        }
+
+        if (threads < 1 || runs < 1) {
+            System.err.println(
+                "Usage: PuzzleAnalysis [--out FILE] [--format csv|binary] " +
+                "[--threads N] [--scaling] [--runs N]"
+            );
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        PuzzleAnalysis analysis = new PuzzleAnalysis(
+            DictionaryIndex.of(Resources.dictionary(Resources.DICTIONARY)),
+            DictionaryIndex.of(Resources.dictionary(Resources.ROOTS_DICTIONARY))
+        );
+        System.out.println(String.format(
+            Locale.ROOT,
+            "%d root and letter pairs, %d different puzzles (prepared in %.0f ms)",
+            analysis.numPairs(),
+            analysis.numPuzzles(),
+            (System.nanoTime() - start) / 1e6
+        ));
+
+        int[] threadCounts = scaling ? scalingSteps(threads) : new int[] {threads};
+        double baseline = 0;
+        Report report = null;
+        for (int count : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(count);
+            try {
+                // The first run warms up the code, the best of the rest is kept
+                report = analysis.analyze(pool);
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < runs; run++) {
+                    long begin = System.nanoTime();
+                    report = analysis.analyze(pool);
+                    best = Math.min(best, System.nanoTime() - begin);
+                }
+
+                double perSecond = analysis.numPuzzles() / (best / 1e9);
+                if (baseline == 0) {
+                    baseline = perSecond;
+                }
+                System.out.println(String.format(
+                    Locale.ROOT,
+                    "%3d threads: %8.2f ms, %,.0f puzzles/sec, speedup %.2fx",
+                    count,
+                    best / 1e6,
+                    perSecond,
+                    perSecond / baseline
+                ));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        if (output != null) {
+            if (binary) {
+                report.writeBinary(output);
+            } else {
+                report.writeCsv(output);
+            }
+            System.out.println("Wrote " + report.size() + " puzzles to " + output);
+        }
+    }
+
+    /**
+     * Gets the thread counts to measure scaling with: powers of two up to
+     * the maximum, and the maximum itself.
+     *
+     * @param max the largest number of threads
+     * @return the thread counts, in increasing order
+     */
+    static int[] scalingSteps(int max) {
+        int[] steps = new int[Integer.SIZE];
+        int count = 0;
+        for (int threads = 1; threads < max; threads *= 2) {
+            steps[count++] = threads;
+        }
+        steps[count++] = max;
+        return Arrays.copyOf(steps, count);
+    }
+}
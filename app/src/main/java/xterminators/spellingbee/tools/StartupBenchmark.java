@@ -0,0 +1,228 @@
+package xterminators.spellingbee.tools;
+
+import java.awt.GraphicsEnvironment;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import xterminators.spellingbee.App;
+import xterminators.spellingbee.gui.GuiView;
+
+/**
+ * Measures how long the app takes from launch until its first puzzle is
+ * ready, in both the CLI and the GUI. Every run starts a new JVM, so class
+ * loading and dictionary reading are measured the same way a user sees them.
+ *
+ * The CLI is timed running a batch script that makes one puzzle. The GUI is
+ * timed with the spellingbee.exitAfterFirstPuzzle property set, so it exits
+ * as soon as the first puzzle is shown. The GUI is skipped without a display.
+ *
+ * Usage:
+ * <pre>
+ * StartupBenchmark [--runs N] [--warmup N] [--mode cli|gui|all] [--jvm-arg ARG ...]
+ * </pre>
+ */
+public class StartupBenchmark {
+    /** The modes the app can be started in. */
+    public enum Mode {
+        CLI,
+        GUI
+    }
+
+    /**
+     * The times of the runs of one mode.
+     *
+     * @param mode the mode that was timed
+     * @param millis the time of each run, in milliseconds
+     */
+    public record Summary(Mode mode, double[] millis) {
+        /** @return the fastest run, in milliseconds */
+        public double min() {
+            return Arrays.stream(millis).min().orElse(0);
+        }
+
+        /** @return the slowest run, in milliseconds */
+        public double max() {
+            return Arrays.stream(millis).max().orElse(0);
+        }
+
+        /** @return the average run, in milliseconds */
+        public double mean() {
+            return Arrays.stream(millis).average().orElse(0);
+        }
+
+        /** @return the median run, in milliseconds */
+        public double median() {
+            if (millis.length == 0) {
+                return 0;
+            }
+
+            double[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            int middle = sorted.length / 2;
+            return sorted.length % 2 == 1
+                ? sorted[middle]
+                : (sorted[middle - 1] + sorted[middle]) / 2;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                Locale.ROOT,
+                "%s: %d runs, min %.1f ms, median %.1f ms, mean %.1f ms, max %.1f ms",
+                mode,
+                millis.length,
+                min(),
+                median(),
+                mean(),
+                max()
+            );
+        }
+    }
+
+    /** How long a single run may take before it is stopped. */
+    private static final long RUN_TIMEOUT_SECONDS = 120;
+    /** The batch script the CLI runs: make one puzzle, then exit. */
+    private static final String CLI_SCRIPT = "new" + System.lineSeparator();
+
+    private final List<String> jvmArgs;
+
+    /**
+     * Creates a benchmark which starts the app with the given JVM arguments,
+     * for example to compare runs with and without a CDS archive.
+     *
+     * @param jvmArgs extra arguments for each JVM that is started
+     */
+    public StartupBenchmark(List<String> jvmArgs) {
+        this.jvmArgs = List.copyOf(jvmArgs);
+    }
+
+    /**
+     * Times starting the app in the given mode.
+     *
+     * @param mode the mode to start the app in
+     * @param warmupRuns the number of untimed runs first, to warm disk caches
+     * @param runs the number of timed runs
+     * @return the times of the timed runs
+     * @throws IOException if the app could not be started or failed
+     * @throws InterruptedException if interrupted while waiting for the app
+     */
+    public Summary run(Mode mode, int warmupRuns, int runs)
+        throws IOException, InterruptedException
+    {
+        for (int i = 0; i < warmupRuns; i++) {
+            launch(mode);
+        }
+
+        double[] millis = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            millis[i] = launch(mode) / 1e6;
+        }
+        return new Summary(mode, millis);
+    }
+
+    /**
+     * Starts the app once and waits for it to exit.
+     *
+     * @param mode the mode to start the app in
+     * @return how long the app ran, in nanoseconds
+     * @throws IOException if the app could not be started or failed
+     * @throws InterruptedException if interrupted while waiting for the app
+     */
+    private long launch(Mode mode) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        if (mode == Mode.GUI) {
+            command.add("-D" + GuiView.EXIT_AFTER_FIRST_PUZZLE_PROPERTY + "=true");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(App.class.getName());
+        if (mode == Mode.CLI) {
+            command.add("--batch");
+            command.add("-");
+        }
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD);
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try (OutputStream in = process.getOutputStream()) {
+            if (mode == Mode.CLI) {
+                in.write(CLI_SCRIPT.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        if (!process.waitFor(RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IOException(
+                mode + " run did not finish within " + RUN_TIMEOUT_SECONDS + " s."
+            );
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (process.exitValue() != 0) {
+            throw new IOException(
+                mode + " run exited with status " + process.exitValue() + "."
+            );
+        }
+        return elapsed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 5;
+        int warmupRuns = 1;
+        String modeArg = "all";
+        List<String> jvmArgs = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--runs" -> runs = Integer.parseInt(args[++i]);
+                    case "--warmup" -> warmupRuns = Integer.parseInt(args[++i]);
+                    case "--mode" -> modeArg = args[++i].toLowerCase(Locale.ROOT);
+                    case "--jvm-arg" -> jvmArgs.add(args[++i]);
+                    default -> throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(
+                "Usage: StartupBenchmark [--runs N] [--warmup N] " +
+                "[--mode cli|gui|all] [--jvm-arg ARG ...]"
+            );
+            System.exit(1);
+        }
+
+        List<Mode> modes = new ArrayList<>();
+        if (modeArg.equals("all") || modeArg.equals("cli")) {
+            modes.add(Mode.CLI);
+        }
+        if (modeArg.equals("all") || modeArg.equals("gui")) {
+            if (GraphicsEnvironment.isHeadless()) {
+                System.out.println("GUI: skipped, no display is available.");
+            } else {
+                modes.add(Mode.GUI);
+            }
+        }
+
+        System.out.println(
+            "Time to first puzzle, working directory " +
+            new File("").getAbsolutePath()
+        );
+
+        StartupBenchmark benchmark = new StartupBenchmark(jvmArgs);
+        for (Mode mode : modes) {
+            System.out.println(benchmark.run(mode, warmupRuns, runs));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package xterminators.spellingbee.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleBuilder;
+import xterminators.spellingbee.model.TeamPuzzle;
+
+/**
+ * Measures how many guesses a team puzzle takes per second as more players
+ * guess at once, each on their own thread. Every player guesses the same
+ * list of words, half of them words of the puzzle and half not, starting
+ * at different places in the list, so many players race for each word.
+ *
+ * After every run the team's points are checked: each word must have been
+ * found exactly once, and the players' points must add up to the team's.
+ *
+ * Usage:
+ * <pre>
+ * TeamPuzzleBenchmark [--root WORD --letter C] [--threads N] [--guesses N] [--runs N]
+ * </pre>
+ */
+public class TeamPuzzleBenchmark {
+    public static void main(String[] args) throws Exception {
+        String root = "offhanded";
+        char letter = 'o';
+        int threads = Runtime.getRuntime().availableProcessors();
+        int guesses = 4_000_000;
+        int runs = 5;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--root" -> root = args[++i];
+                    case "--letter" -> letter = args[++i].charAt(0);
+                    case "--threads" -> threads = Integer.parseInt(args[++i]);
+                    case "--guesses" -> guesses = Integer.parseInt(args[++i]);
+                    case "--runs" -> runs = Integer.parseInt(args[++i]);
+                    default -> throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            threads = 0;
+        }
+
+        PuzzleBuilder builder = new PuzzleBuilder(
+            Resources.dictionary(Resources.DICTIONARY),
+            Resources.dictionary(Resources.ROOTS_DICTIONARY)
+        );
+        if (threads < 1 || guesses < 1 || runs < 1
+            || !builder.setRootAndRequiredLetter(root, letter))
+        {
+            System.err.println(
+                "Usage: TeamPuzzleBenchmark [--root WORD --letter C] " +
+                "[--threads N] [--guesses N] [--runs N]"
+            );
+            System.exit(1);
+        }
+
+        Puzzle puzzle = builder.build();
+        String[] list = guessList(new TeamPuzzle(puzzle).getWords());
+        System.out.println(String.format(
+            Locale.ROOT,
+            "%d words, %d points, %,d guesses per run",
+            list.length / 2,
+            puzzle.getTotalPoints(),
+            guesses
+        ));
+
+        double baseline = 0;
+        for (int count : PuzzleAnalysis.scalingSteps(threads)) {
+            long best = Long.MAX_VALUE;
+            // The first run warms up the code, the best of the rest is kept
+            for (int run = 0; run <= runs; run++) {
+                TeamPuzzle team = new TeamPuzzle(puzzle);
+                long elapsed = guessTogether(team, list, count, guesses / count);
+                check(team);
+                if (run > 0) {
+                    best = Math.min(best, elapsed);
+                }
+            }
+
+            double perSecond = (guesses / count) * (double) count / (best / 1e9);
+            if (baseline == 0) {
+                baseline = perSecond;
+            }
+            System.out.println(String.format(
+                Locale.ROOT,
+                "%3d threads: %8.2f ms, %,.0f guesses/sec, speedup %.2fx",
+                count,
+                best / 1e6,
+                perSecond,
+                perSecond / baseline
+            ));
+        }
+    }
+
+    /**
+     * Makes the list of guesses: each word of the puzzle, followed by the
+     * word with a letter added, which is not a word of the puzzle.
+     *
+     * @param words the words of the puzzle
+     * @return the guesses
+     */
+    static String[] guessList(List<String> words) {
+        String[] list = new String[words.size() * 2];
+        for (int i = 0; i < words.size(); i++) {
+            list[2 * i] = words.get(i);
+            list[2 * i + 1] = words.get(i) + "q";
+        }
+        return list;
+    }
+
+    /**
+     * Has players guess at the same time, one per thread. Player i starts
+     * at its own place in the list and goes around it.
+     *
+     * @param team the puzzle to guess in
+     * @param list the guesses
+     * @param players the number of players
+     * @param guessesEach the number of guesses each player makes
+     * @return how long the guessing took, in nanoseconds
+     * @throws InterruptedException if interrupted while waiting for the
+     *                              players
+     */
+    static long guessTogether(
+        TeamPuzzle team,
+        String[] list,
+        int players,
+        int guessesEach
+    ) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(players);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            TeamPuzzle.Player player = team.join("player-" + p);
+            int offset = (int) ((long) p * list.length / players);
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                for (int i = 0, g = offset; i < guessesEach; i++) {
+                    player.guess(list[g]);
+                    if (++g == list.length) {
+                        g = 0;
+                    }
+                }
+            }, "team-player-" + p);
+            threads.add(thread);
+            thread.start();
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.nanoTime() - begin;
+    }
+
+    /**
+     * Checks the points of a team after guessing: the points of the players
+     * must add up to the team's, and no more than every word can be found.
+     *
+     * @param team the team to check
+     * @throws IllegalStateException if the points do not add up
+     */
+    static void check(TeamPuzzle team) {
+        int playerPoints = 0;
+        int playerWords = 0;
+        for (TeamPuzzle.Player player : team.getPlayers()) {
+            playerPoints += player.getPoints();
+            playerWords += player.getNumFound();
+        }
+
+        if (playerPoints != team.getEarnedPoints()
+            || playerWords != team.getNumFound()
+            || team.getNumFound() != team.getFoundWords().size()
+            || team.getEarnedPoints() > team.getTotalPoints())
+        {
+            throw new IllegalStateException(
+                "The team's points do not add up: " + team.getEarnedPoints() +
+                " points, " + playerPoints + " from players."
+            );
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package xterminators.spellingbee.ui;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import xterminators.spellingbee.model.HelpData;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleEvents;
+
+/**
+ * Renders the hints for a puzzle as text. The hints are made of the grid of
+ * word counts by starting letter and length, and the list of two letter
+ * starts. Both the CLI and the GUI render hints through this class, each with
+ * their own style.
+ *
+ * The hints are counted into primitive arrays and written into a single
+ * reused StringBuilder. The rendered text is cached, so asking for the hints
+ * again is free until the puzzle is replaced or its letters are shuffled.
+ * Hints do not depend on the found words, so guesses do not invalidate the
+ * cache.
+ */
+public class HintRenderer {
+    /** The styles hints can be rendered in. */
+    public enum Style {
+        /** Headers are bolded with ANSI escape codes, for the terminal. */
+        ANSI,
+        /** Plain text with wider spacing, for display in a dialog. */
+        PLAIN
+    }
+
+    private static final String ANSI_BOLD = "\u001B[1m";
+    private static final String ANSI_RESET = "\u001B[0m";
+    private static final String SIGMA = "\u03A3";
+    /** The minimum width of a cell in the hint grid. */
+    private static final int MIN_CELL_WIDTH = 3;
+    /** The width of an entry in the two letter list. */
+    private static final int PAIR_WIDTH = 6;
+
+    /** The style the hints are rendered in. */
+    private final Style style;
+    /** The builder all hints are written into. */
+    private final StringBuilder builder;
+
+    /** The help data of the last rendered hint. */
+    private HelpData cachedHelpData;
+    /** The letters, in display order, of the last rendered hint. */
+    private final char[] cachedLetters;
+    /** The last rendered hint. */
+    private String cachedHint;
+
+    /**
+     * Creates a HintRenderer which renders hints in the given style.
+     *
+     * @param style the style to render hints in
+     */
+    public HintRenderer(Style style) {
+        this.style = style;
+        this.builder = new StringBuilder(1024);
+        this.cachedLetters = new char[Puzzle.NUMBER_UNIQUE_LETTERS];
+    }
+
+    /**
+     * Renders the hints for the given puzzle. If the puzzle and the order of
+     * its letters are the same as the last call, the cached hints are
+     * returned.
+     *
+     * @param puzzle the puzzle to render hints for
+     * @return the rendered hints
+     */
+    public String render(Puzzle puzzle) {
+        PuzzleEvents.HintEvent event = new PuzzleEvents.HintEvent();
+        event.begin();
+        String previous = cachedHint;
+        String hint = renderHints(puzzle);
+        if (event.shouldCommit()) {
+            event.puzzleId = PuzzleEvents.puzzleId(puzzle);
+            event.style = style.name();
+            event.cached = hint == previous;
+            event.length = hint.length();
+            event.commit();
+        }
+        return hint;
+    }
+
+    /**
+     * Renders the hints for the given puzzle, as render does, without
+     * recording an event.
+     *
+     * @param puzzle the puzzle to render hints for
+     * @return the rendered hints
+     */
+    private String renderHints(Puzzle puzzle) {
+        HelpData helpData = puzzle.getHelpData();
+        char[] secondaryLetters = puzzle.getSecondaryLetters();
+
+        // The letters are displayed with the secondary letters first and the
+        // primary letter last.
+        char[] letters = Arrays.copyOf(secondaryLetters, secondaryLetters.length + 1);
+        letters[secondaryLetters.length] = puzzle.getPrimaryLetter();
+
+        if (cachedHint != null && helpData == cachedHelpData
+            && Arrays.equals(letters, cachedLetters))
+        {
+            return cachedHint;
+        }
+
+        builder.setLength(0);
+        renderHeader(helpData, letters);
+        renderGrid(helpData, letters);
+        renderPairs(helpData, letters);
+
+        cachedHelpData = helpData;
+        System.arraycopy(letters, 0, cachedLetters, 0, cachedLetters.length);
+        cachedHint = builder.toString();
+        return cachedHint;
+    }
+
+    /**
+     * Writes the letters of the puzzle and the word, point, and pangram totals.
+     *
+     * @param helpData the help data of the puzzle
+     * @param letters the letters of the puzzle, with the primary letter last
+     */
+    private void renderHeader(HelpData helpData, char[] letters) {
+        String newline = System.lineSeparator();
+        int primary = letters.length - 1;
+
+        builder.append("Spelling Bee Grid").append(newline).append(newline);
+
+        if (style == Style.ANSI) {
+            builder.append("Required letter is in").append(ANSI_BOLD)
+                .append(" BOLD ").append(newline).append(newline);
+            builder.append(Character.toUpperCase(letters[primary])).append(' ')
+                .append(ANSI_RESET);
+        } else {
+            builder.append("Required letter is first").append(newline)
+                .append(newline);
+            builder.append(Character.toUpperCase(letters[primary])).append(' ');
+        }
+
+        for (int i = 0; i < primary; i++) {
+            builder.append(Character.toUpperCase(letters[i])).append(' ');
+        }
+        builder.append(newline).append(newline);
+
+        builder.append("WORDS: ").append(helpData.numWords())
+            .append(", POINTS: ").append(helpData.totalPoints())
+            .append(", PANGRAMS: ").append(helpData.numPangrams())
+            .append(" (").append(helpData.numPerfectPangrams())
+            .append(" Perfect)").append(newline).append(newline);
+    }
+
+    /**
+     * Writes the grid of the number of words for each starting letter and
+     * length, with totals for each row and column.
+     *
+     * @param helpData the help data of the puzzle
+     * @param letters the letters of the puzzle, with the primary letter last
+     */
+    private void renderGrid(HelpData helpData, char[] letters) {
+        Map<Pair<Character, Integer>, Long> startingLetterGrid
+            = helpData.startingLetterGrid();
+
+        int maxLength = Puzzle.MINIMUM_WORD_LENGTH;
+        for (Pair<Character, Integer> key : startingLetterGrid.keySet()) {
+            maxLength = Math.max(maxLength, key.getRight());
+        }
+
+        // counts[letter][length], with the totals for each letter in the
+        // extra row at the bottom.
+        int[][] counts = new int[letters.length + 1][maxLength + 1];
+        int[] letterTotals = new int[letters.length + 1];
+        for (Map.Entry<Pair<Character, Integer>, Long> entry
+                : startingLetterGrid.entrySet())
+        {
+            int letter = indexOf(letters, entry.getKey().getLeft());
+            if (letter == -1) {
+                continue;
+            }
+
+            int length = entry.getKey().getRight();
+            int count = entry.getValue().intValue();
+            counts[letter][length] += count;
+            counts[letters.length][length] += count;
+            letterTotals[letter] += count;
+            letterTotals[letters.length] += count;
+        }
+
+        int width = Math.max(MIN_CELL_WIDTH, Math.max(
+            digits(maxLength), digits(letterTotals[letters.length])
+        ));
+
+        String newline = System.lineSeparator();
+
+        // Header row of word lengths
+        appendCell(" ", true, width);
+        for (int length = Puzzle.MINIMUM_WORD_LENGTH; length <= maxLength; length++) {
+            appendCell(length, true, width);
+        }
+        appendCell(SIGMA, true, width);
+        builder.append(newline);
+
+        // One row for each letter, then the row of totals
+        for (int row = 0; row <= letters.length; row++) {
+            boolean isTotals = row == letters.length;
+
+            if (isTotals) {
+                appendCell(SIGMA, true, width);
+            } else {
+                appendCell(Character.toUpperCase(letters[row]), width);
+            }
+
+            for (int length = Puzzle.MINIMUM_WORD_LENGTH; length <= maxLength; length++) {
+                if (!isTotals && counts[row][length] == 0) {
+                    appendCell("-", false, width);
+                } else {
+                    appendCell(counts[row][length], isTotals, width);
+                }
+            }
+
+            appendCell(letterTotals[row], true, width);
+            builder.append(newline);
+        }
+    }
+
+    /**
+     * Writes the list of how many words start with each pair of letters.
+     *
+     * @param helpData the help data of the puzzle
+     * @param letters the letters of the puzzle, with the primary letter last
+     */
+    private void renderPairs(HelpData helpData, char[] letters) {
+        int[][] pairCounts = new int[letters.length][letters.length];
+        for (Map.Entry<String, Long> entry
+                : helpData.startingLetterPairs().entrySet())
+        {
+            int first = indexOf(letters, entry.getKey().charAt(0));
+            int second = indexOf(letters, entry.getKey().charAt(1));
+            if (first != -1 && second != -1) {
+                pairCounts[first][second] += entry.getValue().intValue();
+            }
+        }
+
+        String newline = System.lineSeparator();
+
+        builder.append(newline);
+        if (style == Style.ANSI) {
+            builder.append(ANSI_BOLD).append("Two letter list: ")
+                .append(ANSI_RESET);
+        } else {
+            builder.append("Two letter list: ");
+        }
+        builder.append(newline).append(newline);
+
+        for (int first = 0; first < letters.length; first++) {
+            for (int second = 0; second < letters.length; second++) {
+                int count = pairCounts[first][second];
+                if (count == 0) {
+                    continue;
+                }
+
+                int start = builder.length();
+                builder.append(Character.toUpperCase(letters[first]))
+                    .append(Character.toUpperCase(letters[second]))
+                    .append('=').append(count);
+                pad(PAIR_WIDTH - (builder.length() - start));
+            }
+            builder.append(newline);
+        }
+    }
+
+    /**
+     * Writes a cell of the grid containing the given text.
+     *
+     * @param text the contents of the cell
+     * @param isHeader whether the cell is a header or total cell
+     * @param width the width to pad the cell to
+     */
+    private void appendCell(String text, boolean isHeader, int width) {
+        startCell(isHeader);
+        builder.append(text);
+        endCell(isHeader, width - text.length());
+    }
+
+    /**
+     * Writes a cell of the grid containing the given number.
+     *
+     * @param value the contents of the cell
+     * @param isHeader whether the cell is a header or total cell
+     * @param width the width to pad the cell to
+     */
+    private void appendCell(int value, boolean isHeader, int width) {
+        startCell(isHeader);
+        builder.append(value);
+        endCell(isHeader, width - digits(value));
+    }
+
+    /**
+     * Writes a letter header cell of the grid.
+     *
+     * @param letter the letter of the row
+     * @param width the width to pad the cell to
+     */
+    private void appendCell(char letter, int width) {
+        startCell(true);
+        builder.append(letter);
+        endCell(true, width - 1);
+    }
+
+    private void startCell(boolean isHeader) {
+        if (isHeader && style == Style.ANSI) {
+            builder.append(ANSI_BOLD);
+        }
+    }
+
+    private void endCell(boolean isHeader, int padding) {
+        pad(padding);
+        if (isHeader && style == Style.ANSI) {
+            builder.append(ANSI_RESET);
+        }
+        // Plain text is shown in a proportional font, so it gets more space
+        // between columns.
+        builder.append(style == Style.ANSI ? " " : "  ");
+    }
+
+    /**
+     * Writes the given number of spaces.
+     *
+     * @param count the number of spaces, nothing is written if not positive
+     */
+    private void pad(int count) {
+        for (int i = 0; i < count; i++) {
+            builder.append(' ');
+        }
+    }
+
+    /**
+     * Counts the number of digits in a non-negative number.
+     *
+     * @param value the number
+     * @return the number of digits in its decimal representation
+     */
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Finds the index of a letter in an array of letters.
+     *
+     * @param letters the letters to search
+     * @param letter the letter to find
+     * @return the index of the letter, or -1 if it is not in the array
+     */
+    private static int indexOf(char[] letters, char letter) {
+        for (int i = 0; i < letters.length; i++) {
+            if (letters[i] == letter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
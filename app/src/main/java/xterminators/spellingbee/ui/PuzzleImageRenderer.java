@@ -0,0 +1,215 @@
+package xterminators.spellingbee.ui;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.Rank;
+
+/**
+ * Draws a picture of a puzzle, with its letters, points, rank and rank bar,
+ * straight into an image. Nothing is drawn on screen, so this works without
+ * a display.
+ *
+ * Everything that does not depend on the puzzle, like the background, the
+ * title and the letter cells, is drawn once when the renderer is created.
+ * Rendering copies that background and draws only the puzzle on top of it.
+ * A renderer is never changed after it is created, so one renderer can draw
+ * on many threads at once.
+ */
+public class PuzzleImageRenderer {
+    /** The width of the rendered image. */
+    public static final int WIDTH = 420;
+    /** The height of the rendered image. */
+    public static final int HEIGHT = 420;
+
+    private static final Color BACKGROUND = Color.gray;
+    private static final Color CELL_BORDER = Color.darkGray;
+    private static final Color SECONDARY_CELL = Color.white;
+    private static final Color PRIMARY_CELL = Color.yellow;
+    private static final Color TEXT = Color.black;
+
+    private static final int LEFT_X = 50;
+    private static final int TOP_Y = 100;
+    private static final int CELL_SIZE = 50;
+    private static final int COLUMN_OFFSET = 80;
+
+    /**
+     * The cells of the secondary letters, in the order of the puzzle's
+     * secondary letters. These are laid out the same as the letter buttons
+     * in the GUI.
+     */
+    private static final Rectangle[] SECONDARY_CELLS = {
+        new Rectangle(LEFT_X, TOP_Y + 40, CELL_SIZE, CELL_SIZE),
+        new Rectangle(LEFT_X + COLUMN_OFFSET, TOP_Y, CELL_SIZE, CELL_SIZE),
+        new Rectangle(LEFT_X + (COLUMN_OFFSET * 2), TOP_Y + 40, CELL_SIZE, CELL_SIZE),
+        new Rectangle(LEFT_X + (COLUMN_OFFSET * 2), TOP_Y + 120, CELL_SIZE, CELL_SIZE),
+        new Rectangle(LEFT_X + COLUMN_OFFSET, TOP_Y + 160, CELL_SIZE, CELL_SIZE),
+        new Rectangle(LEFT_X, TOP_Y + 120, CELL_SIZE, CELL_SIZE),
+    };
+    /** The cell of the primary letter, in the middle of the others. */
+    private static final Rectangle PRIMARY_CELL_BOUNDS
+        = new Rectangle(LEFT_X + COLUMN_OFFSET, TOP_Y + 80, CELL_SIZE, CELL_SIZE);
+
+    private static final int TITLE_BASELINE = 40;
+    private static final int POINTS_BASELINE = 348;
+    private static final int RANK_BASELINE = 372;
+    private static final int RANK_BAR_Y = 386;
+
+    private final Font titleFont;
+    private final Font letterFont;
+    private final Font textFont;
+
+    /** Everything that is the same for every puzzle. */
+    private final BufferedImage background;
+    /** The baseline offset that centers a letter in its cell. */
+    private final int letterBaselineOffset;
+    /** The metrics of the letter font, for centering letters. */
+    private final FontMetrics letterMetrics;
+
+    /**
+     * Creates a renderer and draws the parts of the image that are the same
+     * for every puzzle.
+     */
+    public PuzzleImageRenderer() {
+        titleFont = new Font("Helvetica", Font.BOLD, 20);
+        letterFont = new Font("Helvetica", Font.BOLD, 16);
+        textFont = new Font("Helvetica", Font.BOLD, 16);
+
+        background = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = background.createGraphics();
+        try {
+            applyHints(g);
+
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, WIDTH, HEIGHT);
+
+            g.setColor(TEXT);
+            g.setFont(titleFont);
+            g.drawString("Spelling Bee", 10, TITLE_BASELINE);
+
+            for (Rectangle cell : SECONDARY_CELLS) {
+                drawCell(g, cell, SECONDARY_CELL);
+            }
+            drawCell(g, PRIMARY_CELL_BOUNDS, PRIMARY_CELL);
+
+            letterMetrics = g.getFontMetrics(letterFont);
+            letterBaselineOffset = (CELL_SIZE - letterMetrics.getHeight()) / 2
+                + letterMetrics.getAscent();
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Renders the given puzzle into a new image.
+     *
+     * @param puzzle the puzzle to render
+     * @return an image of the puzzle, WIDTH by HEIGHT pixels
+     */
+    public BufferedImage render(Puzzle puzzle) {
+        BufferedImage image
+            = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        render(puzzle, image);
+        return image;
+    }
+
+    /**
+     * Renders the given puzzle into an existing image, so callers drawing
+     * many puzzles can reuse one image. Only the top left WIDTH by HEIGHT
+     * pixels of the image are drawn.
+     *
+     * @param puzzle the puzzle to render
+     * @param target the image to draw into
+     */
+    public void render(Puzzle puzzle, BufferedImage target) {
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(background, 0, 0, null);
+            applyHints(g);
+
+            g.setColor(TEXT);
+            g.setFont(letterFont);
+            char[] secondaryLetters = puzzle.getSecondaryLetters();
+            for (int i = 0; i < SECONDARY_CELLS.length && i < secondaryLetters.length; i++) {
+                drawLetter(g, SECONDARY_CELLS[i], secondaryLetters[i]);
+            }
+            drawLetter(g, PRIMARY_CELL_BOUNDS, puzzle.getPrimaryLetter());
+
+            g.setFont(textFont);
+            g.drawString(
+                "Current Points: " + puzzle.getEarnedPoints(),
+                LEFT_X + 5,
+                POINTS_BASELINE
+            );
+            g.drawString(
+                "Current Rank: " + puzzle.getRank().getRankName(),
+                LEFT_X + 5,
+                RANK_BASELINE
+            );
+
+            Rank[] allRanks = Rank.values();
+            int earnedPoints = puzzle.getEarnedPoints();
+            int totalPoints = puzzle.getTotalPoints();
+            for (int i = 0; i < allRanks.length; i++) {
+                boolean filled
+                    = allRanks[i].getRequiredPoints(totalPoints) <= earnedPoints;
+                g.drawImage(
+                    RankSprites.forRank(i, allRanks.length, filled),
+                    LEFT_X + (i * RankSprites.WIDTH),
+                    RANK_BAR_Y,
+                    null
+                );
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Draws an empty letter cell.
+     *
+     * @param g the graphics to draw with
+     * @param cell the bounds of the cell
+     * @param fill the color of the cell
+     */
+    private static void drawCell(Graphics2D g, Rectangle cell, Color fill) {
+        g.setColor(fill);
+        g.fillRect(cell.x, cell.y, cell.width, cell.height);
+        g.setColor(CELL_BORDER);
+        g.drawRect(cell.x, cell.y, cell.width - 1, cell.height - 1);
+    }
+
+    /**
+     * Draws a letter centered in its cell.
+     *
+     * @param g the graphics to draw with, with the letter font set
+     * @param cell the bounds of the cell
+     * @param letter the letter to draw
+     */
+    private void drawLetter(Graphics2D g, Rectangle cell, char letter) {
+        int width = letterMetrics.charWidth(letter);
+        g.drawString(
+            String.valueOf(letter),
+            cell.x + (cell.width - width) / 2,
+            cell.y + letterBaselineOffset
+        );
+    }
+
+    /**
+     * Turns on text antialiasing.
+     *
+     * @param g the graphics to draw with
+     */
+    private static void applyHints(Graphics2D g) {
+        g.setRenderingHint(
+            RenderingHints.KEY_TEXT_ANTIALIASING,
+            RenderingHints.VALUE_TEXT_ANTIALIAS_ON
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package xterminators.spellingbee.ui;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The hex images used to draw the rank progress bar. The images are read from
+ * the classpath the first time they are needed and shared from then on, so
+ * drawing the rank bar never decodes an image again.
+ */
+public final class RankSprites {
+    /** The width of every rank hex image. */
+    public static final int WIDTH = 32;
+    /** The height of every rank hex image. */
+    public static final int HEIGHT = 16;
+
+    /**
+     * Holds the images so they are only loaded once something asks for them.
+     */
+    private static final class Holder {
+        static final BufferedImage EMPTY_START = load("/hex_empty_start.png");
+        static final BufferedImage EMPTY_MID = load("/hex_empty.png");
+        static final BufferedImage EMPTY_END = load("/hex_empty_end.png");
+        static final BufferedImage FULL_START = load("/hex_full_start.png");
+        static final BufferedImage FULL_MID = load("/hex_full.png");
+        static final BufferedImage FULL_END = load("/hex_full_end.png");
+    }
+
+    private RankSprites() {}
+
+    /**
+     * Gets the image for a hex in the rank bar.
+     *
+     * @param index the index of the hex in the bar
+     * @param count the number of hexes in the bar
+     * @param filled whether the rank of the hex has been reached
+     * @return the image to draw for the hex
+     */
+    public static BufferedImage forRank(int index, int count, boolean filled) {
+        if (index == 0) {
+            return filled ? Holder.FULL_START : Holder.EMPTY_START;
+        } else if (index == count - 1) {
+            return filled ? Holder.FULL_END : Holder.EMPTY_END;
+        } else {
+            return filled ? Holder.FULL_MID : Holder.EMPTY_MID;
+        }
+    }
+
+    /**
+     * Reads an image from the classpath. If the image cannot be read, a blank
+     * image of the same size is used instead so the bar keeps its layout.
+     *
+     * @param resource the absolute classpath location of the image
+     * @return the image
+     */
+    private static BufferedImage load(String resource) {
+        try (InputStream in = RankSprites.class.getResourceAsStream(resource)) {
+            if (in != null) {
+                BufferedImage image = ImageIO.read(in);
+                if (image != null) {
+                    return image;
+                }
+            }
+        } catch (IOException e) {
+            // Fall through to the blank image
+        }
+
+        return new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+}
@@ -2,14 +2,16 @@ package xterminators.spellingbee.ui;
 
 import java.io.File;
 
+import xterminators.spellingbee.model.DictionarySource;
+
 /**
  * An abstract factory for creating a UI for the speeling bee game.
  */
 public abstract class UIFactory {
-    /** The file containing the full dictionary of valid words. */
-    protected File fullDictionary;
-    /** The file containind the dictionary of valid root words. */
-    protected File rootsDictionary;
+    /** The source of the full dictionary of valid words. */
+    protected DictionarySource fullDictionary;
+    /** The source of the dictionary of valid root words. */
+    protected DictionarySource rootsDictionary;
 
     /**
      * Creates a UIFactory with the given dictionaries.
@@ -18,6 +20,16 @@ public abstract class UIFactory {
      * @param rootsDictionary the dictionary of valid root words
      */
     public UIFactory(File fullDictionary, File rootsDictionary) {
+        this(DictionarySource.file(fullDictionary), DictionarySource.file(rootsDictionary));
+    }
+
+    /**
+     * Creates a UIFactory with the given dictionary sources.
+     * 
+     * @param fullDictionary the full dictionary of valid words
+     * @param rootsDictionary the dictionary of valid root words
+     */
+    public UIFactory(DictionarySource fullDictionary, DictionarySource rootsDictionary) {
         this.fullDictionary = fullDictionary;
         this.rootsDictionary = rootsDictionary;
     }
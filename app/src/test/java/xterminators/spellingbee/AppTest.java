@@ -4,7 +4,74 @@
 package xterminators.spellingbee;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.SaveMode;
+import xterminators.spellingbee.ui.HintRenderer;
 
 class AppTest {
+    private static final File dictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    @Test
+    public void testStartProfiling_RecordsGameEvents(@TempDir File tempDir) {
+        Path destination = new File(tempDir, "profile.jfr").toPath();
+        File saveFile = new File(tempDir, "save.json");
+        Puzzle previous = Puzzle.getInstance();
+
+        List<RecordedEvent> events = assertDoesNotThrow(() -> {
+            try (Recording recording = App.startProfiling(destination)) {
+                Puzzle puzzle = offhanded();
+                puzzle.guess("offhand");
+                puzzle.guess("offhand");
+                puzzle.guessAll(List.of("offhand", "hoof", "zoo"));
+                new HintRenderer(HintRenderer.Style.PLAIN).render(puzzle);
+                puzzle.save(saveFile, SaveMode.ENCRYPTED);
+                Puzzle.loadPuzzle(saveFile, dictionaryFile);
+                recording.stop();
+            }
+            return RecordingFile.readAllEvents(destination);
+        });
+        Puzzle.setInstance(previous);
+
+        Map<String, RecordedEvent> byName = new HashMap<>();
+        for (RecordedEvent event : events) {
+            String name = event.getEventType().getName();
+            if (name.startsWith("xterminators.spellingbee.")) {
+                // Keep the last event of each kind
+                byName.put(name.substring("xterminators.spellingbee.".length()), event);
+            }
+        }
+
+        assertEquals("offhanded", byName.get("Build").getString("rootWord"));
+        assertEquals(-1, byName.get("Guess").getInt("result"));
+        assertEquals(1, byName.get("Guess").getInt("foundWords"));
+        assertEquals(3, byName.get("GuessBatch").getInt("guesses"));
+        assertEquals(1, byName.get("GuessBatch").getInt("accepted"));
+        assertEquals(2, byName.get("GuessBatch").getInt("foundWords"));
+        assertEquals("PLAIN", byName.get("Hint").getString("style"));
+        assertTrue(byName.get("Save").getBoolean("encrypted"));
+        assertEquals(saveFile.length(), byName.get("Save").getLong("bytes"));
+        assertEquals(0, byName.get("Save").getInt("result"));
+        assertTrue(byName.get("Load").getBoolean("encrypted"));
+        assertEquals(120, byName.get("Load").getInt("wordCount"));
+        assertEquals(
+            byName.get("Save").getString("puzzleId"),
+            byName.get("Load").getString("puzzleId")
+        );
+    }
 }
@@ -0,0 +1,38 @@
+package xterminators.spellingbee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import xterminators.spellingbee.model.DictionarySource;
+
+public class ResourcesTest {
+    @AfterEach
+    public void clearDictionaryDir() {
+        System.clearProperty(Resources.DICTIONARY_DIR_PROPERTY);
+    }
+
+    @Test
+    public void testDictionary_DictionaryDir(@TempDir File tempDir) {
+        System.setProperty(Resources.DICTIONARY_DIR_PROPERTY, tempDir.getPath());
+
+        DictionarySource source = Resources.dictionary(Resources.ROOTS_DICTIONARY);
+
+        assertEquals(
+            new File(tempDir, "dictionary_roots.txt"),
+            source.file(),
+            "The dictionary should be read from the dictionary directory."
+        );
+    }
+
+    @Test
+    public void testDictionary_Bundled() {
+        DictionarySource source = Resources.dictionary(Resources.ROOTS_DICTIONARY);
+
+        assertEquals("dictionary_roots.txt", source.file().getName());
+    }
+}
@@ -1,10 +1,12 @@
 package xterminators.spellingbee.cli;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyChar;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -15,6 +17,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.lang.reflect.Field;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -24,10 +28,12 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentCaptor;
 
+import xterminators.spellingbee.model.GuessBatch;
 import xterminators.spellingbee.model.Puzzle;
 import xterminators.spellingbee.model.Rank;
 import xterminators.spellingbee.utils.CharArrayOrderlessMatcher;
@@ -325,6 +331,33 @@ public class CLIControllerTest {
         verifyNoMoreInteractions(view);
     }
 
+    @Test
+    public void testGuess_ManyWords() {
+        queueCommand("new offhanded o");
+        queueCommand("guess offhanded off offhand offhanded");
+        loadCommands();
+
+        runCLI();
+
+        ArgumentCaptor<GuessBatch> batch = ArgumentCaptor.forClass(GuessBatch.class);
+
+        verify(view).showPuzzle(
+            eq('o'), 
+            argThat(new CharArrayOrderlessMatcher(new char[] {'f', 'h', 'a', 'n', 'd', 'e'})),
+            eq(Rank.BEGINNER),
+            eq(0)
+        );
+        verify(view).showGuesses(batch.capture());
+        verifyNoMoreInteractions(view);
+
+        assertEquals(
+            List.of("offhanded", "off", "offhand", "offhanded"),
+            batch.getValue().words()
+        );
+        assertArrayEquals(new int[] {16, 0, 7, -1}, batch.getValue().results());
+        assertEquals(23, batch.getValue().points());
+    }
+
     @Test
     public void testFound_NoPuzzle() {
         queueCommand("found");
@@ -404,6 +437,61 @@ public class CLIControllerTest {
         verifyNoMoreInteractions(view);
     }
 
+    @Test
+    public void testBatch(@TempDir File tempDir) throws IOException {
+        File script = new File(tempDir, "script.txt");
+        Files.writeString(
+            script.toPath(),
+            "# comment lines and blank lines are skipped\n" +
+            "new offhanded o\n" +
+            "\n" +
+            "guess offhanded\n" +
+            "exit\n" +
+            "guess offhand\n"
+        );
+
+        CLIController batchController = new CLIController(
+            view,
+            new File(Paths.get("src", "main", "resources", "dictionaries", "dictionary_optimized.txt").toString()),
+            new File(Paths.get("src", "main", "resources", "dictionaries", "dictionary_roots.txt").toString()),
+            script
+        );
+        batchController.run();
+
+        verify(view).showPuzzle(
+            eq('o'),
+            argThat(new CharArrayOrderlessMatcher(new char[] {'f', 'h', 'a', 'n', 'd', 'e'})),
+            eq(Rank.BEGINNER),
+            eq(0)
+        );
+        verify(view).showGuess(eq("offhanded"), eq(16));
+        verify(view).showTiming(eq("new offhanded o"), anyLong());
+        verify(view).showTiming(eq("guess offhanded"), anyLong());
+        verify(view).showTiming(eq("exit"), anyLong());
+        verify(view).showTiming(eq("3 commands"), anyLong());
+        verify(view).flush();
+        verifyNoMoreInteractions(view);
+    }
+
+    @Test
+    public void testBatch_MissingScript(@TempDir File tempDir) {
+        File script = new File(tempDir, "missing.txt");
+
+        CLIController batchController = new CLIController(
+            view,
+            new File(Paths.get("src", "main", "resources", "dictionaries", "dictionary_optimized.txt").toString()),
+            new File(Paths.get("src", "main", "resources", "dictionaries", "dictionary_roots.txt").toString()),
+            script
+        );
+        batchController.run();
+
+        verify(view).showErrorMessage(
+            "The batch script " + script.getPath() + " could not be read."
+        );
+        verify(view).flush();
+        verifyNoMoreInteractions(view);
+    }
+
     /**
      * Adds a command string to be queued and executed by the controller. Has no
      * effect if loadCommands is never called.
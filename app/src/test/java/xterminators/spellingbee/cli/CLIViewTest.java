@@ -2,6 +2,7 @@ package xterminators.spellingbee.cli;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.List;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import xterminators.spellingbee.model.Puzzle;
 import xterminators.spellingbee.model.Rank;
 
 public class CLIViewTest {
@@ -105,6 +107,24 @@ public class CLIViewTest {
         );
     }
 
+    @Test
+    public void testShowGuess_NewRank() {
+        view.rankChanged(Puzzle.getInstance(), Rank.BEGINNER, Rank.GOOD_START);
+        view.showGuess("offhand", 7);
+        view.showGuess("hand", 1);
+
+        assertEquals(
+            "You found \"offhand\". You earned 7 points."
+                + System.lineSeparator()
+                + "You reached a new rank! Your rank is now Good Start."
+                + System.lineSeparator()
+                + "You found \"hand\". You earned 1 points."
+                + System.lineSeparator(),
+            outContent.toString(),
+            "A new rank should be shown once, after the guess that reached it."
+        );
+    }
+
     @Test
     public void testShowHelp_General() {
         view.showHelp();
@@ -202,4 +222,34 @@ public class CLIViewTest {
             outContent.toString()
         );
     }
+
+    @Test
+    public void testShowTiming() {
+        view.showTiming("guess offhanded", 1_500_000);
+
+        assertEquals(
+            "[1.500 ms] guess offhanded" + System.lineSeparator(),
+            outContent.toString()
+        );
+    }
+
+    @Test
+    public void testBufferedOutput() {
+        ByteArrayOutputStream buffered = new ByteArrayOutputStream();
+        CLIView batchView = new CLIView(new PrintStream(
+            new BufferedOutputStream(buffered), false
+        ));
+
+        batchView.showMessage("Message to be displayed to user.");
+
+        assertEquals("", buffered.toString());
+        assertEquals("", outContent.toString());
+
+        batchView.flush();
+
+        assertEquals(
+            "Message to be displayed to user." + System.lineSeparator(),
+            buffered.toString()
+        );
+    }
 }
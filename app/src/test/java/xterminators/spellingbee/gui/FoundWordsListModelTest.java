@@ -0,0 +1,107 @@
+package xterminators.spellingbee.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+import static xterminators.spellingbee.utils.TestPuzzles.onEventThread;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import xterminators.spellingbee.model.Puzzle;
+
+public class FoundWordsListModelTest {
+    private FoundWordsListModel model;
+    private List<String> events;
+
+    @BeforeEach
+    public void setup() {
+        model = new FoundWordsListModel();
+        events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+        });
+        Puzzle.addListener(model);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Puzzle.removeListener(model);
+    }
+
+    @Test
+    public void testWordFound_InsertsSorted() {
+        Puzzle puzzle = offhanded();
+        onEventThread(() -> model.setPuzzle(puzzle));
+
+        onEventThread(() -> {
+            puzzle.guess("offhanded");
+            puzzle.guess("fond");
+            puzzle.guess("offhand");
+        });
+
+        assertEquals(3, model.getSize());
+        assertEquals("fond", model.getElementAt(0));
+        assertEquals("offhand", model.getElementAt(1));
+        assertEquals("offhanded", model.getElementAt(2));
+        assertEquals(
+            List.of("added 0-0", "added 0-0", "added 1-1"),
+            events,
+            "Each found word should be a single insert at its sorted index."
+        );
+    }
+
+    @Test
+    public void testWordFound_OffEventThread() {
+        Puzzle puzzle = offhanded();
+        onEventThread(() -> model.setPuzzle(puzzle));
+
+        puzzle.guess("fond");
+        onEventThread(() -> {});
+
+        assertEquals(1, model.getSize());
+        assertEquals("fond", model.getElementAt(0));
+    }
+
+    @Test
+    public void testSetPuzzle_Replaced() {
+        Puzzle first = offhanded();
+        onEventThread(() -> {
+            model.setPuzzle(first);
+            first.guess("fond");
+            first.guess("offhand");
+        });
+
+        Puzzle second = offhanded();
+        onEventThread(() -> {
+            model.setPuzzle(second);
+            first.guess("offhanded");
+        });
+
+        assertEquals(0, model.getSize());
+        assertEquals(
+            List.of("added 0-0", "added 1-1", "removed 0-1"),
+            events,
+            "Words found in a puzzle no longer shown should be ignored."
+        );
+    }
+}
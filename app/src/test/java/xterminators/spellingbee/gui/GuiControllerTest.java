@@ -23,6 +23,7 @@ import xterminators.spellingbee.model.Rank;
 import xterminators.spellingbee.model.Puzzle;
 
 import java.util.TreeMap;
+import java.util.List;
 import java.util.Map;
 
 public class GuiControllerTest {
@@ -268,6 +269,22 @@ public class GuiControllerTest {
                     "Good Start.");
     }
 
+    @Test
+    public void testGuessManyWords() {
+        try {
+            controller.createNewPuzzle("violent", 'l');
+        } catch (Exception e) {}
+
+        assertEquals(
+            "You found 2 of 3 words for 19 points.",
+            controller.guessWord("violent  liven xyz")
+        );
+        assertEquals(
+            List.of("liven", "violent"),
+            Puzzle.getInstance().getFoundWords()
+        );
+    }
+
     private void deleteScoreFile() {
         String userHome = System.getProperty("user.home");
         String filePath = userHome + File.separator + "HighScores.json";
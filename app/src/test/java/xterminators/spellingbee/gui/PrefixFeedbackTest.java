@@ -0,0 +1,109 @@
+package xterminators.spellingbee.gui;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+import static xterminators.spellingbee.utils.TestPuzzles.onEventThread;
+
+import java.awt.Color;
+import java.util.concurrent.CompletableFuture;
+
+import javax.swing.JTextField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import xterminators.spellingbee.model.Puzzle;
+
+public class PrefixFeedbackTest {
+    private JTextField textField;
+    private PrefixFeedback feedback;
+    private Color normalColor;
+
+    @BeforeEach
+    public void setup() {
+        onEventThread(() -> {
+            textField = new JTextField();
+            normalColor = textField.getForeground();
+            feedback = new PrefixFeedback(textField);
+        });
+    }
+
+    private void showPuzzle(Puzzle puzzle) {
+        CompletableFuture<?>[] ready = new CompletableFuture<?>[1];
+        onEventThread(() -> ready[0] = feedback.setPuzzle(puzzle));
+        ready[0].join();
+    }
+
+    private void type(String text) {
+        onEventThread(() -> textField.setText(text));
+    }
+
+    @Test
+    public void testFeedback() {
+        Puzzle puzzle = offhanded();
+        onEventThread(() -> feedback.setEnabled(true));
+        assertDoesNotThrow(
+            () -> showPuzzle(puzzle),
+            "The word graph of the puzzle should be prepared."
+        );
+
+        type("offh");
+        assertFalse(feedback.isShowingNoWords());
+        assertEquals(normalColor, textField.getForeground());
+
+        type("offhx");
+        assertTrue(feedback.isShowingNoWords());
+        assertEquals(PrefixFeedback.NO_WORDS_COLOR, textField.getForeground());
+
+        type("hhh");
+        assertTrue(
+            feedback.isShowingNoWords(),
+            "Text that no word starts with should be marked."
+        );
+
+        type("");
+        assertFalse(feedback.isShowingNoWords());
+        assertEquals(normalColor, textField.getForeground());
+    }
+
+    @Test
+    public void testFeedback_FoundWordsAreNotRemaining() {
+        Puzzle puzzle = offhanded();
+        onEventThread(() -> feedback.setEnabled(true));
+        showPuzzle(puzzle);
+
+        type("offhande");
+        assertFalse(feedback.isShowingNoWords());
+
+        // offhanded is the only word of the puzzle starting with offhande
+        onEventThread(() -> puzzle.guess("offhanded"));
+        type("offhande");
+        assertTrue(
+            feedback.isShowingNoWords(),
+            "A prefix of only found words should be marked."
+        );
+    }
+
+    @Test
+    public void testFeedback_Disabled() {
+        Puzzle puzzle = offhanded();
+        showPuzzle(puzzle);
+
+        type("hhh");
+        assertFalse(
+            feedback.isShowingNoWords(),
+            "There should be no feedback until it is enabled."
+        );
+
+        onEventThread(() -> feedback.setEnabled(true));
+        showPuzzle(puzzle);
+        assertTrue(feedback.isShowingNoWords());
+
+        onEventThread(() -> feedback.setEnabled(false));
+        assertFalse(feedback.isShowingNoWords());
+        assertEquals(normalColor, textField.getForeground());
+    }
+}
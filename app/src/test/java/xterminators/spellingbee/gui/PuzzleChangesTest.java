@@ -0,0 +1,85 @@
+package xterminators.spellingbee.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.utils.TestPuzzles;
+
+public class PuzzleChangesTest {
+    private Puzzle previous;
+    private PuzzleChanges changes;
+    private List<Integer> redraws;
+
+    @BeforeEach
+    public void setup() {
+        previous = Puzzle.getInstance();
+        redraws = new ArrayList<>();
+        changes = new PuzzleChanges(redraws::add);
+        Puzzle.addListener(changes);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Puzzle.removeListener(changes);
+        Puzzle.setInstance(previous);
+    }
+
+    /** Runs the action, then waits for the redraws it scheduled. */
+    private void onEventThread(Runnable action) {
+        TestPuzzles.onEventThread(action);
+        TestPuzzles.onEventThread(() -> {});
+    }
+
+    @Test
+    public void testChangesAreRedrawnOnce() {
+        Puzzle puzzle = offhanded();
+        onEventThread(() -> {});
+        redraws.clear();
+
+        onEventThread(() -> {
+            puzzle.guessAll(List.of("offhanded", "offhand", "fond"));
+            puzzle.shuffle();
+        });
+
+        assertEquals(
+            List.of(
+                PuzzleChanges.WORDS_FOUND
+                | PuzzleChanges.RANK_CHANGED
+                | PuzzleChanges.LETTERS_SHUFFLED
+            ),
+            redraws,
+            "All of the changes should be redrawn together, once."
+        );
+
+        onEventThread(() -> puzzle.guess("offhand"));
+        assertEquals(1, redraws.size(), "Guessing a found word changes nothing.");
+    }
+
+    @Test
+    public void testOtherPuzzlesAreIgnored() {
+        Puzzle first = offhanded();
+        Puzzle second = offhanded();
+        onEventThread(() -> {});
+        redraws.clear();
+
+        onEventThread(() -> {
+            first.guess("offhanded");
+            first.shuffle();
+        });
+        assertEquals(List.of(), redraws);
+
+        onEventThread(() -> {
+            Puzzle.setInstance(first);
+            Puzzle.setInstance(second);
+        });
+        assertEquals(List.of(PuzzleChanges.PUZZLE_REPLACED), redraws);
+    }
+}
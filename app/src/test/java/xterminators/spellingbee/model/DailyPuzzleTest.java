@@ -0,0 +1,166 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DailyPuzzleTest {
+    private static final File dictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    private static final File rootsDictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_roots.txt"
+    ).toFile();
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 14);
+
+    @Test
+    public void testDefinitionFor_SameDaySamePuzzle() {
+        DailyPuzzle first = new DailyPuzzle(
+            dictionaryFile, rootsDictionaryFile, Difficulty.MEDIUM
+        );
+        DailyPuzzle second = new DailyPuzzle(
+            dictionaryFile, rootsDictionaryFile, Difficulty.MEDIUM
+        );
+
+        PuzzleDefinition today = assertDoesNotThrow(() -> first.definitionFor(DAY));
+
+        assertEquals(
+            today,
+            assertDoesNotThrow(() -> second.definitionFor(DAY)),
+            "Every player should get the same puzzle on the same day."
+        );
+        assertNotEquals(
+            today,
+            assertDoesNotThrow(() -> first.definitionFor(DAY.plusDays(1))),
+            "The next day should have a different puzzle."
+        );
+    }
+
+    @Test
+    public void testDefinitionFor_Difficulty() {
+        for (Difficulty difficulty : new Difficulty[] {Difficulty.EASY, Difficulty.HARD}) {
+            DailyPuzzle daily = new DailyPuzzle(
+                dictionaryFile, rootsDictionaryFile, difficulty
+            );
+
+            PuzzleDefinition definition
+                = assertDoesNotThrow(() -> daily.definitionFor(DAY));
+
+            assertTrue(
+                difficulty.matches(definition.validWords().size()),
+                "The daily puzzle should have the wanted difficulty."
+            );
+            assertEquals(
+                definition.validWords().size(),
+                definition.helpData().numWords()
+            );
+        }
+    }
+
+    @Test
+    public void testDefinitionFor_KeepsCurrentPuzzle() {
+        Puzzle current = assertDoesNotThrow(
+            () -> new Puzzle(
+                'a',
+                new char[] {'g', 'u', 'r', 'd', 'i', 'n'},
+                dictionaryFile
+            )
+        );
+
+        DailyPuzzle daily = new DailyPuzzle(
+            dictionaryFile, rootsDictionaryFile, Difficulty.ANY
+        );
+        assertDoesNotThrow(() -> daily.definitionFor(DAY));
+
+        assertSame(
+            current,
+            Puzzle.getInstance(),
+            "Getting a daily puzzle's definition should not replace the" +
+            " current puzzle."
+        );
+    }
+
+    @Test
+    public void testPuzzleFor() {
+        DailyPuzzle daily = new DailyPuzzle(
+            dictionaryFile, rootsDictionaryFile, Difficulty.MEDIUM
+        );
+        PuzzleDefinition definition
+            = assertDoesNotThrow(() -> daily.definitionFor(DAY));
+
+        Puzzle puzzle = assertDoesNotThrow(() -> daily.puzzleFor(DAY));
+
+        assertSame(puzzle, Puzzle.getInstance());
+        assertEquals(definition.requiredLetter(), puzzle.getPrimaryLetter());
+        assertArrayEquals(
+            definition.secondaryLetters(),
+            puzzle.getSecondaryLetters()
+        );
+        assertEquals(definition.totalPoints(), puzzle.getTotalPoints());
+        assertEquals(0, puzzle.getEarnedPoints());
+        assertEquals(definition, puzzle.getDefinition());
+
+        String word = definition.validWords().get(0);
+        assertTrue(puzzle.guess(word) > 0);
+    }
+
+    @Test
+    public void testDefinitionFor_NoReplacedEvents() {
+        List<Puzzle> replaced = new ArrayList<>();
+        PuzzleListener listener = new PuzzleListener() {
+            @Override
+            public void puzzleReplaced(Puzzle previous, Puzzle puzzle) {
+                replaced.add(puzzle);
+            }
+        };
+
+        // Hard puzzles are rare, so many candidates are thrown away
+        DailyPuzzle daily = new DailyPuzzle(
+            dictionaryFile, rootsDictionaryFile, Difficulty.HARD
+        );
+        Puzzle.addListener(listener);
+        try {
+            assertDoesNotThrow(() -> daily.definitionFor(DAY));
+        } finally {
+            Puzzle.removeListener(listener);
+        }
+
+        assertEquals(
+            List.of(),
+            replaced,
+            "Listeners should not be told of the puzzles tried for a day."
+        );
+    }
+
+    @Test
+    public void testDefinitionFor_CandidatesNotCached() {
+        PuzzleCache cache = assertDoesNotThrow(
+            () -> DictionaryIndex.of(dictionaryFile).puzzleCache()
+        );
+        cache.clear();
+
+        DailyPuzzle daily = new DailyPuzzle(
+            dictionaryFile, rootsDictionaryFile, Difficulty.HARD
+        );
+        assertDoesNotThrow(() -> daily.definitionFor(DAY));
+
+        assertEquals(
+            0,
+            cache.size(),
+            "The puzzles tried for a day should not fill the puzzle cache."
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class DawgTest {
+    private static final String[] WORDS = {
+        "tried", "cried", "tries", "cries", "trie", "crie", "tried"
+    };
+
+    @Test
+    public void testOf() {
+        Dawg dawg = Dawg.of(WORDS);
+
+        assertEquals(6, dawg.wordCount(), "Duplicate words should be counted once.");
+        assertTrue(dawg.contains("tried"));
+        assertTrue(dawg.contains("crie"));
+        assertFalse(dawg.contains("tri"), "A prefix is not a word.");
+        assertFalse(dawg.contains("fried"));
+        assertFalse(dawg.contains("triedd"));
+
+        // "cr" and "tr" share every node after their first letter
+        assertEquals(
+            6,
+            dawg.nodeCount(),
+            "Identical endings should share their nodes."
+        );
+    }
+
+    @Test
+    public void testPrefix() {
+        Dawg dawg = Dawg.of(WORDS);
+
+        assertTrue(dawg.isPrefix(""));
+        assertTrue(dawg.isPrefix("tri"));
+        assertTrue(dawg.isPrefix("cries"));
+        assertFalse(dawg.isPrefix("trx"));
+
+        assertEquals(6, dawg.countWithPrefix(""));
+        assertEquals(3, dawg.countWithPrefix("tri"));
+        assertEquals(3, dawg.countWithPrefix("crie"));
+        assertEquals(0, dawg.countWithPrefix("z"));
+    }
+
+    @Test
+    public void testRestrict() {
+        Dawg dawg = Dawg.of(new String[] {
+            "guard", "guardian", "grain", "drain", "dragon", "gird"
+        });
+
+        Dawg.View view = dawg.restrict('a', new char[] {'g', 'u', 'r', 'd', 'i', 'n'});
+
+        assertEquals(
+            4,
+            view.wordCount(),
+            "Words with other letters or without the primary letter should" +
+            " not be in the view."
+        );
+        assertTrue(view.contains("guardian"));
+        assertFalse(view.contains("dragon"));
+        assertFalse(view.contains("gird"));
+
+        assertTrue(view.isPrefix("gua"));
+        assertFalse(view.isPrefix("dro"));
+        assertFalse(
+            view.isPrefix("gir"),
+            "A prefix that only leads to words without the primary letter" +
+            " should not be valid."
+        );
+        assertEquals(3, view.countWithPrefix("g"));
+        assertEquals(2, view.countWithPrefix("guard"));
+
+        assertEquals(
+            DictionaryIndex.letterBit('u') | DictionaryIndex.letterBit('r'),
+            view.nextLetters("g")
+        );
+        assertEquals(DictionaryIndex.letterBit('i'), view.nextLetters("guard"));
+        assertEquals(0, view.nextLetters("x"));
+    }
+}
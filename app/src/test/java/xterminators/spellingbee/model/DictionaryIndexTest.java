@@ -0,0 +1,133 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DictionaryIndexTest {
+    @Test
+    public void testMask() {
+        assertEquals(0b111, DictionaryIndex.mask("abc"));
+        assertEquals(1 << 25, DictionaryIndex.mask("zzz"));
+        assertEquals(
+            DictionaryIndex.NON_LETTER_BIT | 1,
+            DictionaryIndex.mask("a-a"),
+            "Characters that are not lowercase letters should set the" +
+            " non-letter bit."
+        );
+        assertEquals(0, DictionaryIndex.letterBit('A'));
+    }
+
+    @Test
+    public void testOf(@TempDir File tempDir) {
+        File dictionary = new File(tempDir, "words.txt");
+        assertDoesNotThrow(
+            () -> Files.write(dictionary.toPath(), List.of("zebra", "apple", "bee"))
+        );
+
+        DictionaryIndex index = assertDoesNotThrow(
+            () -> DictionaryIndex.of(dictionary)
+        );
+
+        assertEquals(3, index.size());
+        assertEquals("zebra", index.word(0));
+        assertEquals("apple", index.word(1));
+        assertEquals(DictionaryIndex.mask("bee"), index.mask(2));
+        assertTrue(index.contains("apple"));
+        assertFalse(index.contains("banana"));
+
+        assertSame(
+            index,
+            assertDoesNotThrow(() -> DictionaryIndex.of(dictionary)),
+            "An unchanged dictionary should only be read once."
+        );
+    }
+
+    @Test
+    public void testOf_Changed(@TempDir File tempDir) {
+        File dictionary = new File(tempDir, "words.txt");
+        assertDoesNotThrow(
+            () -> Files.write(dictionary.toPath(), List.of("apple"))
+        );
+        DictionaryIndex first = assertDoesNotThrow(
+            () -> DictionaryIndex.of(dictionary)
+        );
+
+        assertDoesNotThrow(
+            () -> Files.write(dictionary.toPath(), List.of("apple", "banana"))
+        );
+        DictionaryIndex second = assertDoesNotThrow(
+            () -> DictionaryIndex.of(dictionary)
+        );
+
+        assertNotSame(first, second);
+        assertEquals(2, second.size());
+    }
+
+    @Test
+    public void testOf_Missing(@TempDir File tempDir) {
+        File missing = new File(tempDir, "missing.txt");
+
+        assertThrows(
+            FileNotFoundException.class,
+            () -> DictionaryIndex.of(missing)
+        );
+        assertTrue(DictionaryIndex.preload(missing).isCompletedExceptionally());
+    }
+
+    @Test
+    public void testPreload(@TempDir File tempDir) {
+        File dictionary = new File(tempDir, "words.txt");
+        assertDoesNotThrow(
+            () -> Files.write(dictionary.toPath(), List.of("apple", "banana"))
+        );
+
+        DictionaryIndex preloaded = DictionaryIndex.preload(dictionary).join();
+
+        assertSame(
+            preloaded,
+            assertDoesNotThrow(() -> DictionaryIndex.of(dictionary)),
+            "A preloaded dictionary should not be read again."
+        );
+    }
+
+    @Test
+    public void testVersion(@TempDir File tempDir) {
+        File first = new File(tempDir, "first.txt");
+        File second = new File(tempDir, "second.txt");
+        File third = new File(tempDir, "third.txt");
+        assertDoesNotThrow(() -> {
+            Files.write(first.toPath(), List.of("apple", "banana"));
+            Files.write(second.toPath(), List.of("apple", "", "banana"));
+            Files.write(third.toPath(), List.of("banana", "apple"));
+        });
+
+        String version = assertDoesNotThrow(
+            () -> DictionaryIndex.of(first).version()
+        );
+
+        assertEquals(16, version.length());
+        assertEquals(
+            version,
+            assertDoesNotThrow(() -> DictionaryIndex.of(second).version()),
+            "Dictionaries with the same words should have the same version."
+        );
+        assertNotEquals(
+            version,
+            assertDoesNotThrow(() -> DictionaryIndex.of(third).version())
+        );
+    }
+}
@@ -0,0 +1,146 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DictionarySourceTest {
+    private static final File rootsDictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_roots.txt"
+    ).toFile();
+
+    private static final String WORDS = "guard\nguardian\n\ngrain\ndrain\n";
+
+    private static File gzip(File directory, String name, byte[] contents)
+        throws IOException
+    {
+        File file = new File(directory, name);
+        try (OutputStream out = new GZIPOutputStream(
+            Files.newOutputStream(file.toPath())
+        )) {
+            out.write(contents);
+        }
+        return file;
+    }
+
+    @Test
+    public void testRead_File(@TempDir File tempDir) throws IOException {
+        File file = new File(tempDir, "words.txt");
+        Files.writeString(file.toPath(), WORDS);
+
+        DictionaryIndex index = DictionaryIndex.read(DictionarySource.file(file));
+
+        assertEquals(4, index.size());
+        assertTrue(index.contains("guardian"));
+        assertFalse(index.contains(""));
+    }
+
+    @Test
+    public void testRead_Gzip(@TempDir File tempDir) throws IOException {
+        File file = gzip(tempDir, "words.txt.gz", WORDS.getBytes(StandardCharsets.UTF_8));
+        DictionarySource source = DictionarySource.gzip(DictionarySource.file(file));
+
+        DictionaryIndex index = DictionaryIndex.read(source);
+
+        assertEquals(4, index.size());
+        assertTrue(index.contains("drain"));
+        assertEquals(file, source.file());
+    }
+
+    @Test
+    public void testRead_GzipMatchesPlain(@TempDir File tempDir) throws IOException {
+        File file = gzip(
+            tempDir, "roots.txt.gz", Files.readAllBytes(rootsDictionaryFile.toPath())
+        );
+
+        DictionaryIndex plain
+            = DictionaryIndex.read(DictionarySource.file(rootsDictionaryFile));
+        DictionaryIndex compressed = DictionaryIndex.read(
+            DictionarySource.gzip(DictionarySource.file(file))
+        );
+
+        assertEquals(plain.size(), compressed.size());
+        for (int i = 0; i < plain.size(); i++) {
+            assertEquals(plain.word(i), compressed.word(i));
+        }
+    }
+
+    @Test
+    public void testRead_Classpath() throws IOException {
+        DictionarySource source
+            = DictionarySource.classpath("dictionaries/dictionary_roots.txt");
+
+        assertTrue(source.exists());
+        assertEquals(
+            DictionaryIndex.read(DictionarySource.file(rootsDictionaryFile)).size(),
+            DictionaryIndex.read(source).size()
+        );
+    }
+
+    @Test
+    public void testOpen_Missing(@TempDir File tempDir) {
+        DictionarySource file = DictionarySource.file(new File(tempDir, "missing.txt"));
+        DictionarySource resource = DictionarySource.classpath("missing.txt");
+
+        assertFalse(file.exists());
+        assertFalse(resource.exists());
+        assertThrows(FileNotFoundException.class, () -> DictionaryIndex.read(file));
+        assertThrows(FileNotFoundException.class, () -> DictionaryIndex.of(resource));
+        assertThrows(
+            FileNotFoundException.class,
+            () -> DictionaryIndex.read(DictionarySource.gzip(resource))
+        );
+    }
+
+    @Test
+    public void testOf_CachedBySource(@TempDir File tempDir) throws IOException {
+        File file = gzip(tempDir, "words.txt.gz", WORDS.getBytes(StandardCharsets.UTF_8));
+
+        DictionaryIndex first
+            = DictionaryIndex.of(DictionarySource.gzip(DictionarySource.file(file)));
+        DictionaryIndex second
+            = DictionaryIndex.of(DictionarySource.gzip(DictionarySource.file(file)));
+
+        assertSame(first, second);
+        assertNotEquals(
+            DictionarySource.file(file).name(),
+            DictionarySource.gzip(DictionarySource.file(file)).name()
+        );
+    }
+
+    @Test
+    public void testPuzzleBuilder_Gzip(@TempDir File tempDir) throws IOException {
+        File dictionary = gzip(tempDir, "words.txt.gz", WORDS.getBytes(StandardCharsets.UTF_8));
+        File roots = gzip(tempDir, "roots.txt.gz", "guardian\n".getBytes(StandardCharsets.UTF_8));
+
+        Puzzle previous = Puzzle.getInstance();
+        try {
+            PuzzleBuilder builder = new PuzzleBuilder(
+                DictionarySource.gzip(DictionarySource.file(dictionary)),
+                DictionarySource.gzip(DictionarySource.file(roots))
+            );
+            assertTrue(builder.setRootAndRequiredLetter("guardian", 'a'));
+
+            Puzzle puzzle = builder.build();
+
+            assertEquals(4, puzzle.getHelpData().numWords());
+        } finally {
+            Puzzle.setInstance(previous);
+        }
+    }
+}
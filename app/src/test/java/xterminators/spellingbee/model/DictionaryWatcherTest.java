@@ -0,0 +1,145 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DictionaryWatcherTest {
+    private static final char[] SECONDARY_LETTERS = {'g', 'u', 'r', 'd', 'i', 'n'};
+
+    private Puzzle previous;
+
+    @BeforeEach
+    public void saveInstance() {
+        previous = Puzzle.getInstance();
+    }
+
+    @AfterEach
+    public void restoreInstance() {
+        Puzzle.setInstance(previous);
+    }
+
+    /** Replaces a file in one step, the way word lists are deployed. */
+    private static void replace(File file, List<String> words) throws IOException {
+        Path temp = Files.createTempFile(file.getParentFile().toPath(), "words", ".tmp");
+        Files.write(temp, words);
+        Files.move(
+            temp, file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+        );
+    }
+
+    /** Waits for the watcher to publish a reload. */
+    private static void awaitReloads(DictionaryWatcher watcher, int reloads)
+        throws InterruptedException
+    {
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        while (watcher.reloads() < reloads && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(reloads, watcher.reloads(), "The dictionary should be reloaded.");
+    }
+
+    @Test
+    public void testReload_PuzzlesKeepTheirWords(@TempDir File tempDir) throws Exception {
+        File file = new File(tempDir, "words.txt");
+        Files.write(file.toPath(), List.of("guard", "grain"));
+        DictionarySource source = DictionarySource.file(file);
+
+        try (DictionaryWatcher watcher = DictionaryWatcher.start(source)) {
+            DictionaryIndex before = DictionaryIndex.of(source);
+            Puzzle old = new Puzzle('a', SECONDARY_LETTERS, source);
+
+            replace(file, List.of("guard", "grain", "drain", "guardian"));
+            awaitReloads(watcher, 1);
+
+            DictionaryIndex after = DictionaryIndex.of(source);
+            assertNotSame(before, after);
+            assertTrue(after.contains("guardian"));
+            assertNotEquals(before.version(), after.version());
+
+            assertEquals(2, old.getHelpData().numWords());
+            assertEquals(before.version(), old.getDictionaryVersion());
+            assertEquals(
+                2, old.getWordGraph().wordCount(),
+                "A puzzle's word graph should use the words it was built with."
+            );
+
+            Puzzle rebuilt = new Puzzle('a', SECONDARY_LETTERS, source);
+            assertEquals(4, rebuilt.getHelpData().numWords());
+            assertEquals(after.version(), rebuilt.getDictionaryVersion());
+        }
+    }
+
+    @Test
+    public void testReload_NotUsedUntilRead(@TempDir File tempDir) throws Exception {
+        File file = new File(tempDir, "words.txt");
+        Files.write(file.toPath(), List.of("guard", "grain"));
+        DictionarySource source = DictionarySource.file(file);
+
+        try (DictionaryWatcher watcher = DictionaryWatcher.start(source)) {
+            DictionaryIndex before = DictionaryIndex.of(source);
+
+            // Written in place: until the watcher has read it, the old words
+            // are used rather than reading a file that may be half written.
+            Files.write(file.toPath(), List.of("drain"));
+            assertSame(before, DictionaryIndex.of(source));
+
+            awaitReloads(watcher, 1);
+            DictionaryIndex after = DictionaryIndex.of(source);
+            assertEquals(1, after.size());
+            assertFalse(after.contains("guard"));
+        }
+    }
+
+    @Test
+    public void testClose(@TempDir File tempDir) throws Exception {
+        File file = new File(tempDir, "words.txt");
+        Files.write(file.toPath(), List.of("guard"));
+        DictionarySource source = DictionarySource.file(file);
+
+        DictionaryWatcher watcher = DictionaryWatcher.start(
+            source, DictionarySource.classpath("dictionaries/dictionary_roots.txt")
+        );
+        watcher.close();
+
+        Files.write(file.toPath(), List.of("guard", "grain"));
+        file.setLastModified(file.lastModified() + 2000);
+
+        assertEquals(
+            2, DictionaryIndex.of(source).size(),
+            "A closed watcher's dictionaries should be read when they change."
+        );
+        assertEquals(0, watcher.reloads());
+    }
+
+    @Test
+    public void testStart_NoFiles() {
+        // Only the jar's dictionaries, which can not change
+        assertThrows(
+            IOException.class,
+            () -> DictionaryWatcher.start(
+                DictionarySource.gzip(
+                    DictionarySource.classpath("dictionaries/dictionary_roots.txt.gz")
+                )
+            ),
+            "Watching only dictionaries that are not files should fail."
+        );
+    }
+}
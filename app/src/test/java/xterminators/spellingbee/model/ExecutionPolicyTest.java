@@ -0,0 +1,66 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.junit.jupiter.api.Test;
+
+public class ExecutionPolicyTest {
+    @Test
+    public void testStream_SmallRunsOnCaller() {
+        List<Integer> small = List.of(1, 2, 3);
+        Thread caller = Thread.currentThread();
+
+        boolean parallel = ExecutionPolicy.stream(small, s -> s.isParallel());
+        Thread ranOn = ExecutionPolicy.stream(small, s -> Thread.currentThread());
+
+        assertFalse(parallel);
+        assertSame(caller, ranOn);
+        assertFalse(ExecutionPolicy.streamInParallel(small.size()));
+    }
+
+    @Test
+    public void testStream_LargeRunsOnModelPool() {
+        List<Integer> large = Collections.nCopies(
+            ExecutionPolicy.DEFAULT_STREAM_THRESHOLD, 1
+        );
+
+        boolean parallel = ExecutionPolicy.stream(large, s -> s.isParallel());
+        Thread ranOn = ExecutionPolicy.stream(large, s -> Thread.currentThread());
+        int sum = ExecutionPolicy.stream(
+            large, s -> s.mapToInt(Integer::intValue).sum()
+        );
+
+        assertTrue(parallel);
+        assertTrue(ranOn instanceof ForkJoinWorkerThread);
+        assertSame(ExecutionPolicy.pool(), ((ForkJoinWorkerThread) ranOn).getPool());
+        assertEquals(large.size(), sum);
+    }
+
+    @Test
+    public void testInPool_Nested() {
+        Thread outer = ExecutionPolicy.inPool(Thread::currentThread);
+        Thread inner = ExecutionPolicy.inPool(
+            () -> ExecutionPolicy.inPool(Thread::currentThread)
+        );
+
+        assertNotSame(Thread.currentThread(), outer);
+        assertTrue(inner.getName().startsWith("model-worker-"));
+        assertTrue(inner.isDaemon());
+    }
+
+    @Test
+    public void testSortInParallel() {
+        assertFalse(ExecutionPolicy.sortInParallel(100));
+        assertTrue(
+            ExecutionPolicy.sortInParallel(ExecutionPolicy.DEFAULT_SORT_THRESHOLD)
+        );
+    }
+}
@@ -134,4 +134,25 @@ public class HighScoresTest {
         assertEquals(highScore.getScores().size(), 10);
         assertTrue(highScore.isHighScore(25));
     }
+
+    @Test
+    public void saveScores_FailedWriteRecorded(@TempDir File tempDir) {
+        HighScores highScores = new HighScores();
+        long writes = SpellingBeeMetrics.get().getHighScoreWrites();
+
+        // The scores can not be written to a directory that does not exist
+        String userHome = System.getProperty("user.home");
+        System.setProperty("user.home", new File(tempDir, "missing").getPath());
+        try {
+            assertFalse(highScores.saveScores());
+        } finally {
+            System.setProperty("user.home", userHome);
+        }
+
+        assertEquals(
+            writes + 1,
+            SpellingBeeMetrics.get().getHighScoreWrites(),
+            "A failed write should still be recorded in the metrics."
+        );
+    }
 }
@@ -0,0 +1,317 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.fail;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Latency and allocation budgets for the model's hot paths. A change that
+ * makes one of them slower than its budget fails with a report of what was
+ * measured against what was allowed.
+ *
+ * These tests are tagged "performance" and only run with
+ * ./gradlew performanceTest, not with the unit tests. Timings are the
+ * median of several runs after a warmup, and budgets are several times the
+ * usual timings so a busy machine does not fail them. They can all be
+ * scaled with -Dspellingbee.budgetScale, such as 2 for a slow CI machine.
+ */
+@Tag("performance")
+public class PerformanceBudgetTest {
+    private static final File dictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    private static final File rootsDictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_roots.txt"
+    ).toFile();
+
+    /** The system property scaling every budget. */
+    private static final String SCALE_PROPERTY = "spellingbee.budgetScale";
+
+    /** The most a random puzzle may take to build, in milliseconds. */
+    private static final double BUILD_MILLIS = 200;
+    /** The most 10,000 guesses may take, in milliseconds. */
+    private static final double GUESSES_MILLIS = 50;
+    /** The most a save and load of a puzzle may take, in milliseconds. */
+    private static final double ROUND_TRIP_MILLIS = 50;
+    /**
+     * The most bytes a guess may allocate, on average. A compiled guess
+     * allocates nothing, but until the JIT removes its Flight Recorder
+     * event, which can take a while on one core, that is about 40 bytes.
+     */
+    private static final double BYTES_PER_GUESS = 64;
+    /**
+     * The most bytes a guess of a new word may allocate, on average, on
+     * puzzles that start with no words found. The found words grow by
+     * doubling, which is about 9 bytes a word, on top of the event.
+     */
+    private static final double BYTES_PER_NEW_WORD = 64;
+
+    /** The number of guesses timed together. */
+    private static final int GUESSES = 10_000;
+    /** The number of timed runs of each budget, after the warmup runs. */
+    private static final int RUNS = 15;
+    /** The number of untimed runs first, so the code is compiled. */
+    private static final int WARMUP_RUNS = 10;
+
+    /** Every budget checked so far, for the report at the end. */
+    private static final List<String> report = new ArrayList<>();
+
+    private static double scale;
+
+    private Puzzle previous;
+
+    @BeforeAll
+    public static void loadDictionaries() {
+        scale = Double.parseDouble(System.getProperty(SCALE_PROPERTY, "1"));
+        // The first read of the dictionaries is startup, not a hot path
+        assertDoesNotThrow(() -> DictionaryIndex.of(dictionaryFile));
+        assertDoesNotThrow(() -> DictionaryIndex.of(rootsDictionaryFile));
+    }
+
+    @AfterAll
+    public static void printReport() {
+        System.out.println("Performance budgets:");
+        for (String line : report) {
+            System.out.println("  " + line);
+        }
+    }
+
+    @BeforeEach
+    public void saveInstance() {
+        previous = Puzzle.getInstance();
+    }
+
+    @AfterEach
+    public void restoreInstance() {
+        Puzzle.setInstance(previous);
+    }
+
+    @Test
+    public void testBuild_RandomPuzzle() {
+        Random random = new Random(42);
+        double millis = medianMillis(() -> {
+            new PuzzleBuilder(dictionaryFile, rootsDictionaryFile).build(random);
+        });
+
+        checkBudget("random puzzle build", millis, BUILD_MILLIS, "ms");
+    }
+
+    @Test
+    public void testGuess_TenThousand() {
+        Puzzle puzzle = offhanded();
+        String[] guesses = guessList(puzzle);
+
+        double millis = medianMillis(() -> {
+            Puzzle fresh = Puzzle.fromDefinition(puzzle.getDefinition(), dictionaryFile);
+            for (int i = 0; i < GUESSES; i++) {
+                fresh.guess(guesses[i % guesses.length]);
+            }
+        });
+
+        checkBudget("10,000 guesses", millis, GUESSES_MILLIS, "ms");
+    }
+
+    @Test
+    public void testSaveAndLoad_RoundTrip(@TempDir File tempDir) {
+        Puzzle puzzle = offhanded();
+        for (String word : puzzle.getDefinition().validWords()) {
+            puzzle.guess(word);
+        }
+        File saveFile = new File(tempDir, "save.json");
+
+        for (SaveMode mode : SaveMode.values()) {
+            double millis = medianMillis(() -> {
+                puzzle.save(saveFile, mode);
+                Puzzle.loadPuzzle(saveFile, dictionaryFile);
+            });
+
+            checkBudget(
+                "save and load, " + mode.name().toLowerCase(Locale.ROOT),
+                millis, ROUND_TRIP_MILLIS, "ms"
+            );
+        }
+    }
+
+    @Test
+    public void testGuess_Allocation() {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        Puzzle puzzle = offhanded();
+        String[] guesses = guessList(puzzle);
+        // Find every word first, so the found words never grow while
+        // measuring, which is the usual case of a guess
+        for (String word : puzzle.getDefinition().validWords()) {
+            puzzle.guess(word);
+        }
+
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            for (int i = 0; i < GUESSES; i++) {
+                puzzle.guess(guesses[i % guesses.length]);
+            }
+        }
+
+        long thread = Thread.currentThread().threadId();
+        long[] bytes = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < GUESSES; i++) {
+                puzzle.guess(guesses[i % guesses.length]);
+            }
+            bytes[run] = threads.getThreadAllocatedBytes(thread) - before;
+        }
+        Arrays.sort(bytes);
+
+        checkBudget(
+            "bytes allocated per guess",
+            (double) bytes[RUNS / 2] / GUESSES, BYTES_PER_GUESS, "B"
+        );
+    }
+
+    @Test
+    public void testGuess_AllocationNewWords() {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        PuzzleDefinition definition = offhanded().getDefinition();
+        String[] words = definition.validWords().toArray(new String[0]);
+        // About as many guesses as the other budgets, all of them new words
+        Puzzle[] puzzles = new Puzzle[GUESSES / words.length];
+
+        long thread = Thread.currentThread().threadId();
+        long[] bytes = new long[RUNS];
+        for (int run = -WARMUP_RUNS; run < RUNS; run++) {
+            // The puzzles are made before measuring, so only guesses count
+            for (int i = 0; i < puzzles.length; i++) {
+                puzzles[i] = Puzzle.fromDefinition(definition, dictionaryFile);
+            }
+
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (Puzzle puzzle : puzzles) {
+                for (String word : words) {
+                    puzzle.guess(word);
+                }
+            }
+            if (run >= 0) {
+                bytes[run] = threads.getThreadAllocatedBytes(thread) - before;
+            }
+        }
+        Arrays.sort(bytes);
+
+        checkBudget(
+            "bytes allocated per new word",
+            (double) bytes[RUNS / 2] / (puzzles.length * words.length),
+            BYTES_PER_NEW_WORD, "B"
+        );
+    }
+
+    /**
+     * Makes a list of guesses the way players guess: each word of the
+     * puzzle, a word of its letters which is not a word, and a word with a
+     * letter which is not in the puzzle.
+     *
+     * @param puzzle the puzzle
+     * @return the guesses
+     */
+    private static String[] guessList(Puzzle puzzle) {
+        List<String> words = puzzle.getDefinition().validWords();
+        String[] guesses = new String[words.size() * 3];
+        for (int i = 0; i < words.size(); i++) {
+            guesses[3 * i] = words.get(i);
+            guesses[3 * i + 1] = words.get(i) + "o";
+            guesses[3 * i + 2] = words.get(i) + "z";
+        }
+        return guesses;
+    }
+
+    /** Work which is timed. */
+    @FunctionalInterface
+    private interface Work {
+        void run() throws Exception;
+    }
+
+    /**
+     * Times some work, after running it untimed to warm up.
+     *
+     * @param work the work
+     * @return the median time of the timed runs, in milliseconds
+     */
+    private static double medianMillis(Work work) {
+        double[] millis = new double[RUNS];
+        assertDoesNotThrow(() -> {
+            for (int run = 0; run < WARMUP_RUNS; run++) {
+                work.run();
+            }
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                work.run();
+                millis[run] = (System.nanoTime() - start) / 1e6;
+            }
+        });
+        Arrays.sort(millis);
+        return millis[RUNS / 2];
+    }
+
+    /**
+     * Checks a measurement against its budget, adding it to the report.
+     *
+     * @param name what was measured
+     * @param measured the measurement
+     * @param budget the most the measurement may be, before scaling
+     * @param unit the unit of the measurement
+     */
+    private static void checkBudget(
+        String name,
+        double measured,
+        double budget,
+        String unit
+    ) {
+        double limit = budget * scale;
+        boolean within = measured <= limit;
+        String line = String.format(
+            Locale.ROOT,
+            "%-5s %-28s %10.3f %s of %8.3f %s (%3.0f%%)",
+            within ? "ok" : "OVER", name, measured, unit, limit, unit,
+            100 * measured / limit
+        );
+        report.add(line);
+
+        if (!within) {
+            fail(String.format(
+                Locale.ROOT,
+                "%s is over its budget: %.3f %s, budget %.3f %s, %.1fx over.%n" +
+                "Look for a change to this path that made it slower, or " +
+                "scale the budgets with -D%s if the machine is slow.",
+                name, measured, unit, limit, unit, measured / limit, SCALE_PROPERTY
+            ));
+        }
+    }
+
+    /**
+     * Gets the thread bean which can measure allocation.
+     *
+     * @return the platform's thread bean
+     */
+    private static com.sun.management.ThreadMXBean threadBean() {
+        com.sun.management.ThreadMXBean threads
+            = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+}
@@ -0,0 +1,122 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PuzzleCacheTest {
+    private static final File dictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    private static PuzzleDefinition definition(char requiredLetter) {
+        return new PuzzleDefinition(
+            requiredLetter,
+            new char[0],
+            List.of(),
+            new HelpData(0, 0, 0, 0, Map.of(), Map.of())
+        );
+    }
+
+    private static PuzzleId id(char requiredLetter) {
+        return PuzzleId.of(requiredLetter, new char[] {'t', 'u', 'v', 'w', 'x', 'y'});
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsRemoved() {
+        PuzzleCache cache = new PuzzleCache(2);
+        PuzzleDefinition a = definition('a');
+        PuzzleDefinition b = definition('b');
+
+        cache.put(id('a'), a);
+        cache.put(id('b'), b);
+        assertSame(a, cache.get(id('a')));
+
+        // b is now the least recently used
+        cache.put(id('c'), definition('c'));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(id('b')));
+        assertSame(a, cache.get(id('a')));
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void testZeroSize() {
+        PuzzleCache cache = new PuzzleCache(0);
+        cache.put(id('a'), definition('a'));
+
+        assertNull(cache.get(id('a')));
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new PuzzleCache(-1));
+    }
+
+    @Test
+    public void testPuzzlesAreCached() {
+        PuzzleCache cache = assertDoesNotThrow(
+            () -> DictionaryIndex.of(dictionaryFile).puzzleCache()
+        );
+
+        Puzzle first = assertDoesNotThrow(
+            () -> new Puzzle('a', new char[] {'g', 'u', 'r', 'd', 'i', 'n'}, dictionaryFile)
+        );
+        long hits = cache.hits();
+
+        Puzzle second = assertDoesNotThrow(
+            () -> new Puzzle('a', new char[] {'n', 'i', 'd', 'r', 'u', 'g'}, dictionaryFile)
+        );
+
+        assertEquals(
+            hits + 1,
+            cache.hits(),
+            "Rebuilding a puzzle with the same letters should hit the cache."
+        );
+        assertEquals(first.getDefinition().validWords(), second.getDefinition().validWords());
+        assertSame(first.getHelpData(), second.getHelpData());
+        assertEquals(first.getTotalPoints(), second.getTotalPoints());
+        assertEquals(
+            new String(new char[] {'n', 'i', 'd', 'r', 'u', 'g'}),
+            new String(second.getSecondaryLetters()),
+            "A cached puzzle should keep its own letter order."
+        );
+    }
+
+    @Test
+    public void testReloadedSavesAreCached(@TempDir File tempDir) {
+        PuzzleCache cache = assertDoesNotThrow(
+            () -> DictionaryIndex.of(dictionaryFile).puzzleCache()
+        );
+        Puzzle puzzle = assertDoesNotThrow(
+            () -> new Puzzle('a', new char[] {'g', 'u', 'r', 'd', 'i', 'n'}, dictionaryFile)
+        );
+        puzzle.guess("guard");
+
+        File saveFile = new File(tempDir, "save.json");
+        assertDoesNotThrow(() -> puzzle.save(saveFile, SaveMode.ENCRYPTED));
+        long hits = cache.hits();
+
+        Puzzle loaded = assertDoesNotThrow(
+            () -> Puzzle.loadPuzzle(saveFile, dictionaryFile)
+        );
+
+        assertEquals(
+            hits + 1,
+            cache.hits(),
+            "Reloading a recently built puzzle should hit the cache."
+        );
+        assertEquals(puzzle.getDefinition(), loaded.getDefinition());
+        assertEquals(List.of("guard"), loaded.getFoundWords());
+        assertEquals(puzzle.getEarnedPoints(), loaded.getEarnedPoints());
+    }
+}
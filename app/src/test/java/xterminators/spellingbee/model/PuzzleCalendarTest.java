@@ -0,0 +1,113 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PuzzleCalendarTest {
+    private static final File dictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    private static final File rootsDictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_roots.txt"
+    ).toFile();
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Test
+    public void testWriteAndRead(@TempDir File tempDir) {
+        DailyPuzzle daily = new DailyPuzzle(
+            dictionaryFile, rootsDictionaryFile, Difficulty.MEDIUM
+        );
+        PuzzleCalendar calendar = assertDoesNotThrow(
+            () -> PuzzleCalendar.generate(daily, FIRST_DAY, 3)
+        );
+
+        File file = new File(tempDir, "daily.cal");
+        assertDoesNotThrow(() -> calendar.write(file));
+        PuzzleCalendar read = assertDoesNotThrow(() -> PuzzleCalendar.read(file));
+
+        assertEquals(FIRST_DAY, read.firstDay());
+        assertEquals(3, read.size());
+        assertEquals(Difficulty.MEDIUM, read.difficulty());
+        for (int i = 0; i < 3; i++) {
+            LocalDate day = FIRST_DAY.plusDays(i);
+            assertEquals(
+                calendar.definitionFor(day),
+                read.definitionFor(day),
+                "A calendar should read back exactly as it was written."
+            );
+            assertEquals(
+                assertDoesNotThrow(() -> daily.definitionFor(day)),
+                read.definitionFor(day).orElseThrow()
+            );
+        }
+
+        assertEquals(Optional.empty(), read.definitionFor(FIRST_DAY.minusDays(1)));
+        assertEquals(Optional.empty(), read.definitionFor(FIRST_DAY.plusDays(3)));
+    }
+
+    @Test
+    public void testDailyPuzzleUsesCalendar() {
+        PuzzleDefinition definition = new PuzzleDefinition(
+            'o',
+            new char[] {'f', 'h', 'a', 'n', 'd', 'e'},
+            List.of("fond", "offhand"),
+            new HelpData(2, 8, 1, 1, Map.of(), Map.of())
+        );
+        PuzzleCalendar calendar = new PuzzleCalendar(
+            FIRST_DAY, Difficulty.EASY, List.of(definition)
+        );
+
+        // A missing dictionary shows the puzzle comes from the calendar
+        File missing = new File("missing.txt");
+        DailyPuzzle daily = new DailyPuzzle(
+            missing, missing, Difficulty.EASY, calendar
+        );
+
+        assertEquals(
+            definition,
+            assertDoesNotThrow(() -> daily.definitionFor(FIRST_DAY))
+        );
+        assertThrows(
+            IOException.class,
+            () -> daily.definitionFor(FIRST_DAY.plusDays(1)),
+            "Days the calendar does not cover should be built."
+        );
+    }
+
+    @Test
+    public void testRead_NotACalendar(@TempDir File tempDir) {
+        File file = new File(tempDir, "words.txt");
+        assertDoesNotThrow(() -> Files.writeString(file.toPath(), "not a calendar"));
+
+        assertThrows(IOException.class, () -> PuzzleCalendar.read(file));
+    }
+
+    @Test
+    public void testGenerate_Size() {
+        DailyPuzzle daily = new DailyPuzzle(
+            dictionaryFile, rootsDictionaryFile, Difficulty.ANY
+        );
+        PuzzleCalendar calendar = assertDoesNotThrow(
+            () -> PuzzleCalendar.generate(daily, FIRST_DAY, 2)
+        );
+
+        assertEquals(2, calendar.size());
+        assertTrue(calendar.definitionFor(FIRST_DAY.plusDays(1)).isPresent());
+    }
+}
@@ -0,0 +1,145 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Checks that puzzles keep their words as the dictionary's instances, and
+ * reports how much heap each puzzle's words take compared to keeping a list
+ * of strings of them, as puzzles loaded from a save used to.
+ *
+ * Sizes are measured with JOL. A puzzle's words are the dictionary's
+ * strings, which every puzzle shares, so only the arrays of word ids the
+ * puzzle owns are counted for it.
+ */
+public class PuzzleFootprintTest {
+    private static final File dictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    private Puzzle previous;
+    private Puzzle puzzle;
+    private DictionaryIndex index;
+
+    @BeforeEach
+    public void setup() {
+        previous = Puzzle.getInstance();
+        puzzle = offhanded();
+        index = assertDoesNotThrow(() -> DictionaryIndex.of(dictionaryFile));
+
+        for (String word : puzzle.getDefinition().validWords()) {
+            puzzle.guess(new String(word));
+        }
+    }
+
+    @AfterEach
+    public void restoreInstance() {
+        Puzzle.setInstance(previous);
+    }
+
+    @Test
+    public void testFoundWords_Canonical(@TempDir File tempDir) {
+        assertCanonical(puzzle);
+
+        File saveFile = new File(tempDir, "save.json");
+        Puzzle loaded = assertDoesNotThrow(() -> {
+            puzzle.save(saveFile, SaveMode.UNENCRYPTED);
+            return Puzzle.loadPuzzle(saveFile, dictionaryFile);
+        });
+        assertEquals(puzzle.getFoundWords(), loaded.getFoundWords());
+        assertCanonical(loaded);
+    }
+
+    @Test
+    public void testFootprint(@TempDir File tempDir) {
+        File saveFile = new File(tempDir, "save.json");
+        Puzzle loaded = assertDoesNotThrow(() -> {
+            puzzle.save(saveFile, SaveMode.UNENCRYPTED);
+            return Puzzle.loadPuzzle(saveFile, dictionaryFile);
+        });
+
+        // What the words took before: a list of the valid words and a list
+        // of the found words, each with its own copy of every word.
+        List<String> validCopies = new ArrayList<>();
+        for (String word : loaded.getDefinition().validWords()) {
+            validCopies.add(new String(word));
+        }
+        List<String> foundCopies = new ArrayList<>();
+        for (String word : loaded.getFoundWords()) {
+            foundCopies.add(new String(word));
+        }
+        long before = GraphLayout.parseInstance(validCopies, foundCopies)
+            .totalSize();
+
+        for (Puzzle measured : List.of(puzzle, loaded)) {
+            assertSame(
+                index.words(),
+                fieldValue(measured, "wordPool"),
+                "The puzzle should share the dictionary's pool of words."
+            );
+            long words = GraphLayout.parseInstance(
+                fieldValue(measured, "validWordIds"),
+                fieldValue(measured, "foundWords")
+            ).totalSize();
+            System.out.println(String.format(
+                Locale.ROOT,
+                "%s puzzle, %d words: %,d bytes of words (was %,d)",
+                measured == puzzle ? "Played" : "Loaded",
+                validCopies.size(),
+                words,
+                before
+            ));
+            assertTrue(
+                words < before,
+                "The words should take less heap than lists of strings."
+            );
+        }
+    }
+
+    /**
+     * Checks that each found word of a puzzle is the dictionary's instance
+     * of the word.
+     *
+     * @param measured the puzzle to check
+     */
+    private void assertCanonical(Puzzle measured) {
+        assertEquals(
+            measured.getDefinition().validWords().size(),
+            measured.getFoundWords().size()
+        );
+        for (String word : measured.getFoundWords()) {
+            assertSame(index.word(index.indexOf(word)), word, word);
+        }
+    }
+
+    /**
+     * Gets the value of one of a puzzle's private fields.
+     *
+     * @param measured the puzzle
+     * @param name the name of the field
+     * @return the value of the field
+     */
+    private static Object fieldValue(Puzzle measured, String name) {
+        return assertDoesNotThrow(() -> {
+            Field field = Puzzle.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(measured);
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PuzzleIdTest {
+    @Test
+    public void testOf_OrderDoesNotMatter() {
+        PuzzleId id = PuzzleId.of('a', new char[] {'g', 'u', 'r', 'd', 'i', 'n'});
+
+        assertEquals(
+            id,
+            PuzzleId.of('a', new char[] {'n', 'i', 'd', 'r', 'u', 'g'}),
+            "Shuffled letters should have the same id."
+        );
+        assertNotEquals(
+            id,
+            PuzzleId.of('g', new char[] {'a', 'u', 'r', 'd', 'i', 'n'}),
+            "A different required letter should have a different id."
+        );
+    }
+
+    @Test
+    public void testValue() {
+        PuzzleId id = PuzzleId.of('c', new char[] {'a', 'b', 'd', 'e', 'f', 'g'});
+
+        assertEquals(0b1111111 | (2 << 26), id.value());
+        assertEquals(id, new PuzzleId(id.value()));
+        assertEquals('c', id.requiredLetter());
+        assertEquals(DictionaryIndex.mask("abcdefg"), id.letterMask());
+        assertArrayEquals(
+            new char[] {'a', 'b', 'd', 'e', 'f', 'g'},
+            id.secondaryLetters()
+        );
+        assertEquals("c:abdefg", id.toString());
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PuzzleId.of('A', new char[] {'b', 'c', 'd', 'e', 'f', 'g'})
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PuzzleId.of('a', new char[] {'b', 'c', 'd', 'e', 'f', '1'})
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new PuzzleId(0b10 | (0 << 26)),
+            "The required letter must be one of the letters."
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new PuzzleId(1 | (26 << 26))
+        );
+    }
+}
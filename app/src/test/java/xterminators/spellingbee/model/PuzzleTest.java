@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -463,6 +464,106 @@ public class PuzzleTest {
         );
     }
 
+    @Test
+    public void testGuessAll() {
+        Puzzle puzzle = assertDoesNotThrow(
+            () -> new Puzzle(
+                'a',
+                new char[] {'g', 'u', 'r', 'd', 'i', 'n'},
+                dictionaryFile
+            )
+        );
+        puzzle.guess("grain");
+
+        List<Integer> indexes = new ArrayList<>();
+        PuzzleListener listener = new PuzzleListener() {
+            @Override
+            public void wordFound(Puzzle p, String word, int index) {
+                indexes.add(index);
+            }
+        };
+        Puzzle.addListener(listener);
+        GuessBatch batch;
+        try {
+            batch = puzzle.guessAll(
+                List.of("guardian", "grain", "xyz", "drain", "guardian", "guard")
+            );
+        } finally {
+            Puzzle.removeListener(listener);
+        }
+
+        assertArrayEquals(new int[] {15, -1, 0, 5, -1, 5}, batch.results());
+        assertEquals(25, batch.points());
+        assertEquals(3, batch.numFound());
+        assertEquals(30, puzzle.getEarnedPoints());
+        assertEquals(
+            List.of("drain", "grain", "guard", "guardian"),
+            puzzle.getFoundWords(),
+            "guessAll should keep the found words sorted."
+        );
+        assertEquals(
+            List.of(0, 2, 3),
+            indexes,
+            "Listeners should get each new word at its final index."
+        );
+        assertEquals(puzzle.getRank(), batch.rank());
+    }
+
+    @Test
+    public void testGetWordGraph() {
+        Puzzle puzzle = assertDoesNotThrow(
+            () -> new Puzzle(
+                'a',
+                new char[] {'g', 'u', 'r', 'd', 'i', 'n'},
+                dictionaryFile
+            ),
+            "Puzzle constructor should not throw an exception if the puzzle" +
+            " data is valid."
+        );
+
+        Dawg.View graph = assertDoesNotThrow(() -> puzzle.getWordGraph());
+
+        assertEquals(
+            puzzle.getHelpData().numWords(),
+            graph.wordCount(),
+            "The word graph should have the same words as the puzzle."
+        );
+        assertTrue(graph.contains("guardian"));
+        assertTrue(graph.isPrefix("guar"));
+        assertFalse(graph.isPrefix("grr"));
+        assertTrue(
+            graph.memoryBytes() < 100_000,
+            "The word graph should only hold the puzzle's words, not the " +
+            "dictionary's: " + graph.memoryBytes() + " bytes."
+        );
+    }
+
+    @Test
+    public void testCountFoundWithPrefix() {
+        Puzzle puzzle = assertDoesNotThrow(
+            () -> new Puzzle(
+                'a',
+                new char[] {'g', 'u', 'r', 'd', 'i', 'n'},
+                dictionaryFile
+            ),
+            "Puzzle constructor should not throw an exception if the puzzle" +
+            " data is valid."
+        );
+
+        assertEquals(0, puzzle.countFoundWithPrefix(""));
+
+        puzzle.guess("guardian");
+        puzzle.guess("guard");
+        puzzle.guess("grain");
+
+        assertEquals(3, puzzle.countFoundWithPrefix(""));
+        assertEquals(3, puzzle.countFoundWithPrefix("g"));
+        assertEquals(2, puzzle.countFoundWithPrefix("guard"));
+        assertEquals(1, puzzle.countFoundWithPrefix("guardian"));
+        assertEquals(0, puzzle.countFoundWithPrefix("guardians"));
+        assertEquals(0, puzzle.countFoundWithPrefix("d"));
+    }
+
     @Test
     public void testGetHelpData() {
         Puzzle puzzle = assertDoesNotThrow(
@@ -688,4 +789,210 @@ public class PuzzleTest {
             " is ENCRYPTED."
         );
     }
+
+    @Test
+    public void testGuess_SortedInsertAndListener() {
+        Puzzle puzzle = assertDoesNotThrow(
+            () -> new Puzzle(
+                'a',
+                new char[] {'g', 'u', 'r', 'd', 'i', 'n'},
+                dictionaryFile
+            ),
+            "Puzzle constructor should not throw an exception if the puzzle" +
+            " data is valid."
+        );
+
+        List<String> events = new ArrayList<>();
+        PuzzleListener listener = new PuzzleListener() {
+            @Override
+            public void wordFound(Puzzle p, String word, int index) {
+                if (p == puzzle) {
+                    events.add(word + "@" + index);
+                }
+            }
+        };
+
+        Puzzle.addListener(listener);
+        try {
+            assertTrue(puzzle.guess("guardian") > 0);
+            assertTrue(puzzle.guess("grain") > 0);
+            assertTrue(puzzle.guess("guard") > 0);
+            assertEquals(-1, puzzle.guess("grain"));
+            assertEquals(0, puzzle.guess("zzzz"));
+        } finally {
+            Puzzle.removeListener(listener);
+        }
+
+        assertEquals(
+            List.of("grain", "guard", "guardian"),
+            puzzle.getFoundWords(),
+            "Found words should stay sorted as words are guessed."
+        );
+
+        assertEquals(
+            List.of("guardian@0", "grain@0", "guard@1"),
+            events,
+            "Listeners should be told each new word and where it was inserted."
+        );
+
+        puzzle.guess("drain");
+
+        assertEquals(
+            3,
+            events.size(),
+            "Removed listeners should not be notified."
+        );
+    }
+
+    @Test
+    public void testListener_RankShuffleAndReplace(@TempDir File tempDir) {
+        File words = new File(tempDir, "words.txt");
+        assertDoesNotThrow(() -> Files.write(
+            words.toPath(), List.of("guard", "grain", "drain", "guardian")
+        ));
+
+        List<String> events = new ArrayList<>();
+        PuzzleListener listener = new PuzzleListener() {
+            @Override
+            public void rankChanged(Puzzle p, Rank previousRank, Rank rank) {
+                events.add("rank " + previousRank + " " + rank);
+            }
+
+            @Override
+            public void lettersShuffled(Puzzle p) {
+                events.add("shuffled");
+            }
+
+            @Override
+            public void puzzleReplaced(Puzzle previous, Puzzle p) {
+                // Listeners should only see puzzles that are fully built
+                events.add(
+                    "replaced " + (p == null ? null : p.getHelpData().numWords())
+                );
+            }
+        };
+
+        Puzzle previous = Puzzle.getInstance();
+        Puzzle.addListener(listener);
+        try {
+            Puzzle puzzle = assertDoesNotThrow(() -> new Puzzle(
+                'a', new char[] {'g', 'u', 'r', 'd', 'i', 'n'}, words
+            ));
+            puzzle.guess("guardian");
+            puzzle.guess("guardian");
+            puzzle.guessAll(List.of("grain", "drain"));
+            puzzle.guessAll(List.of("guard"));
+            puzzle.shuffle();
+            Puzzle.setInstance(puzzle);
+            Puzzle.setInstance(null);
+        } finally {
+            Puzzle.removeListener(listener);
+            Puzzle.setInstance(previous);
+        }
+
+        assertEquals(
+            List.of(
+                "replaced 4",
+                "rank BEGINNER AMAZING",
+                "rank AMAZING GENIUS",
+                "rank GENIUS QUEEN_BEE",
+                "shuffled",
+                "replaced null"
+            ),
+            events,
+            "Listeners should be told of each change, and only of changes."
+        );
+    }
+
+    @Test
+    public void testSave_DictionaryVersion(@TempDir File tempDir) {
+        File saveFile = new File(tempDir, "save.json");
+
+        Puzzle puzzle = assertDoesNotThrow(
+            () -> new Puzzle(
+                'a',
+                new char[] {'g', 'u', 'r', 'd', 'i', 'n'},
+                dictionaryFile
+            )
+        );
+        String version = assertDoesNotThrow(
+            () -> DictionaryIndex.of(dictionaryFile).version()
+        );
+        assertEquals(version, puzzle.getDictionaryVersion());
+
+        assertDoesNotThrow(() -> puzzle.save(saveFile, SaveMode.ENCRYPTED));
+        Puzzle loaded = assertDoesNotThrow(
+            () -> Puzzle.loadPuzzle(saveFile, dictionaryFile)
+        );
+
+        assertEquals(
+            version,
+            loaded.getDictionaryVersion(),
+            "A save should record the version of the dictionary its words" +
+            " came from."
+        );
+    }
+
+    @Test
+    public void testSnapshot() {
+        Puzzle puzzle = assertDoesNotThrow(
+            () -> new Puzzle(
+                'a',
+                new char[] {'g', 'u', 'r', 'd', 'i', 'n'},
+                dictionaryFile
+            )
+        );
+        int points = puzzle.guess("guardian");
+
+        Puzzle snapshot = puzzle.snapshot();
+        puzzle.guess("grain");
+        puzzle.shuffle();
+
+        assertEquals(
+            puzzle,
+            Puzzle.getInstance(),
+            "A snapshot should not replace the current puzzle."
+        );
+        assertEquals(
+            List.of("guardian"),
+            snapshot.getFoundWords(),
+            "Guesses after a snapshot should not change it."
+        );
+        assertEquals(
+            points,
+            snapshot.getEarnedPoints(),
+            "A snapshot should keep the points earned when it was taken."
+        );
+        assertEquals(
+            puzzle.getDefinition().validWords(),
+            snapshot.getDefinition().validWords(),
+            "A snapshot should have the same words as its puzzle."
+        );
+    }
+
+    @Test
+    public void testSave_ReplacesOldSave(@TempDir File tempDir) {
+        File saveFile = new File(tempDir, "save.json");
+        Puzzle puzzle = assertDoesNotThrow(
+            () -> new Puzzle(
+                'a',
+                new char[] {'g', 'u', 'r', 'd', 'i', 'n'},
+                dictionaryFile
+            )
+        );
+        puzzle.guess("guardian");
+        assertDoesNotThrow(() -> puzzle.save(saveFile, SaveMode.UNENCRYPTED));
+        puzzle.guess("grain");
+        assertDoesNotThrow(() -> puzzle.save(saveFile, SaveMode.UNENCRYPTED));
+
+        Puzzle loaded = assertDoesNotThrow(
+            () -> Puzzle.loadPuzzle(saveFile, dictionaryFile)
+        );
+        assertEquals(puzzle.getFoundWords(), loaded.getFoundWords());
+        assertEquals(
+            1,
+            tempDir.listFiles().length,
+            "A save should move its temporary file into place."
+        );
+    }
 }
@@ -0,0 +1,137 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.jupiter.api.Test;
+
+public class SpellingBeeMetricsTest {
+    @Test
+    public void testLatency_Buckets() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(63));
+            int index = SpellingBeeMetrics.Latency.indexOf(value);
+            long highest = SpellingBeeMetrics.Latency.highestValueAt(index);
+
+            assertTrue(value <= highest, value + " is above its bucket");
+            assertTrue(
+                index == 0 || SpellingBeeMetrics.Latency.highestValueAt(index - 1) < value,
+                value + " is below its bucket"
+            );
+            // Within a quarter of the value
+            assertTrue(highest - value <= value / 4, value + " is not kept closely");
+        }
+        assertEquals(
+            Long.MAX_VALUE,
+            SpellingBeeMetrics.Latency.highestValueAt(
+                SpellingBeeMetrics.Latency.indexOf(Long.MAX_VALUE)
+            )
+        );
+    }
+
+    @Test
+    public void testLatency_Summary() {
+        SpellingBeeMetrics.Latency latency = new SpellingBeeMetrics.Latency();
+        assertEquals(0, latency.summary().getCount());
+
+        for (int i = 1; i <= 100; i++) {
+            latency.record(i * 1_000L);
+        }
+
+        LatencySummary summary = latency.summary();
+        assertEquals(100, summary.getCount());
+        assertEquals(50.5, summary.getMeanMicros(), 1e-9);
+        assertTrue(summary.getP50Micros() >= 50 && summary.getP50Micros() <= 50 * 1.25);
+        assertTrue(summary.getP99Micros() >= 99 && summary.getP99Micros() <= 100);
+        assertEquals(100, summary.getMaxMicros(), 1e-9);
+
+        latency.reset();
+        assertEquals(0, latency.summary().getCount());
+    }
+
+    @Test
+    public void testCounters() {
+        SpellingBeeMetrics metrics = new SpellingBeeMetrics();
+        metrics.recordGuess(5, 1_000);
+        metrics.recordGuess(-1, 1_000);
+        metrics.countGuess(0);
+        metrics.recordSave(300, 1_000);
+        metrics.recordSave(200, 1_000);
+        metrics.recordLoad(300, 1_000);
+        metrics.recordHint(1_000);
+        metrics.recordBuild(1_000);
+        metrics.recordHighScoreWrite(1_000);
+
+        assertEquals(1, metrics.getGuessesAccepted());
+        assertEquals(1, metrics.getGuessesDuplicate());
+        assertEquals(1, metrics.getGuessesInvalid());
+        assertEquals(2, metrics.getGuessLatency().getCount());
+        assertEquals(2, metrics.getSaves());
+        assertEquals(500, metrics.getSaveBytes());
+        assertEquals(1, metrics.getLoads());
+        assertEquals(300, metrics.getLoadBytes());
+        assertEquals(1, metrics.getHintsServed());
+        assertEquals(1, metrics.getPuzzlesBuilt());
+        assertEquals(1, metrics.getHighScoreWrites());
+
+        metrics.reset();
+        assertEquals(0, metrics.getGuessesAccepted());
+        assertEquals(0, metrics.getSaveBytes());
+        assertEquals(0, metrics.getPuzzlesBuilt());
+    }
+
+    @Test
+    public void testRegister_ReadableOverJmx() throws Exception {
+        Puzzle previous = Puzzle.getInstance();
+        assertTrue(SpellingBeeMetrics.register());
+        assertTrue(SpellingBeeMetrics.register(), "Registering twice is fine.");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(SpellingBeeMetrics.OBJECT_NAME);
+        long built = (Long) server.getAttribute(name, "PuzzlesBuilt");
+        long accepted = (Long) server.getAttribute(name, "GuessesAccepted");
+        long invalid = (Long) server.getAttribute(name, "GuessesInvalid");
+
+        Puzzle puzzle = offhanded();
+        puzzle.guess("offhand");
+        puzzle.guess("hhhh");
+        Puzzle.setInstance(previous);
+
+        // Other tests may build and guess at the same time
+        assertTrue((Long) server.getAttribute(name, "PuzzlesBuilt") >= built + 1);
+        assertTrue((Long) server.getAttribute(name, "GuessesAccepted") >= accepted + 1);
+        assertTrue((Long) server.getAttribute(name, "GuessesInvalid") >= invalid + 1);
+
+        CompositeData latency
+            = (CompositeData) server.getAttribute(name, "GuessLatency");
+        assertTrue((Long) latency.get("count") >= 2);
+        assertTrue((Double) latency.get("maxMicros") > 0);
+    }
+
+    @Test
+    public void testGuessAll_RecordsLatency() {
+        Puzzle previous = Puzzle.getInstance();
+        SpellingBeeMetrics metrics = SpellingBeeMetrics.get();
+        Puzzle puzzle = offhanded();
+        long before = metrics.getGuessLatency().getCount();
+
+        puzzle.guessAll(List.of("offhand", "offhand", "hhhh"));
+        Puzzle.setInstance(previous);
+
+        // Other tests may guess at the same time
+        assertTrue(
+            metrics.getGuessLatency().getCount() >= before + 3,
+            "Each guess of a batch should be timed."
+        );
+    }
+}
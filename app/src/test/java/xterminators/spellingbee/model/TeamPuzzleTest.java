@@ -0,0 +1,114 @@
+package xterminators.spellingbee.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TeamPuzzleTest {
+    private Puzzle previous;
+    private Puzzle puzzle;
+
+    @BeforeEach
+    public void setup() {
+        previous = Puzzle.getInstance();
+        puzzle = offhanded();
+    }
+
+    @AfterEach
+    public void restoreInstance() {
+        Puzzle.setInstance(previous);
+    }
+
+    @Test
+    public void testGuess_SameResultsAsPuzzle() {
+        TeamPuzzle team = new TeamPuzzle(puzzle);
+        TeamPuzzle.Player alice = team.join("alice");
+        TeamPuzzle.Player bob = team.join("bob");
+        assertSame(alice, team.join("alice"));
+
+        assertEquals(puzzle.getTotalPoints(), team.getTotalPoints());
+        assertEquals(puzzle.getHelpData().numWords(), team.getWords().size());
+
+        for (String word : List.of("offhanded", "offhand", "fond", "hand", "fo")) {
+            assertEquals(puzzle.guess(word), alice.guess(word), word);
+        }
+        assertEquals(-1, bob.guess("offhand"), "A word found by a teammate is found.");
+        assertEquals(0, bob.guess("hhhh"));
+
+        assertEquals(16 + 7 + 1, alice.getPoints());
+        assertEquals(3, alice.getNumFound());
+        assertEquals(0, bob.getPoints());
+        assertEquals(puzzle.getEarnedPoints(), team.getEarnedPoints());
+        assertEquals(puzzle.getRank(), team.getRank());
+        assertEquals(puzzle.getFoundWords(), team.getFoundWords());
+        assertTrue(team.isFound("fond"));
+        assertFalse(team.isFound("food"));
+        assertFalse(team.isFound("hand"));
+    }
+
+    @Test
+    public void testGuess_ManyPlayersAtOnce() throws InterruptedException {
+        TeamPuzzle team = new TeamPuzzle(puzzle);
+        List<String> words = team.getWords();
+        int players = 8;
+        int rounds = 50;
+
+        // How many times each word earned points, over every player
+        AtomicIntegerArray finds = new AtomicIntegerArray(words.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            TeamPuzzle.Player player = team.join("player-" + p);
+            List<String> order = new ArrayList<>(words);
+            Collections.shuffle(order, new Random(p));
+            Thread thread = new Thread(() -> {
+                assertDoesNotThrow(() -> start.await());
+                for (int round = 0; round < rounds; round++) {
+                    for (String word : order) {
+                        if (player.guess(word) > 0) {
+                            finds.incrementAndGet(words.indexOf(word));
+                        }
+                        player.guess(word + "q");
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(1, finds.get(i), words.get(i) + " should be found once.");
+        }
+        assertEquals(team.getTotalPoints(), team.getEarnedPoints());
+        assertEquals(words, team.getFoundWords());
+        assertEquals(Rank.QUEEN_BEE, team.getRank());
+
+        int playerPoints = 0;
+        int playerWords = 0;
+        for (TeamPuzzle.Player player : team.getPlayers()) {
+            playerPoints += player.getPoints();
+            playerWords += player.getNumFound();
+        }
+        assertEquals(team.getEarnedPoints(), playerPoints);
+        assertEquals(words.size(), playerWords);
+    }
+}
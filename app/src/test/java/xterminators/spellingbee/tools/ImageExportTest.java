@@ -0,0 +1,84 @@
+package xterminators.spellingbee.tools;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.SaveMode;
+import xterminators.spellingbee.ui.PuzzleImageRenderer;
+
+public class ImageExportTest {
+    private static final File dictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    private static final File rootsDictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_roots.txt"
+    ).toFile();
+
+    @Test
+    public void testExport(@TempDir File tempDir) {
+        File saveFile = new File(tempDir, "saved.json");
+        Puzzle played = offhanded();
+        assertDoesNotThrow(() -> played.save(saveFile, SaveMode.UNENCRYPTED));
+
+        File outputDirectory = new File(tempDir, "images");
+        ImageExport export = new ImageExport(
+            dictionaryFile, rootsDictionaryFile, outputDirectory, 2
+        );
+
+        ImageExport.Result result = assertDoesNotThrow(
+            () -> export.export(List.of(saveFile), 3, 42)
+        );
+
+        assertEquals(4, result.images());
+        assertEquals(0, result.failures());
+        assertTrue(result.imagesPerSecond() > 0);
+        assertSame(
+            played,
+            Puzzle.getInstance(),
+            "Exporting should not replace the puzzle being played."
+        );
+
+        for (String name : List.of("saved", "random-0", "random-1", "random-2")) {
+            File image = new File(outputDirectory, name + ".png");
+            BufferedImage read = assertDoesNotThrow(() -> ImageIO.read(image));
+
+            assertNotNull(read, name + ".png should be a readable PNG.");
+            assertEquals(PuzzleImageRenderer.WIDTH, read.getWidth());
+            assertEquals(PuzzleImageRenderer.HEIGHT, read.getHeight());
+        }
+    }
+
+    @Test
+    public void testExport_BadSave(@TempDir File tempDir) {
+        File badSave = new File(tempDir, "bad.json");
+        assertDoesNotThrow(() -> Files.writeString(badSave.toPath(), "not json"));
+
+        ImageExport export = new ImageExport(
+            dictionaryFile, rootsDictionaryFile, new File(tempDir, "images"), 1
+        );
+
+        ImageExport.Result result = assertDoesNotThrow(
+            () -> export.export(List.of(badSave), 0, 0)
+        );
+
+        assertEquals(0, result.images());
+        assertEquals(1, result.failures());
+    }
+}
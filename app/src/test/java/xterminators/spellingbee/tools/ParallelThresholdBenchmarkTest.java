@@ -0,0 +1,34 @@
+package xterminators.spellingbee.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelThresholdBenchmarkTest {
+    @Test
+    public void testSizes() {
+        assertEquals(List.of(16, 64, 256, 1000), ParallelThresholdBenchmark.sizes(1000));
+        assertEquals(List.of(16, 64), ParallelThresholdBenchmark.sizes(64));
+    }
+
+    @Test
+    public void testThreshold() {
+        List<Integer> sizes = List.of(16, 64, 256, 1024);
+
+        assertEquals(
+            "256",
+            ParallelThresholdBenchmark.threshold(sizes, new double[] {0.2, 0.9, 1.5, 3})
+        );
+        // A faster run below a slower one does not count
+        assertEquals(
+            "1024",
+            ParallelThresholdBenchmark.threshold(sizes, new double[] {1.2, 0.9, 0.8, 2})
+        );
+        assertEquals(
+            "none",
+            ParallelThresholdBenchmark.threshold(sizes, new double[] {0.1, 0.5, 0.9, 0.99})
+        );
+    }
+}
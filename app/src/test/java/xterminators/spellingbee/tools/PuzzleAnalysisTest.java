@@ -0,0 +1,132 @@
+package xterminators.spellingbee.tools;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import xterminators.spellingbee.model.DictionaryIndex;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleBuilder;
+import xterminators.spellingbee.model.PuzzleId;
+
+public class PuzzleAnalysisTest {
+    private static final File dictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    private static final File rootsDictionaryFile = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_roots.txt"
+    ).toFile();
+
+    @Test
+    public void testAnalyze_MatchesPuzzles() {
+        PuzzleAnalysis analysis = assertDoesNotThrow(() -> new PuzzleAnalysis(
+            DictionaryIndex.of(dictionaryFile),
+            DictionaryIndex.of(rootsDictionaryFile)
+        ));
+        PuzzleAnalysis.Report report = analysis.analyze(ForkJoinPool.commonPool());
+
+        assertEquals(analysis.numPuzzles(), report.size());
+        assertTrue(analysis.numPairs() > analysis.numPuzzles());
+
+        Puzzle previous = Puzzle.getInstance();
+        try {
+            for (String root : List.of("guardian", "offhanded")) {
+                Puzzle puzzle = assertDoesNotThrow(() -> {
+                    PuzzleBuilder builder
+                        = new PuzzleBuilder(dictionaryFile, rootsDictionaryFile);
+                    builder.setRootAndRequiredLetter(root, root.charAt(1));
+                    return builder.build();
+                });
+
+                int i = report.indexOf(PuzzleId.of(puzzle));
+                assertTrue(i >= 0, root + " should be in the report.");
+                assertEquals(puzzle.getHelpData().numWords(), report.words()[i]);
+                assertEquals(puzzle.getTotalPoints(), report.points()[i]);
+                assertEquals(puzzle.getHelpData().numPangrams(), report.pangrams()[i]);
+                assertEquals(
+                    puzzle.getHelpData().numPerfectPangrams(),
+                    report.perfectPangrams()[i]
+                );
+            }
+        } finally {
+            Puzzle.setInstance(previous);
+        }
+    }
+
+    @Test
+    public void testAnalyze_SameOnAnyNumberOfThreads() {
+        PuzzleAnalysis analysis = assertDoesNotThrow(() -> new PuzzleAnalysis(
+            DictionaryIndex.of(dictionaryFile),
+            DictionaryIndex.of(rootsDictionaryFile)
+        ));
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(3);
+        try {
+            PuzzleAnalysis.Report expected = analysis.analyze(single);
+            PuzzleAnalysis.Report actual = analysis.analyze(several);
+
+            assertArrayEquals(expected.ids(), actual.ids());
+            assertArrayEquals(expected.words(), actual.words());
+            assertArrayEquals(expected.points(), actual.points());
+            assertArrayEquals(expected.pangrams(), actual.pangrams());
+            assertArrayEquals(expected.perfectPangrams(), actual.perfectPangrams());
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testWrite(@TempDir File tempDir) {
+        File words = new File(tempDir, "words.txt");
+        File roots = new File(tempDir, "roots.txt");
+        assertDoesNotThrow(() -> {
+            Files.write(words.toPath(), List.of("guard", "grain", "drain", "guardian"));
+            // The same letters twice, and a root without seven letters
+            Files.write(roots.toPath(), List.of("guardian", "durngai", "offhand"));
+        });
+
+        PuzzleAnalysis analysis = assertDoesNotThrow(() -> new PuzzleAnalysis(
+            DictionaryIndex.of(words), DictionaryIndex.of(roots)
+        ));
+        assertEquals(14, analysis.numPairs());
+        assertEquals(7, analysis.numPuzzles());
+
+        PuzzleAnalysis.Report report = analysis.analyze(ForkJoinPool.commonPool());
+        int i = report.indexOf(PuzzleId.of('a', "gurdin".toCharArray()));
+        assertEquals(4, report.words()[i]);
+        assertEquals(5 + 5 + 5 + 8 + Puzzle.PANGRAM_BONUS, report.points()[i]);
+        assertEquals(1, report.pangrams()[i]);
+
+        File csv = new File(tempDir, "report.csv");
+        File binary = new File(tempDir, "report.bin");
+        assertDoesNotThrow(() -> {
+            report.writeCsv(csv);
+            report.writeBinary(binary);
+        });
+
+        List<String> lines = assertDoesNotThrow(() -> Files.readAllLines(csv.toPath()));
+        assertEquals(8, lines.size());
+        assertTrue(lines.contains("a,dginru,4,30,1,0"));
+        assertEquals(12 + 7 * 20, binary.length());
+    }
+
+    @Test
+    public void testScalingSteps() {
+        assertArrayEquals(new int[] {1}, PuzzleAnalysis.scalingSteps(1));
+        assertArrayEquals(new int[] {1, 2, 4, 6}, PuzzleAnalysis.scalingSteps(6));
+        assertArrayEquals(new int[] {1, 2, 4, 8}, PuzzleAnalysis.scalingSteps(8));
+    }
+}
@@ -0,0 +1,40 @@
+package xterminators.spellingbee.tools;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupBenchmarkTest {
+    @Test
+    public void testSummary() {
+        StartupBenchmark.Summary summary = new StartupBenchmark.Summary(
+            StartupBenchmark.Mode.CLI,
+            new double[] {40, 10, 30, 20}
+        );
+
+        assertEquals(10, summary.min());
+        assertEquals(40, summary.max());
+        assertEquals(25, summary.mean());
+        assertEquals(25, summary.median());
+        assertEquals(
+            "CLI: 4 runs, min 10.0 ms, median 25.0 ms, mean 25.0 ms, max 40.0 ms",
+            summary.toString()
+        );
+    }
+
+    @Test
+    public void testRun_CLI() {
+        StartupBenchmark benchmark = new StartupBenchmark(List.of());
+
+        StartupBenchmark.Summary summary = assertDoesNotThrow(
+            () -> benchmark.run(StartupBenchmark.Mode.CLI, 0, 1)
+        );
+
+        assertEquals(1, summary.millis().length);
+        assertTrue(summary.min() > 0);
+    }
+}
@@ -0,0 +1,94 @@
+package xterminators.spellingbee.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import org.junit.jupiter.api.Test;
+
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.utils.TestPuzzles;
+
+public class HintRendererTest {
+    @Test
+    public void testRender_Plain() {
+        Puzzle puzzle = offhanded();
+        HintRenderer renderer = new HintRenderer(HintRenderer.Style.PLAIN);
+
+        String hint = renderer.render(puzzle);
+        String[] lines = hint.split(System.lineSeparator());
+
+        assertEquals("Spelling Bee Grid", lines[0]);
+        assertEquals("Required letter is first", lines[2]);
+        assertTrue(
+            lines[4].startsWith("O "),
+            "The required letter should be shown first."
+        );
+        assertEquals(
+            "WORDS: " + puzzle.getHelpData().numWords() +
+            ", POINTS: " + puzzle.getTotalPoints() +
+            ", PANGRAMS: " + puzzle.getHelpData().numPangrams() +
+            " (" + puzzle.getHelpData().numPerfectPangrams() + " Perfect)",
+            lines[6]
+        );
+        assertTrue(hint.contains("Two letter list: "));
+        assertFalse(
+            hint.contains("\u001B["),
+            "Plain hints should not contain ANSI escape codes."
+        );
+    }
+
+    @Test
+    public void testRender_Ansi() {
+        Puzzle puzzle = offhanded();
+        HintRenderer renderer = new HintRenderer(HintRenderer.Style.ANSI);
+
+        String hint = renderer.render(puzzle);
+
+        assertTrue(hint.contains("Required letter is in\u001B[1m BOLD "));
+        assertTrue(hint.contains("\u001B[1mTwo letter list: \u001B[0m"));
+    }
+
+    @Test
+    public void testRender_GrandTotal() {
+        Puzzle puzzle = offhanded();
+        HintRenderer renderer = new HintRenderer(HintRenderer.Style.PLAIN);
+
+        String[] lines = renderer.render(puzzle).split(System.lineSeparator());
+
+        // The last cell of the totals row is the total number of words.
+        String totalsRow = lines[8 + Puzzle.NUMBER_UNIQUE_LETTERS + 1].trim();
+        String[] cells = totalsRow.split(" +");
+
+        assertEquals("\u03A3", cells[0]);
+        assertEquals(
+            String.valueOf(puzzle.getHelpData().numWords()),
+            cells[cells.length - 1]
+        );
+    }
+
+    @Test
+    public void testRender_Cached() {
+        Puzzle puzzle = offhanded();
+        HintRenderer renderer = new HintRenderer(HintRenderer.Style.PLAIN);
+
+        String first = renderer.render(puzzle);
+        puzzle.guess("offhanded");
+        String second = renderer.render(puzzle);
+
+        assertSame(
+            first,
+            second,
+            "Hints should be cached until the letters or puzzle change."
+        );
+
+        Puzzle other = TestPuzzles.build("violent", 'l');
+        String third = renderer.render(other);
+
+        assertNotSame(first, third);
+        assertTrue(third.contains("L "));
+    }
+}
@@ -0,0 +1,87 @@
+package xterminators.spellingbee.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static xterminators.spellingbee.utils.TestPuzzles.offhanded;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import xterminators.spellingbee.model.Puzzle;
+
+public class PuzzleImageRendererTest {
+    @Test
+    public void testRender_Size() {
+        BufferedImage image = new PuzzleImageRenderer().render(offhanded());
+
+        assertEquals(PuzzleImageRenderer.WIDTH, image.getWidth());
+        assertEquals(PuzzleImageRenderer.HEIGHT, image.getHeight());
+    }
+
+    @Test
+    public void testRender_Board() {
+        BufferedImage image = new PuzzleImageRenderer().render(offhanded());
+
+        assertEquals(
+            Color.gray.getRGB(),
+            image.getRGB(5, PuzzleImageRenderer.HEIGHT - 5),
+            "The background should be gray."
+        );
+        // Just inside the top left corner of the primary letter cell
+        assertEquals(
+            Color.yellow.getRGB(),
+            image.getRGB(133, 183),
+            "The primary letter cell should be yellow."
+        );
+        // Just inside the top left corner of the first secondary letter cell
+        assertEquals(
+            Color.white.getRGB(),
+            image.getRGB(53, 143),
+            "Secondary letter cells should be white."
+        );
+    }
+
+    @Test
+    public void testRender_RankBar() {
+        PuzzleImageRenderer renderer = new PuzzleImageRenderer();
+        Puzzle puzzle = offhanded();
+
+        BufferedImage before = renderer.render(puzzle);
+        puzzle.guess("offhanded");
+        BufferedImage after = renderer.render(puzzle);
+
+        // Somewhere in the rank bar the image should change once points
+        // have been earned.
+        boolean changed = false;
+        for (int x = 50; x < 50 + (10 * RankSprites.WIDTH) && !changed; x++) {
+            for (int y = 386; y < 386 + RankSprites.HEIGHT && !changed; y++) {
+                changed = before.getRGB(x, y) != after.getRGB(x, y);
+            }
+        }
+
+        assertTrue(changed, "The rank bar should fill in.");
+    }
+
+    @Test
+    public void testRender_ReusedImage() {
+        PuzzleImageRenderer renderer = new PuzzleImageRenderer();
+        Puzzle puzzle = offhanded();
+
+        BufferedImage expected = renderer.render(puzzle);
+        BufferedImage reused = new BufferedImage(
+            PuzzleImageRenderer.WIDTH,
+            PuzzleImageRenderer.HEIGHT,
+            BufferedImage.TYPE_INT_RGB
+        );
+        renderer.render(puzzle, reused);
+        renderer.render(puzzle, reused);
+
+        for (int x = 0; x < PuzzleImageRenderer.WIDTH; x += 7) {
+            for (int y = 0; y < PuzzleImageRenderer.HEIGHT; y += 7) {
+                assertEquals(expected.getRGB(x, y), reused.getRGB(x, y));
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package xterminators.spellingbee.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+public class RankSpritesTest {
+    @Test
+    public void testForRank_Size() {
+        for (int i = 0; i < 10; i++) {
+            BufferedImage empty = RankSprites.forRank(i, 10, false);
+            BufferedImage full = RankSprites.forRank(i, 10, true);
+
+            assertEquals(RankSprites.WIDTH, empty.getWidth());
+            assertEquals(RankSprites.HEIGHT, empty.getHeight());
+            assertEquals(RankSprites.WIDTH, full.getWidth());
+            assertEquals(RankSprites.HEIGHT, full.getHeight());
+            assertNotSame(empty, full);
+        }
+    }
+
+    @Test
+    public void testForRank_Cached() {
+        assertSame(
+            RankSprites.forRank(0, 10, true),
+            RankSprites.forRank(0, 10, true)
+        );
+        assertSame(
+            RankSprites.forRank(3, 10, false),
+            RankSprites.forRank(5, 10, false),
+            "Middle hexes should share the same image."
+        );
+        assertNotSame(
+            RankSprites.forRank(0, 10, false),
+            RankSprites.forRank(9, 10, false)
+        );
+    }
+}
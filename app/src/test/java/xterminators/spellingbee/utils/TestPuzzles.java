@@ -0,0 +1,70 @@
+package xterminators.spellingbee.utils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+import javax.swing.SwingUtilities;
+
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleBuilder;
+
+/**
+ * Puzzles and helpers shared by the tests. Puzzles are built from the
+ * dictionaries in src/main/resources, which the tests are run next to.
+ */
+public final class TestPuzzles {
+    /** The full dictionary of usable words. */
+    public static final File DICTIONARY = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_optimized.txt"
+    ).toFile();
+
+    /** The dictionary of valid root words. */
+    public static final File ROOTS_DICTIONARY = Paths.get(
+        "src", "main", "resources", "dictionaries", "dictionary_roots.txt"
+    ).toFile();
+
+    private TestPuzzles() {}
+
+    /**
+     * Builds the puzzle most tests use: the root "offhanded" with the
+     * required letter 'o', which has 120 words. Like any built puzzle, it
+     * becomes the global instance.
+     *
+     * @return the "offhanded" puzzle
+     */
+    public static Puzzle offhanded() {
+        return build("offhanded", 'o');
+    }
+
+    /**
+     * Builds a puzzle from a root word and required letter. Like any built
+     * puzzle, it becomes the global instance.
+     *
+     * @param root the root word
+     * @param requiredLetter the required letter, which must be in the root
+     * @return the puzzle
+     */
+    public static Puzzle build(String root, char requiredLetter) {
+        return assertDoesNotThrow(() -> {
+            PuzzleBuilder builder = new PuzzleBuilder(DICTIONARY, ROOTS_DICTIONARY);
+            assertTrue(
+                builder.setRootAndRequiredLetter(root, requiredLetter),
+                root + " should be a root with the letter " + requiredLetter
+            );
+            return builder.build();
+        });
+    }
+
+    /**
+     * Runs an action on the event dispatch thread and waits for it, as the
+     * GUI would run it.
+     *
+     * @param action the action to run
+     */
+    public static void onEventThread(Runnable action) {
+        assertDoesNotThrow(() -> SwingUtilities.invokeAndWait(action));
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * JMH microbenchmarks of the spelling bee model's hot paths, with results
+ * written as JSON so runs of different releases can be compared, e.g.
+ * ./gradlew :benchmarks:jmh -PjmhIncludes=guess
+ */
+
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":app"))
+    // Puzzle.loadPuzzle declares Gson's JsonSyntaxException
+    jmh("com.google.code.gson:gson:2.10.1")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(20))
+    }
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // Run only the benchmarks matching a regular expression
+    project.findProperty("jmhIncludes")?.let {
+        includes.set(listOf(it.toString()))
+    }
+}
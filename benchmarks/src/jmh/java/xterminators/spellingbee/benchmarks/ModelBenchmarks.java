@@ -0,0 +1,287 @@
+package xterminators.spellingbee.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.DictionaryIndex;
+import xterminators.spellingbee.model.DictionarySource;
+import xterminators.spellingbee.model.HighScores;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleBuilder;
+import xterminators.spellingbee.model.PuzzleCache;
+import xterminators.spellingbee.model.PuzzleDefinition;
+import xterminators.spellingbee.model.Rank;
+import xterminators.spellingbee.model.SaveMode;
+import xterminators.spellingbee.ui.HintRenderer;
+
+/**
+ * The benchmarks of the model's hot paths, with the state they share: the
+ * real dictionaries, a puzzle with the "offhanded" root and required letter
+ * 'o', and its saves. Files are written to a temporary directory, which
+ * also stands in for the user's home so the high scores of real players are
+ * left alone.
+ *
+ * Each benchmark reports the mean time of an operation. The result of each
+ * operation is returned, so JMH keeps it and the work is not optimized away.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ModelBenchmarks {
+    /** The root word of the fixed puzzle. */
+    static final String ROOT = "offhanded";
+    /** The required letter of the fixed puzzle. */
+    static final char REQUIRED_LETTER = 'o';
+
+    private DictionarySource dictionary;
+    private DictionarySource rootsDictionary;
+    private File directory;
+    private String previousHome;
+    private final Random random = new Random(42);
+
+    /** The fixed puzzle, with one word found. */
+    private Puzzle puzzle;
+    /** The fixed puzzle's definition, to start it over when it is solved. */
+    private PuzzleDefinition definition;
+    /** A second puzzle, so hints are not served from the cache. */
+    private Puzzle otherPuzzle;
+
+    /** A puzzle whose words are guessed in turn, for the hit benchmark. */
+    private Puzzle hitPuzzle;
+    private int nextHit;
+    private int nextScore;
+    private int nextHint;
+
+    /** A word of the fixed puzzle's letters which is not one of its words. */
+    private String miss;
+    private HighScores highScores;
+    private HintRenderer cliHints;
+    private HintRenderer guiHints;
+    private File encrypted;
+    private File unencrypted;
+    private File saveTarget;
+
+    /**
+     * Loads the dictionaries and sets up the puzzles and files.
+     *
+     * @throws IOException if the dictionaries can not be read or the files
+     *                     can not be written
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dictionary = Resources.dictionary(Resources.DICTIONARY);
+        rootsDictionary = Resources.dictionary(Resources.ROOTS_DICTIONARY);
+        DictionaryIndex.of(dictionary);
+        DictionaryIndex.of(rootsDictionary);
+
+        directory = Files.createTempDirectory("spellingbee-benchmarks").toFile();
+        previousHome = System.getProperty("user.home");
+        System.setProperty("user.home", directory.getPath());
+
+        otherPuzzle = fixedBuilder("guardian", 'a').build();
+        puzzle = fixedBuilder(ROOT, REQUIRED_LETTER).build();
+        definition = puzzle.getDefinition();
+        puzzle.guess("offhand");
+        encrypted = saveFile(SaveMode.ENCRYPTED);
+        unencrypted = saveFile(SaveMode.UNENCRYPTED);
+        saveTarget = new File(directory, "target.json");
+        puzzle.save(encrypted, SaveMode.ENCRYPTED);
+        puzzle.save(unencrypted, SaveMode.UNENCRYPTED);
+        hitPuzzle = Puzzle.fromDefinition(definition, dictionary);
+
+        miss = missWord();
+        highScores = new HighScores();
+        cliHints = new HintRenderer(HintRenderer.Style.ANSI);
+        guiHints = new HintRenderer(HintRenderer.Style.PLAIN);
+    }
+
+    /** Puts the home directory back and removes the files. */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setProperty("user.home", previousHome);
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    /**
+     * Builds a puzzle from a random root. Random roots are spread over the
+     * roots dictionary, so most of these miss the puzzle cache.
+     */
+    @Benchmark
+    public Puzzle buildRandomRoot() throws IOException {
+        return new PuzzleBuilder(dictionary, rootsDictionary).build(random);
+    }
+
+    /**
+     * Builds the fixed puzzle from the dictionary, with the puzzle cache
+     * emptied before each build.
+     */
+    @Benchmark
+    public Puzzle buildFixedRoot(EmptyCache emptyCache) throws IOException {
+        return fixedBuilder(ROOT, REQUIRED_LETTER).build();
+    }
+
+    /** Builds the fixed puzzle, which always hits the puzzle cache. */
+    @Benchmark
+    public Puzzle buildFixedRootCached() throws IOException {
+        return fixedBuilder(ROOT, REQUIRED_LETTER).build();
+    }
+
+    /**
+     * Guesses the next unfound word of a puzzle. Once every word is found
+     * the puzzle is started over from its definition, which is counted in
+     * the time of the guess that does it.
+     */
+    @Benchmark
+    public int guessHit() {
+        List<String> words = definition.validWords();
+        if (nextHit == words.size()) {
+            hitPuzzle = Puzzle.fromDefinition(definition, dictionary);
+            nextHit = 0;
+        }
+        return hitPuzzle.guess(words.get(nextHit++));
+    }
+
+    @Benchmark
+    public int guessMiss() {
+        return puzzle.guess(miss);
+    }
+
+    @Benchmark
+    public int guessDuplicate() {
+        return puzzle.guess("offhand");
+    }
+
+    @Benchmark
+    public Rank getRank() {
+        return puzzle.getRank();
+    }
+
+    @Benchmark
+    public File saveEncrypted() throws IOException {
+        puzzle.save(saveTarget, SaveMode.ENCRYPTED);
+        return saveTarget;
+    }
+
+    @Benchmark
+    public File saveUnencrypted() throws IOException {
+        puzzle.save(saveTarget, SaveMode.UNENCRYPTED);
+        return saveTarget;
+    }
+
+    @Benchmark
+    public Puzzle loadEncrypted() throws IOException {
+        return Puzzle.loadPuzzle(encrypted, dictionary);
+    }
+
+    @Benchmark
+    public Puzzle loadUnencrypted() throws IOException {
+        return Puzzle.loadPuzzle(unencrypted, dictionary);
+    }
+
+    @Benchmark
+    public boolean highScoresSaveScore() {
+        return highScores.saveScore("player", nextScore++);
+    }
+
+    /**
+     * Renders the hints for the command line. Hints are cached until the
+     * puzzle changes, so two puzzles take turns to have them rendered every
+     * time.
+     */
+    @Benchmark
+    public String hintCli() {
+        return cliHints.render(nextHint++ % 2 == 0 ? puzzle : otherPuzzle);
+    }
+
+    /** Renders the hints for the GUI, taking turns as hintCli does. */
+    @Benchmark
+    public String hintGui() {
+        return guiHints.render(nextHint++ % 2 == 0 ? puzzle : otherPuzzle);
+    }
+
+    /**
+     * Empties the dictionary's puzzle cache before each call of a benchmark
+     * that takes it, so the call builds its puzzle from the dictionary. This
+     * is kept apart from the shared state, since emptying the cache before
+     * every call costs time that the other benchmarks should not pay.
+     */
+    @State(Scope.Thread)
+    public static class EmptyCache {
+        private PuzzleCache cache;
+
+        @Setup(Level.Trial)
+        public void findCache() throws IOException {
+            cache = DictionaryIndex.of(Resources.dictionary(Resources.DICTIONARY))
+                .puzzleCache();
+        }
+
+        @Setup(Level.Invocation)
+        public void empty() {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Finds a guess made of the fixed puzzle's letters which is not one of
+     * its words, so a miss goes all the way through the word search.
+     *
+     * @return a word that is not a word of the puzzle
+     */
+    private String missWord() {
+        Set<String> words = new HashSet<>(definition.validWords());
+        char[] letters = puzzle.getSecondaryLetters();
+        for (char a : letters) {
+            for (char b : letters) {
+                String guess = "" + REQUIRED_LETTER + a + b + a + b;
+                if (!words.contains(guess)) {
+                    return guess;
+                }
+            }
+        }
+        throw new IllegalStateException("Every guess is a word");
+    }
+
+    private PuzzleBuilder fixedBuilder(String root, char requiredLetter)
+        throws IOException
+    {
+        PuzzleBuilder builder = new PuzzleBuilder(dictionary, rootsDictionary);
+        if (!builder.setRootAndRequiredLetter(root, requiredLetter)) {
+            throw new IllegalArgumentException("Not a root: " + root);
+        }
+        return builder;
+    }
+
+    private File saveFile(SaveMode mode) {
+        return new File(directory, mode.name().toLowerCase(Locale.ROOT) + ".json");
+    }
+}
@@ -0,0 +1,56 @@
+package xterminators.spellingbee.model;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import xterminators.spellingbee.Resources;
+
+/**
+ * Times working out a puzzle's help data. The help data is only worked out
+ * as a puzzle is made, so this benchmark is in the model's package to call
+ * it directly, with the same settings as the other model benchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HelpDataBenchmark {
+    /** The "offhanded" puzzle with required letter 'o'. */
+    private Puzzle puzzle;
+
+    /**
+     * Builds the puzzle.
+     *
+     * @throws IOException if the dictionaries can not be read
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        PuzzleBuilder builder = new PuzzleBuilder(
+            Resources.dictionary(Resources.DICTIONARY),
+            Resources.dictionary(Resources.ROOTS_DICTIONARY)
+        );
+        if (!builder.setRootAndRequiredLetter("offhanded", 'o')) {
+            throw new IllegalArgumentException("Not a root: offhanded");
+        }
+        puzzle = builder.build();
+    }
+
+    @Benchmark
+    public HelpData helpData() {
+        return puzzle.calculateHelpData();
+    }
+}
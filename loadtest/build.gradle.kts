@@ -0,0 +1,35 @@
+/*
+ * Drives simulated players against the spelling bee model and reports the
+ * throughput and latency of each operation, e.g.
+ * ./gradlew :loadtest:run --args="--players 16 --seconds 60"
+ */
+
+plugins {
+    application
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":app"))
+
+    testImplementation("org.junit.jupiter:junit-jupiter:5.9.3")
+
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(20))
+    }
+}
+
+application {
+    mainClass.set("xterminators.spellingbee.loadtest.LoadTest")
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform()
+}
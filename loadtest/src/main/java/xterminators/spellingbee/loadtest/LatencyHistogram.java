@@ -0,0 +1,159 @@
+package xterminators.spellingbee.loadtest;
+
+/**
+ * A histogram of latencies, in the style of HdrHistogram. Values are
+ * counted in buckets whose width grows with the value, so every value is
+ * kept to within 1% while the histogram stays a fixed size, whatever the
+ * range of the values.
+ *
+ * Values below 256 have a bucket each. Above that, each power of two is
+ * split into 128 buckets of equal width. A percentile is reported as the
+ * highest value of its bucket, so it is never less than the true value.
+ *
+ * A histogram is not thread safe. Each thread records into its own, and the
+ * histograms are added together once the threads are done.
+ */
+public class LatencyHistogram {
+    /** The number of bits of a value kept exactly, past its leading one. */
+    private static final int SUB_BUCKET_BITS = 7;
+    /** The number of buckets each power of two is split into. */
+    private static final int HALF_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** The number of values which have a bucket each. */
+    private static final int SUB_BUCKET_COUNT = HALF_BUCKET_COUNT << 1;
+    /** Enough buckets for every non-negative long. */
+    private static final int BUCKET_COUNT = indexOf(Long.MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    /**
+     * Records a value.
+     *
+     * @param value the value, such as a latency in nanoseconds
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+
+        counts[indexOf(value)]++;
+        totalCount++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sum += value;
+    }
+
+    /**
+     * Adds all of the values of another histogram to this one.
+     *
+     * @param other the histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sum += other.sum;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the number of values
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the smallest recorded value.
+     *
+     * @return the smallest value, or 0 if there are none
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    /**
+     * Gets the largest recorded value, exactly.
+     *
+     * @return the largest value, or 0 if there are none
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean, or 0 if there are none
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /**
+     * Gets the value at a percentile: the smallest value which the given
+     * percent of the recorded values are less than or equal to.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the highest value of the percentile's bucket, but no more than
+     *         the largest value, or 0 if there are none
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        double fraction = Math.min(Math.max(percentile, 0), 100) / 100;
+        long target = Math.max(1, (long) Math.ceil(fraction * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueAt(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the bucket a value is counted in.
+     *
+     * @param value a non-negative value
+     * @return the index of the value's bucket
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        // Keep the leading one and the SUB_BUCKET_BITS bits after it
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int top = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_BUCKET_COUNT + (top - HALF_BUCKET_COUNT);
+    }
+
+    /**
+     * Gets the highest value counted in a bucket.
+     *
+     * @param index the index of the bucket
+     * @return the highest value of the bucket
+     */
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_BUCKET_COUNT + 1;
+        long top = (index - SUB_BUCKET_COUNT) % HALF_BUCKET_COUNT + HALF_BUCKET_COUNT;
+        // Wraps around to Long.MAX_VALUE for the last bucket
+        return ((top + 1) << shift) - 1;
+    }
+}
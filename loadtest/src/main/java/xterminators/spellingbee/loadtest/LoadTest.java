@@ -0,0 +1,173 @@
+package xterminators.spellingbee.loadtest;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.DictionaryIndex;
+import xterminators.spellingbee.model.DictionarySource;
+
+/**
+ * Drives many simulated players against the model at once and reports the
+ * throughput and latency of each of their operations. The players run for
+ * a warmup period which is not measured, then for the measured period.
+ *
+ * Players start their next operation as soon as the last one is done, so
+ * the latencies are those of a system at full load. They do not include
+ * time a request would spend waiting to be served.
+ *
+ * Usage:
+ * <pre>
+ * LoadTest [--players N] [--seconds N] [--warmup N] [--guesses N] [--seed N]
+ * </pre>
+ */
+public class LoadTest {
+    /** The percentiles shown for each operation. */
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+
+    public static void main(String[] args) throws Exception {
+        int players = Runtime.getRuntime().availableProcessors();
+        int seconds = 30;
+        int warmup = 5;
+        int guesses = 30;
+        long seed = 42;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--players" -> players = Integer.parseInt(args[++i]);
+                    case "--seconds" -> seconds = Integer.parseInt(args[++i]);
+                    case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                    case "--guesses" -> guesses = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    default -> throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            players = 0;
+        }
+
+        if (players < 1 || seconds < 1 || warmup < 0 || guesses < 1) {
+            System.err.println(
+                "Usage: LoadTest [--players N] [--seconds N] [--warmup N] " +
+                "[--guesses N] [--seed N]"
+            );
+            System.exit(1);
+        }
+
+        DictionarySource dictionary = Resources.dictionary(Resources.DICTIONARY);
+        DictionarySource rootsDictionary
+            = Resources.dictionary(Resources.ROOTS_DICTIONARY);
+        // Read the dictionaries before any player starts, as the app does
+        DictionaryIndex.of(dictionary);
+        DictionaryIndex.of(rootsDictionary);
+
+        File saveDirectory = Files.createTempDirectory("spellingbee-load").toFile();
+        saveDirectory.deleteOnExit();
+
+        System.out.println(String.format(
+            Locale.ROOT,
+            "%d players, %d s warmup, %d s measured, %d guesses per session",
+            players, warmup, seconds, guesses
+        ));
+
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup);
+        long stopAt = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+        List<SimulatedPlayer> simulated = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            File saveFile = new File(saveDirectory, "player-" + p + ".json");
+            saveFile.deleteOnExit();
+            SimulatedPlayer player = new SimulatedPlayer(
+                dictionary, rootsDictionary, guesses, saveFile,
+                seed + p, measureFrom, stopAt
+            );
+            simulated.add(player);
+            Thread thread = new Thread(player, "player-" + p);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // Sessions still running at the stop time are measured until they end
+        double measured = Math.max(System.nanoTime(), stopAt) - measureFrom;
+
+        int sessions = 0;
+        for (SimulatedPlayer player : simulated) {
+            if (player.getFailure() != null) {
+                System.err.println("A player failed: " + player.getFailure());
+                System.exit(1);
+            }
+            sessions += player.getSessions();
+        }
+
+        System.out.println(String.format(
+            Locale.ROOT,
+            "%,d sessions, %,.1f sessions/sec",
+            sessions, sessions / (measured / 1e9)
+        ));
+        System.out.println(summary(simulated, measured));
+    }
+
+    /**
+     * Builds the summary table: the count, throughput, mean, percentiles
+     * and maximum latency of each operation, over all of the players.
+     *
+     * @param players the players, once they are done
+     * @param measuredNanos how long the measurement lasted
+     * @return the table, with a line for each operation
+     */
+    static String summary(List<SimulatedPlayer> players, double measuredNanos) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(
+            Locale.ROOT, "%-8s %12s %12s %10s", "op", "count", "ops/sec", "mean us"
+        ));
+        for (double percentile : PERCENTILES) {
+            table.append(String.format(Locale.ROOT, " %10s", "p" + format(percentile) + " us"));
+        }
+        table.append(String.format(Locale.ROOT, " %10s", "max us"));
+
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (SimulatedPlayer player : players) {
+                histogram.add(player.getHistogram(operation));
+            }
+
+            table.append(System.lineSeparator()).append(String.format(
+                Locale.ROOT,
+                "%-8s %,12d %,12.0f %10.1f",
+                operation.name().toLowerCase(Locale.ROOT),
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / (measuredNanos / 1e9),
+                histogram.getMean() / 1e3
+            ));
+            for (double percentile : PERCENTILES) {
+                table.append(String.format(
+                    Locale.ROOT, " %10.1f",
+                    histogram.getValueAtPercentile(percentile) / 1e3
+                ));
+            }
+            table.append(String.format(
+                Locale.ROOT, " %10.1f", histogram.getMax() / 1e3
+            ));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Formats a percentile without a trailing ".0".
+     *
+     * @param percentile the percentile
+     * @return the percentile as text, such as 50 or 99.9
+     */
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile)
+            ? Long.toString((long) percentile)
+            : Double.toString(percentile);
+    }
+}
@@ -0,0 +1,15 @@
+package xterminators.spellingbee.loadtest;
+
+/**
+ * The operations a simulated player does, each timed separately.
+ */
+public enum Operation {
+    /** Building a new random puzzle. */
+    CREATE,
+    /** Guessing a word, which may be new, already found, or not a word. */
+    GUESS,
+    /** Rendering the hints of the puzzle. */
+    HINT,
+    /** Saving the puzzle to a file. */
+    SAVE
+}
@@ -0,0 +1,205 @@
+package xterminators.spellingbee.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import xterminators.spellingbee.model.DictionarySource;
+import xterminators.spellingbee.model.Puzzle;
+import xterminators.spellingbee.model.PuzzleBuilder;
+import xterminators.spellingbee.model.SaveMode;
+import xterminators.spellingbee.ui.HintRenderer;
+
+/**
+ * A player who plays one session after another: they make a new random
+ * puzzle, guess words in it, ask for hints and save it. Each player plays
+ * on their own thread with their own puzzle, the way separate sessions of
+ * the app would share the dictionaries and the puzzle cache.
+ *
+ * Every operation is timed. Operations which start before the measurement
+ * begins are done but not recorded, so the code is warmed up first.
+ */
+public class SimulatedPlayer implements Runnable {
+    /** The share of guesses which are words of the puzzle. */
+    private static final double VALID_SHARE = 0.6;
+    /** The share of guesses which repeat an already found word. */
+    private static final double DUPLICATE_SHARE = 0.2;
+
+    private final DictionarySource dictionary;
+    private final DictionarySource rootsDictionary;
+    private final int guessesPerSession;
+    private final File saveFile;
+    private final SplittableRandom random;
+    private final long measureFrom;
+    private final long stopAt;
+    private final HintRenderer hintRenderer
+        = new HintRenderer(HintRenderer.Style.PLAIN);
+    private final Map<Operation, LatencyHistogram> histograms
+        = new EnumMap<>(Operation.class);
+
+    private int sessions;
+    private Exception failure;
+
+    /**
+     * Creates a player.
+     *
+     * @param dictionary the dictionary of valid words
+     * @param rootsDictionary the dictionary of root words
+     * @param guessesPerSession the number of guesses in each session
+     * @param saveFile the file the player saves their puzzles to
+     * @param seed the seed of the player's random choices
+     * @param measureFrom the System.nanoTime at which to start recording
+     * @param stopAt the System.nanoTime after which no session is started
+     */
+    public SimulatedPlayer(
+        DictionarySource dictionary,
+        DictionarySource rootsDictionary,
+        int guessesPerSession,
+        File saveFile,
+        long seed,
+        long measureFrom,
+        long stopAt
+    ) {
+        this.dictionary = dictionary;
+        this.rootsDictionary = rootsDictionary;
+        this.guessesPerSession = guessesPerSession;
+        this.saveFile = saveFile;
+        this.random = new SplittableRandom(seed);
+        this.measureFrom = measureFrom;
+        this.stopAt = stopAt;
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new LatencyHistogram());
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (System.nanoTime() < stopAt) {
+                playSession();
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Plays one session: makes a puzzle, guesses in it, and asks for a hint
+     * and saves halfway through and at the end.
+     *
+     * @throws IOException if the dictionaries could not be read or the
+     *                     puzzle could not be saved
+     */
+    void playSession() throws IOException {
+        long start = System.nanoTime();
+        // Players are many threads at once, so none of their puzzles is made
+        // the global instance
+        Puzzle puzzle
+            = new PuzzleBuilder(dictionary, rootsDictionary).buildDetached(random);
+        record(Operation.CREATE, start);
+
+        List<String> words = puzzle.getDefinition().validWords();
+        char[] letters = puzzle.getSecondaryLetters();
+        for (int i = 0; i < guessesPerSession; i++) {
+            String word = nextGuess(puzzle, words, letters);
+            start = System.nanoTime();
+            puzzle.guess(word);
+            record(Operation.GUESS, start);
+
+            if (i == guessesPerSession / 2) {
+                hintAndSave(puzzle);
+            }
+        }
+        hintAndSave(puzzle);
+
+        if (start >= measureFrom) {
+            sessions++;
+        }
+    }
+
+    /**
+     * Asks for a hint, then saves the puzzle.
+     *
+     * @param puzzle the puzzle being played
+     * @throws IOException if the puzzle could not be saved
+     */
+    private void hintAndSave(Puzzle puzzle) throws IOException {
+        long start = System.nanoTime();
+        hintRenderer.render(puzzle);
+        record(Operation.HINT, start);
+
+        start = System.nanoTime();
+        puzzle.save(saveFile, SaveMode.ENCRYPTED);
+        record(Operation.SAVE, start);
+    }
+
+    /**
+     * Picks the next guess: a word of the puzzle, a word already found, or
+     * a string of the puzzle's letters which is almost never a word.
+     *
+     * @param puzzle the puzzle being played
+     * @param words the words of the puzzle
+     * @param letters the puzzle's secondary letters
+     * @return the guess
+     */
+    private String nextGuess(Puzzle puzzle, List<String> words, char[] letters) {
+        double kind = random.nextDouble();
+        List<String> found = puzzle.getFoundWords();
+        if (kind < VALID_SHARE || (kind < VALID_SHARE + DUPLICATE_SHARE && found.isEmpty())) {
+            return words.get(random.nextInt(words.size()));
+        } else if (kind < VALID_SHARE + DUPLICATE_SHARE) {
+            return found.get(random.nextInt(found.size()));
+        }
+
+        char[] guess = new char[Puzzle.MINIMUM_WORD_LENGTH + random.nextInt(5)];
+        guess[0] = puzzle.getPrimaryLetter();
+        for (int i = 1; i < guess.length; i++) {
+            guess[i] = letters[random.nextInt(letters.length)];
+        }
+        return new String(guess);
+    }
+
+    /**
+     * Records how long an operation took, if it started after the
+     * measurement began.
+     *
+     * @param operation the operation
+     * @param start the System.nanoTime at which it started
+     */
+    private void record(Operation operation, long start) {
+        if (start >= measureFrom) {
+            histograms.get(operation).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets the latencies the player recorded for an operation.
+     *
+     * @param operation the operation
+     * @return the latencies, in nanoseconds
+     */
+    public LatencyHistogram getHistogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    /**
+     * Gets the number of sessions the player finished while measuring.
+     *
+     * @return the number of sessions
+     */
+    public int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Gets what stopped the player, if anything did.
+     *
+     * @return the exception which stopped the player, or null
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+}
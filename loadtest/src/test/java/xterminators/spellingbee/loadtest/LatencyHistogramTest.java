@@ -0,0 +1,83 @@
+package xterminators.spellingbee.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testBuckets_WithinOnePercent() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(Long.MAX_VALUE >>> random.nextInt(63));
+            long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+            assertTrue(highest >= value, value + " should be in its bucket.");
+            assertTrue(
+                highest - value <= value / 100,
+                value + " should be kept to within 1%, was " + highest
+            );
+        }
+
+        assertEquals(
+            Long.MAX_VALUE,
+            LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(Long.MAX_VALUE))
+        );
+        for (long value = 0; value < 256; value++) {
+            assertEquals(value, LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value)));
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        assertEquals(10_000, histogram.getTotalCount());
+        assertEquals(1000, histogram.getMin());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean(), 1e-6);
+
+        long p50 = histogram.getValueAtPercentile(50);
+        assertTrue(p50 >= 5_000_000 && p50 <= 5_050_000, "p50 was " + p50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(p99 >= 9_900_000 && p99 <= 9_999_000, "p99 was " + p99);
+        long p999 = histogram.getValueAtPercentile(99.9);
+        assertTrue(p999 >= 9_990_000 && p999 <= 10_000_000, "p99.9 was " + p999);
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testAdd() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        first.record(20);
+        second.record(5);
+        second.record(1_000_000);
+
+        first.add(second);
+
+        assertEquals(4, first.getTotalCount());
+        assertEquals(5, first.getMin());
+        assertEquals(1_000_000, first.getMax());
+        assertEquals(10, first.getValueAtPercentile(50));
+        assertEquals(1_000_000, first.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testEmptyAndNegative() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+}
@@ -0,0 +1,73 @@
+package xterminators.spellingbee.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import xterminators.spellingbee.Resources;
+import xterminators.spellingbee.model.Puzzle;
+
+public class SimulatedPlayerTest {
+    private static SimulatedPlayer player(File saveFile, long measureFrom, long stopAt) {
+        return new SimulatedPlayer(
+            Resources.dictionary(Resources.DICTIONARY),
+            Resources.dictionary(Resources.ROOTS_DICTIONARY),
+            10, saveFile, 7, measureFrom, stopAt
+        );
+    }
+
+    @Test
+    public void testPlaySession(@TempDir File tempDir) {
+        Puzzle previous = Puzzle.getInstance();
+        File saveFile = new File(tempDir, "save.json");
+        SimulatedPlayer player = player(saveFile, Long.MIN_VALUE, Long.MIN_VALUE);
+        try {
+            assertDoesNotThrow(player::playSession);
+            assertSame(
+                previous,
+                Puzzle.getInstance(),
+                "A player's puzzle should not replace the current puzzle."
+            );
+        } finally {
+            Puzzle.setInstance(previous);
+        }
+
+        assertEquals(1, player.getSessions());
+        assertEquals(1, player.getHistogram(Operation.CREATE).getTotalCount());
+        assertEquals(10, player.getHistogram(Operation.GUESS).getTotalCount());
+        assertEquals(2, player.getHistogram(Operation.HINT).getTotalCount());
+        assertEquals(2, player.getHistogram(Operation.SAVE).getTotalCount());
+        assertTrue(saveFile.length() > 0, "The puzzle should be saved.");
+
+        String summary = LoadTest.summary(List.of(player), 1e9);
+        assertTrue(summary.contains("p99.9 us"), summary);
+        assertEquals(1 + Operation.values().length, summary.lines().count());
+    }
+
+    @Test
+    public void testWarmupIsNotRecorded(@TempDir File tempDir) {
+        Puzzle previous = Puzzle.getInstance();
+        SimulatedPlayer player = player(
+            new File(tempDir, "save.json"), Long.MAX_VALUE, Long.MAX_VALUE
+        );
+        try {
+            assertDoesNotThrow(player::playSession);
+        } finally {
+            Puzzle.setInstance(previous);
+        }
+
+        assertEquals(0, player.getSessions());
+        for (Operation operation : Operation.values()) {
+            assertEquals(0, player.getHistogram(operation).getTotalCount());
+        }
+        assertNull(player.getFailure());
+    }
+}
@@ -11,4 +11,4 @@ plugins {
 }
 
 rootProject.name = "SpellingBee"
-include("app")
+include("app", "loadtest", "benchmarks")